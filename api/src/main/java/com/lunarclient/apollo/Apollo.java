@@ -25,6 +25,8 @@ package com.lunarclient.apollo;
 
 import com.lunarclient.apollo.module.ApolloModuleManager;
 import com.lunarclient.apollo.player.ApolloPlayerManager;
+import com.lunarclient.apollo.region.ApolloRegionManager;
+import com.lunarclient.apollo.timeline.ApolloTimelineManager;
 import com.lunarclient.apollo.world.ApolloWorldManager;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,6 +42,8 @@ public final class Apollo {
     private static ApolloModuleManager moduleManager = null;
     private static ApolloWorldManager worldManager = null;
     private static ApolloPlayerManager playerManager = null;
+    private static ApolloTimelineManager timelineManager = null;
+    private static ApolloRegionManager regionManager = null;
 
     /**
      * Returns the {@link ApolloPlatform}.
@@ -81,12 +85,35 @@ public final class Apollo {
         return Apollo.checkEnabled(Apollo.playerManager);
     }
 
+    /**
+     * Returns the {@link ApolloTimelineManager}.
+     *
+     * @return the timeline manager
+     * @since 1.1.6
+     */
+    public static ApolloTimelineManager getTimelineManager() {
+        return Apollo.checkEnabled(Apollo.timelineManager);
+    }
+
+    /**
+     * Returns the {@link ApolloRegionManager}.
+     *
+     * @return the region manager
+     * @since 1.1.6
+     */
+    public static ApolloRegionManager getRegionManager() {
+        return Apollo.checkEnabled(Apollo.regionManager);
+    }
+
     static void initialize(@NonNull ApolloPlatform platform, @NonNull ApolloModuleManager moduleManager,
-                           @NonNull ApolloWorldManager worldManager, @NonNull ApolloPlayerManager playerManager) {
+                           @NonNull ApolloWorldManager worldManager, @NonNull ApolloPlayerManager playerManager,
+                           @NonNull ApolloTimelineManager timelineManager, @NonNull ApolloRegionManager regionManager) {
         Apollo.platform = platform;
         Apollo.moduleManager = moduleManager;
         Apollo.worldManager = worldManager;
         Apollo.playerManager = playerManager;
+        Apollo.timelineManager = timelineManager;
+        Apollo.regionManager = regionManager;
     }
 
     private static <T> T checkEnabled(@Nullable T object) {
@@ -48,6 +48,10 @@ public interface ApolloModuleManager {
      * Returns the type {@code T} {@link ApolloModule} with the specified
      * {@link Class} if it exists, otherwise returns null.
      *
+     * <p>A module whose startup was deferred is enabled on the server's
+     * global thread shortly after it is first requested, not on the
+     * calling thread.</p>
+     *
      * @param moduleClass the module class
      * @param <T>         the apollo module type
      * @return the apollo module, if present
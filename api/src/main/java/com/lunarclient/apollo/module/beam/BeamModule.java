@@ -25,7 +25,10 @@ package com.lunarclient.apollo.module.beam;
 
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.recipients.Recipients;
+import io.leangen.geantyref.TypeToken;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -37,6 +40,22 @@ import org.jetbrains.annotations.ApiStatus;
 @ModuleDefinition(id = "beam", name = "Beam")
 public abstract class BeamModule extends ApolloModule {
 
+    /**
+     * Sets the distance in chunks at which registered beams are shown to players.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MANAGED_VIEW_DISTANCE = Option.<Integer>number()
+        .comment("Set the distance in chunks at which beams registered with Apollo are shown to players.")
+        .node("managed-view-distance").type(TypeToken.get(Integer.class))
+        .defaultValue(16).min(1).max(64).build();
+
+    BeamModule() {
+        this.registerOptions(
+            BeamModule.MANAGED_VIEW_DISTANCE
+        );
+    }
+
     /**
      * Displays the {@link Beam} to the {@link Recipients}.
      *
@@ -72,4 +91,25 @@ public abstract class BeamModule extends ApolloModule {
      */
     public abstract void resetBeams(Recipients recipients);
 
+    /**
+     * Registers or updates the {@link Beam} with Apollo.
+     *
+     * <p>Registered beams are shown to every player within the
+     * {@link #MANAGED_VIEW_DISTANCE} of the beam and removed once
+     * they move away, without the caller tracking recipients.</p>
+     *
+     * @param beam the beam
+     * @since 1.1.6
+     */
+    public abstract void registerBeam(Beam beam);
+
+    /**
+     * Unregisters the {@link Beam} from Apollo and removes it
+     * for every player it is currently shown to.
+     *
+     * @param beamId the beam id
+     * @since 1.1.6
+     */
+    public abstract void unregisterBeam(String beamId);
+
 }
@@ -25,7 +25,13 @@ package com.lunarclient.apollo.module.cooldown;
 
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.recipients.Recipients;
+import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -37,6 +43,22 @@ import org.jetbrains.annotations.ApiStatus;
 @ModuleDefinition(id = "cooldown", name = "Cooldown")
 public abstract class CooldownModule extends ApolloModule {
 
+    /**
+     * Sets the maximum number of active cooldowns tracked for a single player.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MAX_ACTIVE_COOLDOWNS = Option.<Integer>number()
+        .comment("Set the maximum number of cooldowns started through Apollo that are tracked for a single player.")
+        .node("max-active-cooldowns").type(TypeToken.get(Integer.class))
+        .defaultValue(32).min(1).max(1024).build();
+
+    CooldownModule() {
+        this.registerOptions(
+            CooldownModule.MAX_ACTIVE_COOLDOWNS
+        );
+    }
+
     /**
      * Displays the {@link Cooldown} to the {@link Recipients}.
      *
@@ -72,4 +94,39 @@ public abstract class CooldownModule extends ApolloModule {
      */
     public abstract void resetCooldowns(Recipients recipients);
 
+    /**
+     * Starts the {@link Cooldown} for the player and displays it if they are online.
+     *
+     * <p>Apollo tracks the cooldown until it expires, removes it from the
+     * client on expiry and displays it again with the remaining duration
+     * when the player rejoins. Starting a cooldown with the name of an
+     * active cooldown restarts it. When the player reaches the
+     * {@link #MAX_ACTIVE_COOLDOWNS}, the cooldown closest to expiring
+     * is dropped.</p>
+     *
+     * @param playerUuid the player uuid
+     * @param cooldown   the cooldown
+     * @since 1.1.6
+     */
+    public abstract void startCooldown(UUID playerUuid, Cooldown cooldown);
+
+    /**
+     * Cancels the active cooldown of the player and removes it if they are online.
+     *
+     * @param playerUuid   the player uuid
+     * @param cooldownName the cooldown name
+     * @since 1.1.6
+     */
+    public abstract void cancelCooldown(UUID playerUuid, String cooldownName);
+
+    /**
+     * Returns the remaining duration of the active cooldown of the player.
+     *
+     * @param playerUuid   the player uuid
+     * @param cooldownName the cooldown name
+     * @return the remaining duration, or empty if the cooldown is not active
+     * @since 1.1.6
+     */
+    public abstract Optional<Duration> getRemainingCooldown(UUID playerUuid, String cooldownName);
+
 }
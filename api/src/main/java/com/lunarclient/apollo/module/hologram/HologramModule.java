@@ -25,7 +25,10 @@ package com.lunarclient.apollo.module.hologram;
 
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.recipients.Recipients;
+import io.leangen.geantyref.TypeToken;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -37,6 +40,22 @@ import org.jetbrains.annotations.ApiStatus;
 @ModuleDefinition(id = "hologram", name = "Hologram")
 public abstract class HologramModule extends ApolloModule {
 
+    /**
+     * Sets the distance in chunks at which registered holograms are shown to players.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MANAGED_VIEW_DISTANCE = Option.<Integer>number()
+        .comment("Set the distance in chunks at which holograms registered with Apollo are shown to players.")
+        .node("managed-view-distance").type(TypeToken.get(Integer.class))
+        .defaultValue(4).min(1).max(64).build();
+
+    HologramModule() {
+        this.registerOptions(
+            HologramModule.MANAGED_VIEW_DISTANCE
+        );
+    }
+
     /**
      * Adds or updates the {@link Hologram} to the {@link Recipients}.
      *
@@ -72,4 +91,25 @@ public abstract class HologramModule extends ApolloModule {
      */
     public abstract void resetHolograms(Recipients recipients);
 
+    /**
+     * Registers or updates the {@link Hologram} with Apollo.
+     *
+     * <p>Registered holograms are shown to every player within the
+     * {@link #MANAGED_VIEW_DISTANCE} of the hologram and removed once
+     * they move away, without the caller tracking recipients.</p>
+     *
+     * @param hologram the hologram
+     * @since 1.1.6
+     */
+    public abstract void registerHologram(Hologram hologram);
+
+    /**
+     * Unregisters the {@link Hologram} from Apollo and removes it
+     * for every player it is currently shown to.
+     *
+     * @param hologramId the hologram id
+     * @since 1.1.6
+     */
+    public abstract void unregisterHologram(String hologramId);
+
 }
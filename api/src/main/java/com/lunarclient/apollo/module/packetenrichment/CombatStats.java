@@ -0,0 +1,128 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.module.packetenrichment;
+
+/**
+ * Represents the rolling combat statistics of a player, computed from the
+ * packet enrichment messages their client sends.
+ *
+ * <p>Only the most recent attacks are kept, the amount is set by
+ * {@link PacketEnrichmentModule#ANALYTICS_SAMPLE_SIZE}. Reading the
+ * statistics doesn't allocate.</p>
+ *
+ * @since 1.1.6
+ */
+public interface CombatStats {
+
+    /**
+     * Returns the amount of attacks received from the player in the last second.
+     *
+     * @return the attacks per second
+     * @since 1.1.6
+     */
+    int getAttacksPerSecond();
+
+    /**
+     * Returns the amount of item uses received from the player in the last second.
+     *
+     * @return the item uses per second
+     * @since 1.1.6
+     */
+    int getUseItemsPerSecond();
+
+    /**
+     * Returns the attack reach, in blocks, at the provided percentile of the
+     * kept attacks.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 1}
+     * @return the reach, or {@link Double#NaN} if no attacks were kept
+     * @since 1.1.6
+     */
+    double getReachPercentile(double percentile);
+
+    /**
+     * Returns the mean time in milliseconds between the kept attacks, as
+     * measured by the client.
+     *
+     * @return the mean hit interval, or {@link Double#NaN} with less than two attacks
+     * @since 1.1.6
+     */
+    double getMeanHitInterval();
+
+    /**
+     * Returns the standard deviation in milliseconds of the time between the
+     * kept attacks, as measured by the client.
+     *
+     * @return the hit interval deviation, or {@link Double#NaN} with less than two attacks
+     * @since 1.1.6
+     */
+    double getHitIntervalDeviation();
+
+    /**
+     * Returns the amount of kept attacks.
+     *
+     * @return the sample count
+     * @since 1.1.6
+     */
+    int getSampleCount();
+
+    /**
+     * Returns the amount of attacks received from the player since they joined.
+     *
+     * @return the total attack count
+     * @since 1.1.6
+     */
+    long getTotalAttacks();
+
+    /**
+     * Passes every kept attack to the provided consumer, oldest first.
+     *
+     * @param consumer the attack consumer
+     * @since 1.1.6
+     */
+    void forEachAttack(AttackConsumer consumer);
+
+    /**
+     * Represents a consumer of kept attacks.
+     *
+     * @since 1.1.6
+     */
+    @FunctionalInterface
+    interface AttackConsumer {
+
+        /**
+         * Accepts a kept attack.
+         *
+         * @param time the client time of the attack in milliseconds
+         * @param distance the distance to the target in blocks
+         * @param targetX the target x coordinate
+         * @param targetY the target y coordinate
+         * @param targetZ the target z coordinate
+         * @since 1.1.6
+         */
+        void accept(long time, double distance, double targetX, double targetY, double targetZ);
+
+    }
+
+}
@@ -25,6 +25,11 @@ package com.lunarclient.apollo.module.packetenrichment;
 
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import io.leangen.geantyref.TypeToken;
+import java.util.Optional;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -36,8 +41,32 @@ import org.jetbrains.annotations.ApiStatus;
 @ModuleDefinition(id = "packet_enrichment", name = "PacketEnrichment")
 public abstract class PacketEnrichmentModule extends ApolloModule {
 
+    /**
+     * Sets the amount of recent attacks kept per player for {@link CombatStats}.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> ANALYTICS_SAMPLE_SIZE = Option.<Integer>number()
+        .comment("Set the amount of recent attacks kept per player for combat statistics.")
+        .node("analytics-sample-size").type(TypeToken.get(Integer.class))
+        .defaultValue(64).min(2).max(1024).build();
+
     protected PacketEnrichmentModule() {
-        this.registerOptions(ApolloModule.ENABLE_OPTION_OFF);
+        this.registerOptions(
+            ApolloModule.ENABLE_OPTION_OFF,
+            PacketEnrichmentModule.ANALYTICS_SAMPLE_SIZE
+        );
     }
 
+    /**
+     * Returns the {@link CombatStats} of the provided player.
+     *
+     * <p>Statistics are only collected while the module is enabled.</p>
+     *
+     * @param player the player
+     * @return the combat statistics, if the player sent any attack or item use
+     * @since 1.1.6
+     */
+    public abstract Optional<CombatStats> getCombatStats(ApolloPlayer player);
+
 }
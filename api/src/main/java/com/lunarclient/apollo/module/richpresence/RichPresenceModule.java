@@ -25,7 +25,10 @@ package com.lunarclient.apollo.module.richpresence;
 
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.SimpleOption;
 import com.lunarclient.apollo.recipients.Recipients;
+import io.leangen.geantyref.TypeToken;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -37,6 +40,33 @@ import org.jetbrains.annotations.ApiStatus;
 @ModuleDefinition(id = "rich_presence", name = "RichPresence")
 public abstract class RichPresenceModule extends ApolloModule {
 
+    /**
+     * Skips rich presence overrides identical to the last one sent to the player.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> SKIP_UNCHANGED = Option.<Boolean>builder()
+        .comment("Set to 'true' to skip sending a rich presence that is identical to the last one sent to the player, otherwise 'false'.")
+        .node("skip-unchanged").type(TypeToken.get(Boolean.class))
+        .defaultValue(true).build();
+
+    /**
+     * Encodes identical rich presences once and sends the same bytes to every player.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> SHARE_MESSAGES = Option.<Boolean>builder()
+        .comment("Set to 'true' to encode identical rich presences once and send the same bytes to every player, otherwise 'false'.")
+        .node("share-messages").type(TypeToken.get(Boolean.class))
+        .defaultValue(false).build();
+
+    RichPresenceModule() {
+        this.registerOptions(
+            RichPresenceModule.SKIP_UNCHANGED,
+            RichPresenceModule.SHARE_MESSAGES
+        );
+    }
+
     /**
      * Overrides the {@link ServerRichPresence} for the {@link Recipients}.
      *
@@ -25,8 +25,12 @@ package com.lunarclient.apollo.module.team;
 
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.recipients.Recipients;
+import io.leangen.geantyref.TypeToken;
 import java.util.List;
+import java.util.UUID;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -38,6 +42,33 @@ import org.jetbrains.annotations.ApiStatus;
 @ModuleDefinition(id = "team", name = "Team")
 public abstract class TeamModule extends ApolloModule {
 
+    /**
+     * Sets the interval in ticks between location samples of registered teams.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MANAGED_UPDATE_INTERVAL = Option.<Integer>number()
+        .comment("Set the interval in ticks between location updates of teams registered with Apollo.")
+        .node("managed-update-interval").type(TypeToken.get(Integer.class))
+        .defaultValue(2).min(1).max(100).build();
+
+    /**
+     * Sets the distance in blocks a registered team member has to move before it is resent.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Double> MANAGED_MOVEMENT_THRESHOLD = Option.<Double>number()
+        .comment("Set the distance in blocks a team member registered with Apollo has to move before their location is resent.")
+        .node("managed-movement-threshold").type(TypeToken.get(Double.class))
+        .defaultValue(0.5D).min(0.0D).max(16.0D).build();
+
+    TeamModule() {
+        this.registerOptions(
+            TeamModule.MANAGED_UPDATE_INTERVAL,
+            TeamModule.MANAGED_MOVEMENT_THRESHOLD
+        );
+    }
+
     /**
      * Upserts all team members for the given {@link Recipients}.
      *
@@ -55,4 +86,47 @@ public abstract class TeamModule extends ApolloModule {
      */
     public abstract void resetTeamMembers(Recipients recipients);
 
+    /**
+     * Registers a team with Apollo, replacing any team registered with the same id.
+     *
+     * <p>Every member of a registered team that uses Lunar Client is shown
+     * all members of the team. Apollo samples member locations itself at the
+     * {@link #MANAGED_UPDATE_INTERVAL} and only sends the members that moved
+     * further than the {@link #MANAGED_MOVEMENT_THRESHOLD}, or whose display
+     * name or marker color changed. The location of the provided members
+     * is ignored.</p>
+     *
+     * @param teamId      the team id
+     * @param teamMembers the team members
+     * @since 1.1.6
+     */
+    public abstract void registerTeam(String teamId, List<TeamMember> teamMembers);
+
+    /**
+     * Unregisters the team from Apollo and resets the team members of its viewers.
+     *
+     * @param teamId the team id
+     * @since 1.1.6
+     */
+    public abstract void unregisterTeam(String teamId);
+
+    /**
+     * Adds the {@link TeamMember} to a registered team, or updates the display
+     * name and marker color of an existing member.
+     *
+     * @param teamId     the team id
+     * @param teamMember the team member
+     * @since 1.1.6
+     */
+    public abstract void updateTeamMember(String teamId, TeamMember teamMember);
+
+    /**
+     * Removes the team member from a registered team.
+     *
+     * @param teamId     the team id
+     * @param playerUuid the team member uuid
+     * @since 1.1.6
+     */
+    public abstract void removeTeamMember(String teamId, UUID playerUuid);
+
 }
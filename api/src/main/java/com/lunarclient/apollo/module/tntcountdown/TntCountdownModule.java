@@ -62,10 +62,22 @@ public abstract class TntCountdownModule extends ApolloModule {
         .node("override-custom-ticks").type(TypeToken.get(Boolean.class))
         .defaultValue(false).notifyClient().build();
 
+    /**
+     * Set the radius in blocks around a TNT in which players are sent its countdown.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> BROADCAST_RADIUS = NumberOption.<Integer>number()
+        .comment("Set the radius in blocks around a TNT in which players are sent its custom countdown, or 0 to send it to the whole world.")
+        .node("broadcast-radius").type(TypeToken.get(Integer.class))
+        .defaultValue(64).min(0).max(Integer.MAX_VALUE)
+        .build();
+
     TntCountdownModule() {
         this.registerOptions(
             TntCountdownModule.TNT_TICKS,
-            TntCountdownModule.OVERRIDE_CUSTOM_TICKS
+            TntCountdownModule.OVERRIDE_CUSTOM_TICKS,
+            TntCountdownModule.BROADCAST_RADIUS
         );
     }
 
@@ -27,6 +27,7 @@ import com.lunarclient.apollo.common.location.ApolloBlockLocation;
 import com.lunarclient.apollo.module.ApolloModule;
 import com.lunarclient.apollo.module.ModuleDefinition;
 import com.lunarclient.apollo.option.ListOption;
+import com.lunarclient.apollo.option.NumberOption;
 import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.option.SimpleOption;
 import com.lunarclient.apollo.recipients.Recipients;
@@ -80,10 +81,21 @@ public abstract class WaypointModule extends ApolloModule {
         .node("server-handles-waypoints").type(TypeToken.get(Boolean.class))
         .defaultValue(false).notifyClient().build();
 
+    /**
+     * Sets the distance in chunks at which registered waypoints are shown to players.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MANAGED_VIEW_DISTANCE = Option.<Integer>number()
+        .comment("Set the distance in chunks at which waypoints registered with Apollo are shown to players.")
+        .node("managed-view-distance").type(TypeToken.get(Integer.class))
+        .defaultValue(32).min(1).max(64).build();
+
     WaypointModule() {
         this.registerOptions(
             WaypointModule.DEFAULT_WAYPOINTS,
-            WaypointModule.SERVER_HANDLES_WAYPOINTS
+            WaypointModule.SERVER_HANDLES_WAYPOINTS,
+            WaypointModule.MANAGED_VIEW_DISTANCE
         );
     }
 
@@ -127,4 +139,25 @@ public abstract class WaypointModule extends ApolloModule {
      */
     public abstract void resetWaypoints(Recipients recipients);
 
+    /**
+     * Registers or updates the {@link Waypoint} with Apollo.
+     *
+     * <p>Registered waypoints are shown to every player within the
+     * {@link #MANAGED_VIEW_DISTANCE} of the waypoint and removed once
+     * they move away, without the caller tracking recipients.</p>
+     *
+     * @param waypoint the waypoint
+     * @since 1.1.6
+     */
+    public abstract void registerWaypoint(Waypoint waypoint);
+
+    /**
+     * Unregisters the {@link Waypoint} from Apollo and removes it
+     * for every player it is currently shown to.
+     *
+     * @param waypointName the waypoint name
+     * @since 1.1.6
+     */
+    public abstract void unregisterWaypoint(String waypointName);
+
 }
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.region;
+
+import com.lunarclient.apollo.player.ApolloPlayer;
+import java.util.Collection;
+import java.util.Optional;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Represents the region manager for Apollo.
+ *
+ * <p>Regions are indexed by the chunks they cover, and a player is only
+ * checked against the regions of their own chunk, and only after they
+ * moved into a different block.</p>
+ *
+ * @since 1.1.6
+ */
+@ApiStatus.NonExtendable
+public interface ApolloRegionManager {
+
+    /**
+     * Registers the {@link Region}, replacing any region with the same id.
+     *
+     * <p>Players already inside the region enter it on the next update.</p>
+     *
+     * @param region the region
+     * @throws UnsupportedOperationException if called on a proxy
+     * @since 1.1.6
+     */
+    void registerRegion(Region region);
+
+    /**
+     * Unregisters the {@link Region} with the provided id, players inside
+     * the region leave it right away.
+     *
+     * @param regionId the region id
+     * @since 1.1.6
+     */
+    void unregisterRegion(String regionId);
+
+    /**
+     * Gets the {@link Region} with the provided id if it is registered,
+     * otherwise returns {@link Optional#empty()}.
+     *
+     * @param regionId the region id
+     * @return the region, if present
+     * @since 1.1.6
+     */
+    Optional<Region> getRegion(String regionId);
+
+    /**
+     * Gets an unmodifiable collection of every registered {@link Region}.
+     *
+     * @return the registered regions
+     * @since 1.1.6
+     */
+    Collection<Region> getRegions();
+
+    /**
+     * Gets an unmodifiable collection of the {@link Region}s the player
+     * is currently inside of.
+     *
+     * @param player the player
+     * @return the regions the player is inside of
+     * @since 1.1.6
+     */
+    Collection<Region> getRegions(ApolloPlayer player);
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.region;
+
+import com.lunarclient.apollo.common.cuboid.Cuboid3D;
+import com.lunarclient.apollo.recipients.Recipients;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Represents a region that triggers module actions when a player
+ * enters or leaves it.
+ *
+ * <p>The enter and exit actions run once, when the region is registered,
+ * so they should only call module methods with the provided
+ * {@link Recipients}. The messages they send are replayed to every
+ * player entering or leaving the region.</p>
+ *
+ * @since 1.1.6
+ */
+@Getter
+@Builder
+public final class Region {
+
+    /**
+     * Returns the region {@link String} id.
+     *
+     * @return the region id
+     * @since 1.1.6
+     */
+    String id;
+
+    /**
+     * Returns the region {@link String} world name.
+     *
+     * @return the region world
+     * @since 1.1.6
+     */
+    String world;
+
+    /**
+     * Returns the region {@link Cuboid3D} bounds.
+     *
+     * @return the region bounds
+     * @since 1.1.6
+     */
+    Cuboid3D bounds;
+
+    /**
+     * Returns the module actions played when a player enters the region.
+     *
+     * @return the enter actions
+     * @since 1.1.6
+     */
+    @Singular("enter") List<Consumer<Recipients>> enterActions;
+
+    /**
+     * Returns the module actions played when a player leaves the region.
+     *
+     * @return the exit actions
+     * @since 1.1.6
+     */
+    @Singular("exit") List<Consumer<Recipients>> exitActions;
+
+}
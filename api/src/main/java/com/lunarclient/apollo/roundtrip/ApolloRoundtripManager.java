@@ -27,6 +27,7 @@ import com.lunarclient.apollo.async.future.UncertainFuture;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -50,7 +51,7 @@ public final class ApolloRoundtripManager {
      *
      * @since 1.0.0
      */
-    private final ScheduledThreadPoolExecutor timeoutExecutor;
+    private final ScheduledExecutorService timeoutExecutor;
 
     /**
      * Constructs the {@link ApolloRoundtripManager}.
@@ -58,8 +59,19 @@ public final class ApolloRoundtripManager {
      * @since 1.0.0
      */
     public ApolloRoundtripManager() {
+        this(new ScheduledThreadPoolExecutor(1));
+    }
+
+    /**
+     * Constructs the {@link ApolloRoundtripManager} scheduling packet
+     * timeouts on the given executor.
+     *
+     * @param timeoutExecutor the executor for packet timeouts
+     * @since 1.1.6
+     */
+    public ApolloRoundtripManager(ScheduledExecutorService timeoutExecutor) {
         this.listeners = new ConcurrentHashMap<>();
-        this.timeoutExecutor = new ScheduledThreadPoolExecutor(1);
+        this.timeoutExecutor = timeoutExecutor;
     }
 
     /**
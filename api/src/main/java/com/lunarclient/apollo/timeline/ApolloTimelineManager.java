@@ -0,0 +1,64 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.timeline;
+
+import com.lunarclient.apollo.recipients.Recipients;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Represents the timeline manager for Apollo.
+ *
+ * <p>Every message of a {@link Timeline} is built and encoded once, the
+ * first time the timeline is played, and reused for every recipient of
+ * every later playback. All playbacks are driven by a single tick task.</p>
+ *
+ * @since 1.1.6
+ */
+@ApiStatus.NonExtendable
+public interface ApolloTimelineManager {
+
+    /**
+     * Builds and encodes every message of the {@link Timeline} ahead of
+     * its first playback.
+     *
+     * @param timeline the timeline
+     * @since 1.1.6
+     */
+    void compile(Timeline timeline);
+
+    /**
+     * Plays the {@link Timeline} to the provided {@link Recipients},
+     * starting with the next tick.
+     *
+     * <p>The recipients are resolved once when the playback starts,
+     * players that leave in the meantime are skipped.</p>
+     *
+     * @param recipients the recipients
+     * @param timeline the timeline
+     * @return the playback
+     * @since 1.1.6
+     */
+    TimelinePlayback play(Recipients recipients, Timeline timeline);
+
+}
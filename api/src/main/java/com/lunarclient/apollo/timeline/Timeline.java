@@ -0,0 +1,79 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.timeline;
+
+import com.lunarclient.apollo.recipients.Recipients;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Represents a sequence of module actions played at fixed tick offsets,
+ * such as a cutscene or a round intro.
+ *
+ * <p>Example: {@code Timeline.builder().at(0, recipients -> titleModule.displayTitle(recipients, title))
+ * .at(40, recipients -> vignetteModule.displayVignette(recipients, vignette)).build()}</p>
+ *
+ * @since 1.1.6
+ */
+@Getter
+@Builder
+public final class Timeline {
+
+    /**
+     * Returns the {@link TimelineEntry} entries of the timeline.
+     *
+     * @return the timeline entries
+     * @since 1.1.6
+     */
+    @Singular List<TimelineEntry> entries;
+
+    /**
+     * Builds a {@link Timeline}.
+     *
+     * @since 1.1.6
+     */
+    public static final class TimelineBuilder {
+
+        /**
+         * Adds a module action at the provided tick offset.
+         *
+         * @param tick the tick offset from the start of the timeline
+         * @param action the module action
+         * @return this builder
+         * @since 1.1.6
+         */
+        public TimelineBuilder at(int tick, Consumer<Recipients> action) {
+            return this.entry(TimelineEntry.builder()
+                .tick(tick)
+                .action(action)
+                .build()
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.timeline;
+
+import com.lunarclient.apollo.recipients.Recipients;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.Range;
+
+/**
+ * Represents a single module action of a {@link Timeline}.
+ *
+ * @since 1.1.6
+ */
+@Getter
+@Builder
+public final class TimelineEntry {
+
+    /**
+     * Returns the {@link Integer} tick offset from the start of the timeline.
+     *
+     * @return the tick offset
+     * @since 1.1.6
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE) int tick;
+
+    /**
+     * Returns the module action run against the timeline recipients.
+     *
+     * <p>The action is run once when the timeline is compiled, not every
+     * time the timeline is played, so it should only call module methods
+     * with the provided {@link Recipients}.</p>
+     *
+     * @return the module action
+     * @since 1.1.6
+     */
+    Consumer<Recipients> action;
+
+}
@@ -5,6 +5,7 @@ plugins {
 dependencies {
     implementation(libs.artifactregistry)
     implementation(libs.idea)
+    implementation(libs.jmh)
     implementation(libs.spotless)
     implementation(libs.shadow)
 }
@@ -25,6 +25,7 @@ package com.lunarclient.apollo;
 
 import com.lunarclient.apollo.command.impl.ApolloCommand;
 import com.lunarclient.apollo.command.impl.LunarClientCommand;
+import com.lunarclient.apollo.common.location.ApolloLocation;
 import com.lunarclient.apollo.listener.ApolloPlayerListener;
 import com.lunarclient.apollo.listener.ApolloWorldListener;
 import com.lunarclient.apollo.loader.PlatformPlugin;
@@ -78,14 +79,23 @@ import com.lunarclient.apollo.module.waypoint.WaypointModule;
 import com.lunarclient.apollo.module.waypoint.WaypointModuleImpl;
 import com.lunarclient.apollo.option.Options;
 import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.region.ApolloRegionManagerImpl;
+import com.lunarclient.apollo.scheduler.BukkitApolloScheduler;
+import com.lunarclient.apollo.spatial.ManagedDisplayManager;
+import com.lunarclient.apollo.startup.StartupProfiler;
 import com.lunarclient.apollo.stats.ApolloStats;
+import com.lunarclient.apollo.task.LocationSnapshotTask;
 import com.lunarclient.apollo.wrapper.BukkitApolloStats;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.plugin.messaging.Messenger;
 
@@ -103,6 +113,7 @@ public final class ApolloBukkitPlatform implements PlatformPlugin, ApolloPlatfor
     @Getter private final JavaPlugin plugin;
 
     @Getter private BukkitAudiences audiences;
+    @Getter private BukkitApolloScheduler scheduler;
     private ApolloStats stats;
 
     @Override
@@ -111,12 +122,19 @@ public final class ApolloBukkitPlatform implements PlatformPlugin, ApolloPlatfor
 
         this.audiences = BukkitAudiences.create(this.plugin);
         this.stats = new BukkitApolloStats();
+        this.scheduler = BukkitApolloScheduler.create(this.plugin);
 
         ApolloManager.bootstrap(this);
+        ApolloManager.setScheduler(this.scheduler);
+
+        StartupProfiler profiler = ApolloManager.getStartupProfiler();
+        profiler.phase("register-listeners");
 
         new ApolloPlayerListener(this.plugin);
         new ApolloWorldListener(this.plugin);
 
+        profiler.phase("register-modules");
+
         ((ApolloModuleManagerImpl) Apollo.getModuleManager())
             .addModule(BeamModule.class, new BeamModuleImpl())
             .addModule(BorderModule.class, new BorderModuleImpl())
@@ -137,7 +155,10 @@ public final class ApolloBukkitPlatform implements PlatformPlugin, ApolloPlatfor
             .addModule(ServerRuleModule.class)
             .addModule(StaffModModule.class, new StaffModModuleImpl())
             .addModule(StopwatchModule.class, new StopwatchModuleImpl())
-            .addModule(TeamModule.class, new TeamModuleImpl())
+            // Players can't be read across regions, so the team module samples the location snapshot there
+            .addModule(TeamModule.class, this.scheduler.isRegionized()
+                ? new TeamModuleImpl()
+                : new TeamModuleImpl(this::getPlayerLocation))
             .addModule(TitleModule.class, new TitleModuleImpl())
             .addModule(TntCountdownModule.class, new TntCountdownModuleImpl())
             .addModule(TransferModule.class, new TransferModuleImpl())
@@ -146,24 +167,50 @@ public final class ApolloBukkitPlatform implements PlatformPlugin, ApolloPlatfor
 
         try {
             ApolloManager.setConfigPath(this.plugin.getDataFolder().toPath());
+            profiler.phase("load-configuration");
             ApolloManager.loadConfiguration();
+            profiler.phase("enable-modules");
             ((ApolloModuleManagerImpl) Apollo.getModuleManager()).enableModules();
+            profiler.phase("save-configuration");
             ApolloManager.saveConfiguration();
         } catch (Throwable throwable) {
             this.getPlatformLogger().log(Level.SEVERE, "Unable to load Apollo configuration and modules!", throwable);
         }
 
+        profiler.phase("platform-hooks");
         Messenger messenger = this.plugin.getServer().getMessenger();
         messenger.registerOutgoingPluginChannel(this.plugin, ApolloManager.PLUGIN_MESSAGE_CHANNEL);
         messenger.registerIncomingPluginChannel(this.plugin, ApolloManager.PLUGIN_MESSAGE_CHANNEL,
             (channel, player, bytes) -> ApolloManager.getNetworkManager().receivePacket(player.getUniqueId(), bytes)
         );
 
+        this.scheduler.runGlobalTimer(new LocationSnapshotTask(this.scheduler), 1L, 1L);
+
+        int displayInterval = this.options.get(ManagedDisplayManager.UPDATE_INTERVAL);
+        this.scheduler.runAsyncTimer(ApolloManager.getDisplayManager()::tick, displayInterval, displayInterval);
+
+        int regionInterval = this.options.get(ApolloRegionManagerImpl.UPDATE_INTERVAL);
+        this.scheduler.runAsyncTimer(
+            ((ApolloRegionManagerImpl) Apollo.getRegionManager())::tick, regionInterval, regionInterval
+        );
+
+        TeamModuleImpl teamModule = (TeamModuleImpl) Apollo.getModuleManager().getModule(TeamModule.class);
+        int teamInterval = teamModule.getOptions().get(TeamModule.MANAGED_UPDATE_INTERVAL);
+        this.scheduler.runGlobalTimer(teamModule::tick, teamInterval, teamInterval);
+
+        int deferDelay = this.options.get(ApolloModuleManagerImpl.DEFER_DELAY);
+        this.scheduler.runGlobalLater(
+            ((ApolloModuleManagerImpl) Apollo.getModuleManager())::enableDeferredModules, deferDelay * 20L
+        );
+
         this.plugin.getCommand("apollo").setExecutor(new ApolloCommand());
         this.plugin.getCommand("lunarclient").setExecutor(new LunarClientCommand());
 
+        profiler.phase("stats");
         ApolloManager.getStatsManager().enable();
+        profiler.phase("update-check");
         ApolloManager.getVersionManager().checkForUpdates();
+        profiler.complete(ApolloManager.getConfigPath());
 
         if (Bukkit.getPluginManager().getPlugin("LunarClient-API") != null) {
             this.getPlatformLogger().log(Level.WARNING, "Please remove the legacy API to prevent compatibility issues with Apollo!");
@@ -172,6 +219,8 @@ public final class ApolloBukkitPlatform implements PlatformPlugin, ApolloPlatfor
 
     @Override
     public void onDisable() {
+        ApolloManager.getNetworkManager().getInboundPipeline().shutdown();
+        ApolloManager.getNetworkManager().getOutboundQueue().shutdown();
         ((ApolloModuleManagerImpl) Apollo.getModuleManager()).disableModules();
     }
 
@@ -195,4 +244,19 @@ public final class ApolloBukkitPlatform implements PlatformPlugin, ApolloPlatfor
         return Bukkit.getServer().getLogger();
     }
 
+    private Optional<ApolloLocation> getPlayerLocation(UUID playerUuid) {
+        Player player = Bukkit.getPlayer(playerUuid);
+        if (player == null) {
+            return Optional.empty();
+        }
+
+        Location location = player.getLocation();
+        return Optional.of(ApolloLocation.builder()
+            .world(location.getWorld().getName())
+            .x(location.getX())
+            .y(location.getY())
+            .z(location.getZ())
+            .build());
+    }
+
 }
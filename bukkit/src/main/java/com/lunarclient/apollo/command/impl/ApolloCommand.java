@@ -57,6 +57,8 @@ public final class ApolloCommand extends BukkitApolloCommand<CommandSender> impl
                 "bukkit",
                 message -> this.textConsumer.accept(sender, message)
             );
+        } else if(args[0].equalsIgnoreCase("startup")) {
+            this.sendStartupReport(sender);
         }
 
         return true;
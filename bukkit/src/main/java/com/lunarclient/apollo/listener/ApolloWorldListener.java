@@ -24,21 +24,29 @@
 package com.lunarclient.apollo.listener;
 
 import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.event.ApolloListener;
 import com.lunarclient.apollo.event.EventBus;
 import com.lunarclient.apollo.event.Listen;
 import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayerManagerImpl;
 import com.lunarclient.apollo.player.v1.UpdatePlayerWorldMessage;
 import com.lunarclient.apollo.world.ApolloWorldManagerImpl;
 import com.lunarclient.apollo.wrapper.BukkitApolloWorld;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityEvent;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -50,6 +58,8 @@ import org.bukkit.plugin.java.JavaPlugin;
  */
 public final class ApolloWorldListener implements Listener, ApolloListener {
 
+    private static final String ENTITY_REMOVE_EVENT = "com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent";
+
     /**
      * Constructs the {@link ApolloWorldListener}.
      *
@@ -59,6 +69,7 @@ public final class ApolloWorldListener implements Listener, ApolloListener {
     public ApolloWorldListener(JavaPlugin plugin) {
         EventBus.getBus().register(this);
         Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.registerEntityRemoval(plugin);
 
         ApolloWorldManagerImpl worldManager = ((ApolloWorldManagerImpl) Apollo.getWorldManager());
         for (World world : Bukkit.getWorlds()) {
@@ -76,6 +87,41 @@ public final class ApolloWorldListener implements Listener, ApolloListener {
         ((ApolloWorldManagerImpl) Apollo.getWorldManager()).removeWorld(event.getWorld().getName());
     }
 
+    @EventHandler
+    private void onEntityDeath(EntityDeathEvent event) {
+        this.evictEntity(event.getEntity());
+    }
+
+    @EventHandler
+    private void onChunkUnload(ChunkUnloadEvent event) {
+        for (Entity entity : event.getChunk().getEntities()) {
+            this.evictEntity(entity);
+        }
+    }
+
+    private void registerEntityRemoval(JavaPlugin plugin) {
+        Class<? extends Event> removeEvent;
+        try {
+            removeEvent = Class.forName(ApolloWorldListener.ENTITY_REMOVE_EVENT).asSubclass(Event.class);
+        } catch (ClassNotFoundException e) {
+            // Spigot has no removal event, entities are evicted when they die or their chunk unloads
+            return;
+        }
+
+        Bukkit.getPluginManager().registerEvent(removeEvent, this, EventPriority.MONITOR,
+            (listener, event) -> this.evictEntity(((EntityEvent) event).getEntity()), plugin
+        );
+    }
+
+    private void evictEntity(Entity entity) {
+        // Players are evicted when they are unregistered
+        if (entity instanceof Player) {
+            return;
+        }
+
+        ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).getIdentityCache().evict(entity.getUniqueId());
+    }
+
     @EventHandler
     private void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
         Player player = event.getPlayer();
@@ -86,6 +132,7 @@ public final class ApolloWorldListener implements Listener, ApolloListener {
                 .build();
 
             ((AbstractApolloPlayer) apolloPlayer).sendPacket(message);
+            ApolloManager.getSettingsProfileManager().applyWorld(apolloPlayer, player.getWorld().getName());
         });
     }
 
@@ -25,20 +25,32 @@ package com.lunarclient.apollo.module.tntcountdown;
 
 import com.lunarclient.apollo.Apollo;
 import com.lunarclient.apollo.ApolloBukkitPlatform;
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.common.ApolloEntity;
 import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.scheduler.ApolloTask;
+import com.lunarclient.apollo.scheduler.BukkitApolloScheduler;
+import com.lunarclient.apollo.spatial.LocationSnapshot;
 import com.lunarclient.apollo.tntcountdown.v1.SetTntCountdownMessage;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.TNTPrimed;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 
 import static com.lunarclient.apollo.util.Ranges.checkPositive;
 
@@ -49,6 +61,8 @@ import static com.lunarclient.apollo.util.Ranges.checkPositive;
  */
 public final class TntCountdownModuleImpl extends TntCountdownModule implements Listener {
 
+    private static final int SWEEP_INTERVAL_TICKS = 100;
+
     private static Method entityGetter;
 
     static {
@@ -59,44 +73,121 @@ public final class TntCountdownModuleImpl extends TntCountdownModule implements
         }
     }
 
+    // Spawn events and countdown changes arrive on the thread owning the TNT,
+    // which on region threaded servers differs from the flushing thread.
+    private final Map<UUID, TNTPrimed> primedTnt = new ConcurrentHashMap<>();
+    private final Queue<PendingCountdown> pendingCountdowns = new ConcurrentLinkedQueue<>();
+
+    private ApolloTask flushTask;
+    private int ticksSinceSweep;
+
     @Override
     protected void onEnable() {
         Bukkit.getPluginManager().registerEvents(this, ApolloBukkitPlatform.getInstance().getPlugin());
+
+        if (this.flushTask == null) {
+            this.flushTask = ApolloBukkitPlatform.getInstance().getScheduler()
+                .runGlobalTimer(this::flushCountdowns, 1L, 1L);
+        }
     }
 
     @Override
     public void setTntCountdown(ApolloEntity entity, int ticks) {
         checkPositive(ticks, "TntCountdown#ticks");
 
-        TNTPrimed target = null;
+        TNTPrimed target = this.findTnt(entity.getEntityUuid());
+        SetTntCountdownMessage message = SetTntCountdownMessage.newBuilder()
+            .setEntityId(NetworkTypes.toProtobuf(entity))
+            .setDurationTicks(ticks)
+            .build();
+
+        if (target != null) {
+            BukkitApolloScheduler scheduler = ApolloBukkitPlatform.getInstance().getScheduler();
+            scheduler.executeForEntity(target, () -> {
+                target.setFuseTicks(ticks);
+                this.pendingCountdowns.add(new PendingCountdown(target.getLocation(), message));
+            });
+
+            return;
+        }
+
+        // Without the entity there is no location to limit the broadcast to.
+        for (ApolloPlayer viewer : Apollo.getPlayerManager().getPlayers()) {
+            ((AbstractApolloPlayer) viewer).sendPacket(message);
+        }
+    }
+
+    private TNTPrimed findTnt(UUID entityUuid) {
+        TNTPrimed target = this.primedTnt.get(entityUuid);
+        if (target != null) {
+            if (target.isValid()) {
+                return target;
+            }
+
+            this.primedTnt.remove(entityUuid);
+        }
+
+        // TNT primed before Apollo was enabled is not indexed.
         if (TntCountdownModuleImpl.entityGetter != null) {
             try {
-                target = (TNTPrimed) TntCountdownModuleImpl.entityGetter.invoke(null, entity.getEntityUuid());
+                return (TNTPrimed) TntCountdownModuleImpl.entityGetter.invoke(null, entityUuid);
             } catch (Throwable throwable) {
                 throwable.printStackTrace();
             }
         } else {
             for (World world : Bukkit.getWorlds()) {
                 for (TNTPrimed compare : world.getEntitiesByClass(TNTPrimed.class)) {
-                    if (compare.getUniqueId().equals(entity.getEntityUuid())) {
-                        target = compare;
-                        break;
+                    if (compare.getUniqueId().equals(entityUuid)) {
+                        return compare;
                     }
                 }
             }
         }
 
-        if (target != null) {
-            target.setFuseTicks(ticks);
+        return null;
+    }
+
+    private void flushCountdowns() {
+        // TNT that despawned without exploding is swept on an interval,
+        // even while countdowns keep arriving
+        if (++this.ticksSinceSweep >= TntCountdownModuleImpl.SWEEP_INTERVAL_TICKS) {
+            this.ticksSinceSweep = 0;
+            this.primedTnt.values().removeIf(tnt -> !tnt.isValid());
         }
 
-        SetTntCountdownMessage message = SetTntCountdownMessage.newBuilder()
-            .setEntityId(NetworkTypes.toProtobuf(entity))
-            .setDurationTicks(ticks)
-            .build();
+        if (this.pendingCountdowns.isEmpty()) {
+            return;
+        }
 
-        for (ApolloPlayer viewer : Apollo.getPlayerManager().getPlayers()) {
-            ((AbstractApolloPlayer) viewer).sendPacket(message);
+        int radius = this.getOptions().get(TntCountdownModule.BROADCAST_RADIUS);
+        double radiusSquared = (double) radius * radius;
+        LocationSnapshot snapshot = ApolloManager.getLocationSnapshotService().acquire();
+        try {
+            PendingCountdown countdown;
+            while ((countdown = this.pendingCountdowns.poll()) != null) {
+                Location location = countdown.location;
+                String world = location.getWorld().getName();
+
+                for (int slot = 0; slot < snapshot.size(); slot++) {
+                    if (!world.equals(snapshot.getWorld(slot))) {
+                        continue;
+                    }
+
+                    if (radius > 0) {
+                        double x = snapshot.getX(slot) - location.getX();
+                        double y = snapshot.getY(slot) - location.getY();
+                        double z = snapshot.getZ(slot) - location.getZ();
+
+                        if (x * x + y * y + z * z > radiusSquared) {
+                            continue;
+                        }
+                    }
+
+                    ((AbstractApolloPlayer) snapshot.getPlayer(slot)).sendPacket(countdown.message);
+                }
+            }
+        } finally {
+            snapshot.release();
         }
     }
 
@@ -108,6 +199,8 @@ public final class TntCountdownModuleImpl extends TntCountdownModule implements
         }
 
         TNTPrimed primed = (TNTPrimed) event.getEntity();
+        this.primedTnt.put(primed.getUniqueId(), primed);
+
         int customTicks = this.getOptions().get(TntCountdownModule.TNT_TICKS);
         int defaultTicks = TntCountdownModule.TNT_TICKS.getDefaultValue();
         int currentTicks = primed.getFuseTicks();
@@ -120,12 +213,39 @@ public final class TntCountdownModuleImpl extends TntCountdownModule implements
                 .setDurationTicks(customTicks)
                 .build();
 
-            for (ApolloPlayer viewer : Apollo.getPlayerManager().getPlayers()) {
-                ((AbstractApolloPlayer) viewer).sendPacket(message);
-            }
+            this.pendingCountdowns.add(new PendingCountdown(primed.getLocation(), message));
         }
 
         primed.setFuseTicks(customTicks);
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onTntExplode(EntityExplodeEvent event) {
+        if (event.getEntity() instanceof TNTPrimed) {
+            this.primedTnt.remove(event.getEntity().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onChunkUnload(ChunkUnloadEvent event) {
+        for (Entity entity : event.getChunk().getEntities()) {
+            if (entity instanceof TNTPrimed) {
+                this.primedTnt.remove(entity.getUniqueId());
+            }
+        }
+    }
+
+    private static final class PendingCountdown {
+
+        // Captured on the thread owning the TNT, it is not read again when flushing
+        private final Location location;
+        private final SetTntCountdownMessage message;
+
+        PendingCountdown(Location location, SetTntCountdownMessage message) {
+            this.location = location;
+            this.message = message;
+        }
+
+    }
+
 }
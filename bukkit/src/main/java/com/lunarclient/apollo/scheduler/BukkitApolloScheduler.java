@@ -0,0 +1,134 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.scheduler;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * The base of the Bukkit {@link ApolloScheduler}s, adding entity bound
+ * scheduling for Bukkit code.
+ *
+ * @since 1.1.6
+ */
+public abstract class BukkitApolloScheduler implements ApolloScheduler {
+
+    /**
+     * Creates the scheduler matching the running server.
+     *
+     * @param plugin the plugin owning the tasks
+     * @return the scheduler
+     * @since 1.1.6
+     */
+    public static BukkitApolloScheduler create(Plugin plugin) {
+        return RegionizedApolloScheduler.isSupported()
+            ? new RegionizedApolloScheduler(plugin)
+            : new MainThreadApolloScheduler(plugin);
+    }
+
+    /**
+     * Runs the provided task on the thread owning the provided entity.
+     *
+     * <p>The task is dropped if the entity is removed before it runs.</p>
+     *
+     * @param entity the entity
+     * @param task the task
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    public abstract ApolloTask runForEntity(Entity entity, Runnable task);
+
+    /**
+     * Runs the provided task repeatedly on the thread owning the provided
+     * entity, following it across regions.
+     *
+     * <p>The task stops running once the entity is removed.</p>
+     *
+     * @param entity the entity
+     * @param task the task
+     * @param delay the delay in ticks before the first run
+     * @param period the period in ticks between runs
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    public abstract ApolloTask runForEntityTimer(Entity entity, Runnable task, long delay, long period);
+
+    /**
+     * Runs the provided task on the thread owning the provided location.
+     *
+     * @param world the world
+     * @param x the block x coordinate
+     * @param z the block z coordinate
+     * @param task the task
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    public abstract ApolloTask runAt(World world, int x, int z, Runnable task);
+
+    /**
+     * Returns whether the current thread owns the provided entity and may
+     * touch it directly.
+     *
+     * @param entity the entity
+     * @return whether the current thread owns the entity
+     * @since 1.1.6
+     */
+    public abstract boolean isOwnedByCurrentThread(Entity entity);
+
+    /**
+     * Runs the provided task right away if the current thread owns the
+     * provided entity, otherwise schedules it on the owning thread.
+     *
+     * @param entity the entity
+     * @param task the task
+     * @since 1.1.6
+     */
+    public void executeForEntity(Entity entity, Runnable task) {
+        if (this.isOwnedByCurrentThread(entity)) {
+            task.run();
+        } else {
+            this.runForEntity(entity, task);
+        }
+    }
+
+    @Override
+    public ApolloTask runAt(ApolloLocation location, Runnable task) {
+        World world = Bukkit.getWorld(location.getWorld());
+        if (world == null) {
+            return ApolloTask.NONE;
+        }
+
+        return this.runAt(world, (int) Math.floor(location.getX()), (int) Math.floor(location.getZ()), task);
+    }
+
+    @Override
+    public ApolloTask runForPlayer(ApolloPlayer player, Runnable task) {
+        return this.runForEntity((Entity) player.getPlayer(), task);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * The {@link ApolloScheduler} for classic servers, running everything
+ * except async tasks on the main thread.
+ *
+ * @since 1.1.6
+ */
+@RequiredArgsConstructor
+public final class MainThreadApolloScheduler extends BukkitApolloScheduler {
+
+    private final Plugin plugin;
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public ApolloTask runGlobal(Runnable task) {
+        return Bukkit.getScheduler().runTask(this.plugin, task)::cancel;
+    }
+
+    @Override
+    public ApolloTask runGlobalLater(Runnable task, long delay) {
+        return Bukkit.getScheduler().runTaskLater(this.plugin, task, delay)::cancel;
+    }
+
+    @Override
+    public ApolloTask runGlobalTimer(Runnable task, long delay, long period) {
+        return Bukkit.getScheduler().runTaskTimer(this.plugin, task, delay, period)::cancel;
+    }
+
+    @Override
+    public ApolloTask runAt(World world, int x, int z, Runnable task) {
+        return this.runGlobal(task);
+    }
+
+    @Override
+    public ApolloTask runForEntity(Entity entity, Runnable task) {
+        return this.runGlobal(() -> {
+            if (entity.isValid()) {
+                task.run();
+            }
+        });
+    }
+
+    @Override
+    public ApolloTask runForEntityTimer(Entity entity, Runnable task, long delay, long period) {
+        return this.runGlobalTimer(() -> {
+            if (entity.isValid()) {
+                task.run();
+            }
+        }, delay, period);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public ApolloTask runAsync(Runnable task) {
+        return Bukkit.getScheduler().runTaskAsynchronously(this.plugin, task)::cancel;
+    }
+
+    @Override
+    public ApolloTask runAsyncTimer(Runnable task, long delay, long period) {
+        return Bukkit.getScheduler().runTaskTimerAsynchronously(this.plugin, task, delay, period)::cancel;
+    }
+
+}
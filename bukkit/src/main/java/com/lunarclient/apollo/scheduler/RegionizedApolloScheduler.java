@@ -0,0 +1,229 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.scheduler;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * The {@link ApolloScheduler} for region threaded servers such as Folia.
+ *
+ * <p>The region schedulers are only available on newer servers than the
+ * one Apollo is compiled against, so they are looked up reflectively once
+ * and invoked through the cached methods.</p>
+ *
+ * @since 1.1.6
+ */
+public final class RegionizedApolloScheduler extends BukkitApolloScheduler {
+
+    private static final String REGIONIZED_SERVER = "io.papermc.paper.threadedregions.RegionizedServer";
+
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final Plugin plugin;
+
+    private final Object globalScheduler;
+    private final Method globalRun;
+    private final Method globalRunDelayed;
+    private final Method globalRunAtFixedRate;
+
+    private final Object regionScheduler;
+    private final Method regionRun;
+
+    private final Method entityGetScheduler;
+    private final Method entityRun;
+    private final Method entityRunAtFixedRate;
+
+    private final Object asyncScheduler;
+    private final Method asyncRunNow;
+    private final Method asyncRunAtFixedRate;
+
+    private final Method isOwnedByCurrentRegion;
+    private final Method taskCancel;
+
+    /**
+     * Constructs the {@link RegionizedApolloScheduler}.
+     *
+     * @param plugin the plugin owning the tasks
+     * @since 1.1.6
+     */
+    RegionizedApolloScheduler(Plugin plugin) {
+        this.plugin = plugin;
+
+        try {
+            this.globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
+            Class<?> globalClass = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+            this.globalRun = globalClass.getMethod("run", Plugin.class, Consumer.class);
+            this.globalRunDelayed = globalClass.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+            this.globalRunAtFixedRate = globalClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+
+            this.regionScheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
+            Class<?> regionClass = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+            this.regionRun = regionClass.getMethod("run", Plugin.class, World.class, int.class, int.class, Consumer.class);
+
+            this.entityGetScheduler = Entity.class.getMethod("getScheduler");
+            Class<?> entityClass = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
+            this.entityRun = entityClass.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
+            this.entityRunAtFixedRate = entityClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class,
+                Runnable.class, long.class, long.class
+            );
+
+            this.asyncScheduler = Bukkit.class.getMethod("getAsyncScheduler").invoke(null);
+            Class<?> asyncClass = Class.forName("io.papermc.paper.threadedregions.scheduler.AsyncScheduler");
+            this.asyncRunNow = asyncClass.getMethod("runNow", Plugin.class, Consumer.class);
+            this.asyncRunAtFixedRate = asyncClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class,
+                long.class, long.class, TimeUnit.class
+            );
+
+            this.isOwnedByCurrentRegion = Bukkit.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+            this.taskCancel = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask").getMethod("cancel");
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Unable to find the region schedulers of this server!", exception);
+        }
+    }
+
+    /**
+     * Returns whether the running server is region threaded.
+     *
+     * @return whether the server is region threaded
+     * @since 1.1.6
+     */
+    static boolean isSupported() {
+        try {
+            Class.forName(RegionizedApolloScheduler.REGIONIZED_SERVER);
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    @Override
+    public ApolloTask runGlobal(Runnable task) {
+        return this.schedule(this.globalScheduler, this.globalRun, this.plugin, this.consumer(task));
+    }
+
+    @Override
+    public ApolloTask runGlobalLater(Runnable task, long delay) {
+        return this.schedule(this.globalScheduler, this.globalRunDelayed, this.plugin, this.consumer(task),
+            RegionizedApolloScheduler.ticks(delay)
+        );
+    }
+
+    @Override
+    public ApolloTask runGlobalTimer(Runnable task, long delay, long period) {
+        return this.schedule(this.globalScheduler, this.globalRunAtFixedRate, this.plugin, this.consumer(task),
+            RegionizedApolloScheduler.ticks(delay), RegionizedApolloScheduler.ticks(period)
+        );
+    }
+
+    @Override
+    public ApolloTask runAt(World world, int x, int z, Runnable task) {
+        return this.schedule(this.regionScheduler, this.regionRun, this.plugin, world, x >> 4, z >> 4, this.consumer(task));
+    }
+
+    @Override
+    public ApolloTask runForEntity(Entity entity, Runnable task) {
+        // Returns null when the entity has already been removed
+        return this.schedule(this.entityScheduler(entity), this.entityRun, this.plugin, this.consumer(task), null);
+    }
+
+    @Override
+    public ApolloTask runForEntityTimer(Entity entity, Runnable task, long delay, long period) {
+        return this.schedule(this.entityScheduler(entity), this.entityRunAtFixedRate, this.plugin, this.consumer(task),
+            null, RegionizedApolloScheduler.ticks(delay), RegionizedApolloScheduler.ticks(period)
+        );
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        try {
+            return (boolean) this.isOwnedByCurrentRegion.invoke(null, entity);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Override
+    public ApolloTask runAsync(Runnable task) {
+        return this.schedule(this.asyncScheduler, this.asyncRunNow, this.plugin, this.consumer(task));
+    }
+
+    @Override
+    public ApolloTask runAsyncTimer(Runnable task, long delay, long period) {
+        return this.schedule(this.asyncScheduler, this.asyncRunAtFixedRate, this.plugin, this.consumer(task),
+            RegionizedApolloScheduler.ticks(delay) * RegionizedApolloScheduler.MILLIS_PER_TICK,
+            RegionizedApolloScheduler.ticks(period) * RegionizedApolloScheduler.MILLIS_PER_TICK,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    private Object entityScheduler(Entity entity) {
+        try {
+            return this.entityGetScheduler.invoke(entity);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private Consumer<Object> consumer(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+
+    private ApolloTask schedule(Object scheduler, Method method, Object... args) {
+        Object scheduledTask;
+        try {
+            scheduledTask = method.invoke(scheduler, args);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Unable to schedule a task!", exception);
+        }
+
+        if (scheduledTask == null) {
+            return ApolloTask.NONE;
+        }
+
+        return () -> {
+            try {
+                this.taskCancel.invoke(scheduledTask);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException(exception);
+            }
+        };
+    }
+
+    private static long ticks(long ticks) {
+        // The region schedulers reject delays below one tick
+        return Math.max(1L, ticks);
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.task;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.scheduler.ApolloTask;
+import com.lunarclient.apollo.scheduler.BukkitApolloScheduler;
+import com.lunarclient.apollo.spatial.LocationSnapshotService;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Captures the positions of every Apollo player into the
+ * {@link LocationSnapshotService} once per tick.
+ *
+ * <p>On region threaded servers players can't be read from the global
+ * thread. Each player instead gets one repeating task on the thread
+ * owning it for as long as it is registered, recording its position,
+ * and the snapshot is built from the latest recorded positions, one
+ * tick behind.</p>
+ *
+ * @since 1.1.6
+ */
+public final class LocationSnapshotTask implements Runnable, ApolloListener {
+
+    private final Location location = new Location(null, 0, 0, 0);
+
+    private final BukkitApolloScheduler scheduler;
+    private final Map<UUID, RecordedPosition> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the {@link LocationSnapshotTask}.
+     *
+     * @param scheduler the scheduler
+     * @since 1.1.6
+     */
+    public LocationSnapshotTask(BukkitApolloScheduler scheduler) {
+        this.scheduler = scheduler;
+
+        if (scheduler.isRegionized()) {
+            this.handle(ApolloRegisterPlayerEvent.class, this::onPlayerRegister);
+            this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+        }
+    }
+
+    @Override
+    public void run() {
+        LocationSnapshotService service = ApolloManager.getLocationSnapshotService();
+        service.begin();
+
+        boolean regionized = this.scheduler.isRegionized();
+        for (ApolloPlayer apolloPlayer : Apollo.getPlayerManager().getPlayers()) {
+            if (regionized) {
+                this.captureRecorded(service, apolloPlayer);
+                continue;
+            }
+
+            Player player = (Player) apolloPlayer.getPlayer();
+            player.getLocation(this.location);
+
+            service.capture(apolloPlayer, this.location.getWorld().getName(),
+                this.location.getX(), this.location.getY(), this.location.getZ(),
+                this.location.getYaw(), this.location.getPitch()
+            );
+        }
+
+        service.publish();
+    }
+
+    private void onPlayerRegister(ApolloRegisterPlayerEvent event) {
+        Player player = (Player) event.getPlayer().getPlayer();
+        RecordedPosition position = new RecordedPosition(player);
+        position.task = this.scheduler.runForEntityTimer(player, position, 1L, 1L);
+
+        RecordedPosition previous = this.positions.put(player.getUniqueId(), position);
+        if (previous != null) {
+            previous.task.cancel();
+        }
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        RecordedPosition position = this.positions.remove(event.getPlayer().getUniqueId());
+        if (position != null) {
+            position.task.cancel();
+        }
+    }
+
+    private void captureRecorded(LocationSnapshotService service, ApolloPlayer apolloPlayer) {
+        RecordedPosition position = this.positions.get(apolloPlayer.getUniqueId());
+        if (position == null) {
+            return;
+        }
+
+        synchronized (position) {
+            if (position.world != null) {
+                service.capture(apolloPlayer, position.world,
+                    position.x, position.y, position.z, position.yaw, position.pitch
+                );
+            }
+        }
+    }
+
+    private static final class RecordedPosition implements Runnable {
+
+        private final Player player;
+        private final Location location = new Location(null, 0, 0, 0);
+
+        private ApolloTask task = ApolloTask.NONE;
+
+        private String world;
+        private double x;
+        private double y;
+        private double z;
+        private float yaw;
+        private float pitch;
+
+        RecordedPosition(Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public void run() {
+            this.player.getLocation(this.location);
+
+            synchronized (this) {
+                this.world = this.location.getWorld().getName();
+                this.x = this.location.getX();
+                this.y = this.location.getY();
+                this.z = this.location.getZ();
+                this.yaw = this.location.getYaw();
+                this.pitch = this.location.getPitch();
+            }
+        }
+
+    }
+
+}
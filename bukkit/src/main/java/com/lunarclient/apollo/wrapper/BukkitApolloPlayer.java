@@ -29,6 +29,7 @@ import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.common.location.ApolloLocation;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.scheduler.BukkitApolloScheduler;
 import com.lunarclient.apollo.world.ApolloWorld;
 import java.util.Optional;
 import java.util.UUID;
@@ -70,6 +71,11 @@ public final class BukkitApolloPlayer extends AbstractApolloPlayer {
 
     @Override
     public Optional<ApolloLocation> getLocation() {
+        // Players owned by another region can't be read, fall back to the last snapshot
+        if (!ApolloBukkitPlatform.getInstance().getScheduler().isOwnedByCurrentThread(this.player)) {
+            return ApolloManager.getLocationSnapshotService().getLocation(this.player.getUniqueId());
+        }
+
         Location location = this.player.getLocation();
 
         return Optional.of(ApolloLocation.builder()
@@ -87,7 +93,18 @@ public final class BukkitApolloPlayer extends AbstractApolloPlayer {
 
     @Override
     public void sendPacket(byte[] messages) {
-        this.player.sendPluginMessage(ApolloBukkitPlatform.getInstance().getPlugin(), ApolloManager.PLUGIN_MESSAGE_CHANNEL, messages);
+        ApolloBukkitPlatform platform = ApolloBukkitPlatform.getInstance();
+        BukkitApolloScheduler scheduler = platform.getScheduler();
+
+        // Players owned by another region can't be written to, hand the message to the owning region
+        if (scheduler.isRegionized()) {
+            scheduler.executeForEntity(this.player, () ->
+                this.player.sendPluginMessage(platform.getPlugin(), ApolloManager.PLUGIN_MESSAGE_CHANNEL, messages)
+            );
+            return;
+        }
+
+        this.player.sendPluginMessage(platform.getPlugin(), ApolloManager.PLUGIN_MESSAGE_CHANNEL, messages);
     }
 
     @Override
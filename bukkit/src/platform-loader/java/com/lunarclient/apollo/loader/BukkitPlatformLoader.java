@@ -41,7 +41,9 @@ public class BukkitPlatformLoader extends JavaPlugin {
      * @since 1.0.0
      */
     public BukkitPlatformLoader() {
-        DynamicLoader loader = new DynamicLoader(this.getClass().getClassLoader(), this.getLogger());
+        DynamicLoader loader = new DynamicLoader(this.getClass().getClassLoader(), this.getLogger(),
+            this.getDataFolder().toPath().resolve("libraries")
+        );
 
         loader.install(DynamicDependencies.discoverDependencies());
 
@@ -67,8 +67,10 @@ import com.lunarclient.apollo.module.waypoint.WaypointModule;
 import com.lunarclient.apollo.module.waypoint.WaypointModuleImpl;
 import com.lunarclient.apollo.option.Options;
 import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.startup.StartupProfiler;
 import com.lunarclient.apollo.stats.ApolloStats;
 import com.lunarclient.apollo.wrapper.BungeeApolloStats;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import lombok.Getter;
@@ -103,6 +105,9 @@ public final class ApolloBungeePlatform implements PlatformPlugin, ApolloPlatfor
 
         ApolloManager.bootstrap(this);
 
+        StartupProfiler profiler = ApolloManager.getStartupProfiler();
+        profiler.phase("register-modules");
+
         ((ApolloModuleManagerImpl) Apollo.getModuleManager())
             .addModule(BeamModule.class, new BeamModuleImpl())
             .addModule(BorderModule.class, new BorderModuleImpl())
@@ -127,13 +132,17 @@ public final class ApolloBungeePlatform implements PlatformPlugin, ApolloPlatfor
 
         try {
             ApolloManager.setConfigPath(this.plugin.getDataFolder().toPath());
+            profiler.phase("load-configuration");
             ApolloManager.loadConfiguration();
+            profiler.phase("enable-modules");
             ((ApolloModuleManagerImpl) Apollo.getModuleManager()).enableModules();
+            profiler.phase("save-configuration");
             ApolloManager.saveConfiguration();
         } catch (Throwable throwable) {
             this.getPlatformLogger().log(Level.SEVERE, "Unable to load Apollo configuration and modules!", throwable);
         }
 
+        profiler.phase("platform-hooks");
         ProxyServer server = this.plugin.getProxy();
         server.registerChannel(ApolloManager.PLUGIN_MESSAGE_CHANNEL);
 
@@ -142,12 +151,22 @@ public final class ApolloBungeePlatform implements PlatformPlugin, ApolloPlatfor
         pluginManager.registerCommand(this.plugin, ApolloCommand.create());
         pluginManager.registerCommand(this.plugin, LunarClientCommand.create());
 
+        int deferDelay = this.options.get(ApolloModuleManagerImpl.DEFER_DELAY);
+        server.getScheduler().schedule(this.plugin,
+            ((ApolloModuleManagerImpl) Apollo.getModuleManager())::enableDeferredModules, deferDelay, TimeUnit.SECONDS
+        );
+
+        profiler.phase("stats");
         ApolloManager.getStatsManager().enable();
+        profiler.phase("update-check");
         ApolloManager.getVersionManager().checkForUpdates();
+        profiler.complete(ApolloManager.getConfigPath());
     }
 
     @Override
     public void onDisable() {
+        ApolloManager.getNetworkManager().getInboundPipeline().shutdown();
+        ApolloManager.getNetworkManager().getOutboundQueue().shutdown();
         ((ApolloModuleManagerImpl) Apollo.getModuleManager()).disableModules();
     }
 
@@ -67,6 +67,8 @@ public final class ApolloCommand extends BungeeApolloCommand<CommandSender> {
                 "bungee",
                 message -> this.textConsumer.accept(sender, message)
             );
+        } else if(args[0].equalsIgnoreCase("startup")) {
+            this.sendStartupReport(sender);
         }
     }
 
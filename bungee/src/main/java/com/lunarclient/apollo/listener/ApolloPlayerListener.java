@@ -25,13 +25,18 @@ package com.lunarclient.apollo.listener;
 
 import com.google.common.base.Charsets;
 import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloBungeePlatform;
 import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.network.ProxyStateLedger;
 import com.lunarclient.apollo.player.ApolloPlayerManagerImpl;
 import com.lunarclient.apollo.wrapper.BungeeApolloPlayer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.connection.Server;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PluginMessageEvent;
+import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.event.EventHandler;
 
@@ -70,12 +75,43 @@ public final class ApolloPlayerListener implements Listener {
                 return;
             }
 
+            // A client registering again has no state left, let resends through
+            if (event.getSender() instanceof ProxiedPlayer) {
+                ApolloManager.getProxyStateLedger().forget(player.getUniqueId());
+            }
+
             ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).addPlayer(new BungeeApolloPlayer(player));
         } else if (tag.equalsIgnoreCase(ApolloManager.PLUGIN_MESSAGE_CHANNEL)) {
-            ApolloManager.getNetworkManager().receivePacket(player.getUniqueId(), data);
+            if (event.getSender() instanceof Server) {
+                this.onBackendMessage(event, player);
+            } else {
+                ApolloManager.getNetworkManager().receivePacket(player.getUniqueId(), data);
+            }
         }
     }
 
+    /**
+     * Handles players switching to another backend server.
+     *
+     * @param event the event
+     * @since 1.1.6
+     */
+    @EventHandler
+    public void onServerSwitch(ServerSwitchEvent event) {
+        if (event.getFrom() == null) {
+            return;
+        }
+
+        UUID playerUuid = event.getPlayer().getUniqueId();
+        ProxyStateLedger ledger = ApolloManager.getProxyStateLedger();
+        long generation = ledger.beginSwitch(playerUuid);
+        int gracePeriod = Apollo.getPlatform().getOptions().get(ProxyStateLedger.SWITCH_GRACE_PERIOD);
+
+        ApolloBungeePlatform platform = ApolloBungeePlatform.getInstance();
+        platform.getPlugin().getProxy().getScheduler()
+            .schedule(platform.getPlugin(), () -> ledger.sweep(playerUuid, generation), gracePeriod, TimeUnit.SECONDS);
+    }
+
     /**
      * Handles unregistering players from Apollo.
      *
@@ -86,6 +122,20 @@ public final class ApolloPlayerListener implements Listener {
     public void onDisconnect(PlayerDisconnectEvent event) {
         ProxiedPlayer player = event.getPlayer();
         ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).removePlayer(player.getUniqueId());
+        ApolloManager.getProxyStateLedger().forget(player.getUniqueId());
+    }
+
+    private void onBackendMessage(PluginMessageEvent event, ProxiedPlayer player) {
+        byte[] data = event.getData();
+        byte[] filtered = ApolloManager.getProxyStateLedger().filter(player.getUniqueId(), data);
+        if (filtered == data) {
+            return;
+        }
+
+        event.setCancelled(true);
+        if (filtered != null) {
+            player.sendData(ApolloManager.PLUGIN_MESSAGE_CHANNEL, filtered);
+        }
     }
 
 }
@@ -37,7 +37,9 @@ public class BungeePlatformLoader extends Plugin {
 
     @Override
     public void onLoad() {
-        DynamicLoader loader = new DynamicLoader(this.getClass().getClassLoader(), this.getLogger());
+        DynamicLoader loader = new DynamicLoader(this.getClass().getClassLoader(), this.getLogger(),
+            this.getDataFolder().toPath().resolve("libraries")
+        );
 
         loader.install(DynamicDependencies.discoverDependencies());
 
@@ -28,12 +28,22 @@ import com.google.gson.GsonBuilder;
 import com.lunarclient.apollo.api.ApolloHttpManager;
 import com.lunarclient.apollo.module.ApolloModuleManagerImpl;
 import com.lunarclient.apollo.network.ApolloNetworkManager;
+import com.lunarclient.apollo.network.ClientStateLedger;
+import com.lunarclient.apollo.network.ProxyStateLedger;
 import com.lunarclient.apollo.option.ConfigOptions;
 import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.SettingsProfileManager;
 import com.lunarclient.apollo.option.config.CommonSerializers;
 import com.lunarclient.apollo.player.ApolloPlayerManagerImpl;
+import com.lunarclient.apollo.region.ApolloRegionManagerImpl;
 import com.lunarclient.apollo.roundtrip.ApolloRoundtripManager;
+import com.lunarclient.apollo.scheduler.ApolloScheduler;
+import com.lunarclient.apollo.spatial.LocationSnapshotService;
+import com.lunarclient.apollo.spatial.ManagedDisplayManager;
+import com.lunarclient.apollo.startup.StartupProfiler;
 import com.lunarclient.apollo.stats.ApolloStatsManager;
+import com.lunarclient.apollo.timeline.ApolloTimelineManagerImpl;
+import com.lunarclient.apollo.util.ApolloExecutors;
 import com.lunarclient.apollo.util.ConfigTarget;
 import com.lunarclient.apollo.version.ApolloVersionManager;
 import com.lunarclient.apollo.world.ApolloWorldManagerImpl;
@@ -69,11 +79,19 @@ public final class ApolloManager {
 
     private static ApolloPlatform platform;
 
+    @Getter private static final StartupProfiler startupProfiler = new StartupProfiler();
+
     @Getter private static ApolloRoundtripManager roundtripManager;
     @Getter private static ApolloHttpManager httpManager;
     @Getter private static ApolloNetworkManager networkManager;
     @Getter private static ApolloVersionManager versionManager;
     @Getter private static ApolloStatsManager statsManager;
+    @Getter private static LocationSnapshotService locationSnapshotService;
+    @Getter private static ManagedDisplayManager displayManager;
+    @Getter private static ClientStateLedger clientStateLedger;
+    @Getter private static ProxyStateLedger proxyStateLedger;
+    @Getter private static SettingsProfileManager settingsProfileManager;
+    @Getter private static ApolloScheduler scheduler;
 
     @Getter private static Path configPath;
 
@@ -90,19 +108,31 @@ public final class ApolloManager {
             throw new IllegalStateException("Cannot bootstrap Apollo more than once!");
         }
 
+        ApolloManager.startupProfiler.phase("bootstrap");
+
         try {
             Apollo.initialize(
                 platform,
                 new ApolloModuleManagerImpl(),
                 new ApolloWorldManagerImpl(),
-                new ApolloPlayerManagerImpl()
+                new ApolloPlayerManagerImpl(),
+                new ApolloTimelineManagerImpl(),
+                new ApolloRegionManagerImpl(platform.getKind() == ApolloPlatform.Kind.SERVER)
             );
 
-            ApolloManager.roundtripManager = new ApolloRoundtripManager();
+            ApolloManager.roundtripManager = new ApolloRoundtripManager(ApolloExecutors.timer());
             ApolloManager.httpManager = new ApolloHttpManager();
             ApolloManager.networkManager = new ApolloNetworkManager();
             ApolloManager.versionManager = new ApolloVersionManager();
             ApolloManager.statsManager = new ApolloStatsManager();
+            ApolloManager.locationSnapshotService = new LocationSnapshotService();
+            ApolloManager.displayManager = new ManagedDisplayManager();
+            ApolloManager.clientStateLedger = new ClientStateLedger();
+            ApolloManager.settingsProfileManager = new SettingsProfileManager();
+
+            if (platform.getKind() == ApolloPlatform.Kind.PROXY) {
+                ApolloManager.proxyStateLedger = new ProxyStateLedger();
+            }
 
             new CommonSerializers();
 
@@ -134,6 +164,19 @@ public final class ApolloManager {
         ApolloManager.configPath = path;
     }
 
+    /**
+     * Sets the scheduler of the platform.
+     *
+     * <p>Platforms without a main thread don't set one, in which case work
+     * that would be handed to the scheduler runs on the calling thread.</p>
+     *
+     * @param scheduler the scheduler
+     * @since 1.1.6
+     */
+    public static void setScheduler(ApolloScheduler scheduler) {
+        ApolloManager.scheduler = scheduler;
+    }
+
     /**
      * Loads the configuration.
      *
@@ -29,6 +29,7 @@ import com.lunarclient.apollo.api.request.DownloadFileRequest;
 import com.lunarclient.apollo.api.response.DownloadFileResponse;
 import com.lunarclient.apollo.async.Future;
 import com.lunarclient.apollo.async.future.UncertainFuture;
+import com.lunarclient.apollo.util.ApolloExecutors;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -40,7 +41,6 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jetbrains.annotations.Nullable;
@@ -55,6 +55,9 @@ public final class ApolloHttpManager {
     /**
      * The executor for http requests.
      *
+     * <p>Requests block on I/O, so they run on the shared
+     * {@link ApolloExecutors#blocking()} executor.</p>
+     *
      * @since 1.0.0
      */
     private final ExecutorService requestExecutor;
@@ -65,7 +68,7 @@ public final class ApolloHttpManager {
      * @since 1.0.0
      */
     public ApolloHttpManager() {
-        this.requestExecutor = Executors.newSingleThreadExecutor();
+        this.requestExecutor = ApolloExecutors.blocking();
     }
 
     /**
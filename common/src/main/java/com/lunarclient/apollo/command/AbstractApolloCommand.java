@@ -89,6 +89,18 @@ public abstract class AbstractApolloCommand<T> {
         ));
     }
 
+    /**
+     * Sends the startup report to the sender.
+     *
+     * @param sender the command sender
+     * @since 1.1.6
+     */
+    protected void sendStartupReport(@NonNull T sender) {
+        for (String line : ApolloManager.getStartupProfiler().getReport()) {
+            this.textConsumer.accept(sender, Component.text(line, NamedTextColor.GRAY));
+        }
+    }
+
     /**
      * Sends the command usage to the sender.
      *
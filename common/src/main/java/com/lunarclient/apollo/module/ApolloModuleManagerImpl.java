@@ -23,22 +23,41 @@
  */
 package com.lunarclient.apollo.module;
 
+import com.lunarclient.apollo.Apollo;
 import com.lunarclient.apollo.ApolloConfig;
 import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.event.EventBus;
+import com.lunarclient.apollo.network.NetworkOptions;
 import com.lunarclient.apollo.option.ConfigOptions;
+import com.lunarclient.apollo.option.ListOption;
+import com.lunarclient.apollo.option.NumberOption;
 import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.option.Options;
 import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.option.SimpleOption;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.scheduler.ApolloScheduler;
+import com.lunarclient.apollo.startup.StartupProfiler;
 import com.lunarclient.apollo.util.ConfigTarget;
+import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import lombok.NoArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.NonNull;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 
@@ -47,10 +66,57 @@ import org.spongepowered.configurate.CommentedConfigurationNode;
  *
  * @since 1.0.0
  */
-@NoArgsConstructor
 public final class ApolloModuleManagerImpl implements ApolloModuleManager {
 
+    /**
+     * Whether module configurations are read in parallel on startup.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> PARALLEL_CONFIG_LOADING = Option.<Boolean>builder()
+        .comment("Set to 'true' to read module configurations in parallel on startup, otherwise 'false'.")
+        .node("module-startup", "parallel-config-loading").type(TypeToken.get(Boolean.class))
+        .defaultValue(true).build();
+
+    /**
+     * The modules that are enabled after startup instead of during it.
+     *
+     * @since 1.1.6
+     */
+    public static final ListOption<String> DEFERRED_MODULES = Option.<String>list()
+        .comment("A list of module ids that are enabled shortly after startup, on first use or when the first player joins.")
+        .node("module-startup", "deferred-modules").type(new TypeToken<List<String>>() {})
+        .defaultValue(new ArrayList<>(Arrays.asList("rich_presence", "staff_mod", "transfer")))
+        .build();
+
+    /**
+     * The delay in seconds after startup before deferred modules are enabled.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> DEFER_DELAY = Option.<Integer>number()
+        .comment("Set the delay in seconds after startup before deferred modules are enabled.")
+        .node("module-startup", "defer-delay").type(TypeToken.get(Integer.class))
+        .defaultValue(5).min(0).max(300).build();
+
+    private static final int MAX_CONFIG_THREADS = 4;
+
     private final Map<Class<? extends ApolloModule>, ApolloModule> modules = new LinkedHashMap<>();
+    private final Set<ApolloModule> deferredModules = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final AtomicBoolean deferredEnableScheduled = new AtomicBoolean();
+
+    /**
+     * Constructs the {@link ApolloModuleManagerImpl}.
+     *
+     * @since 1.1.6
+     */
+    public ApolloModuleManagerImpl() {
+        ApolloManager.registerOptions(
+            ApolloModuleManagerImpl.PARALLEL_CONFIG_LOADING,
+            ApolloModuleManagerImpl.DEFERRED_MODULES,
+            ApolloModuleManagerImpl.DEFER_DELAY
+        );
+    }
 
     @Override
     public boolean isEnabled(@NonNull Class<? extends ApolloModule> moduleClass) {
@@ -60,7 +126,12 @@ public final class ApolloModuleManagerImpl implements ApolloModuleManager {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends ApolloModule> T getModule(@NonNull Class<T> moduleClass) {
-        return (T) this.modules.get(moduleClass);
+        T module = (T) this.modules.get(moduleClass);
+        if (module != null && this.deferredModules.contains(module)) {
+            this.scheduleDeferredModules();
+        }
+
+        return module;
     }
 
     @Override
@@ -68,27 +139,104 @@ public final class ApolloModuleManagerImpl implements ApolloModuleManager {
         return Collections.unmodifiableCollection(this.modules.values());
     }
 
+    /**
+     * Returns the {@link Option}s registered by the provided module.
+     *
+     * @param module the module
+     * @return the module option keys
+     * @since 1.1.6
+     */
+    public List<Option<?, ?, ?>> getOptionKeys(@NonNull ApolloModule module) {
+        return Collections.unmodifiableList(module.getOptionKeys());
+    }
+
     /**
      * Enables all the added modules, if they are not already enabled.
      *
+     * <p>Module configurations are read in parallel when enabled, then
+     * applied and enabled in registration order on the calling thread.
+     * Modules listed in {@link #DEFERRED_MODULES} are left for
+     * {@link #enableDeferredModules()}.</p>
+     *
      * @throws Throwable if there is an error enabling the modules
      * @since 1.0.0
      */
     public void enableModules() throws Throwable {
+        StartupProfiler profiler = ApolloManager.getStartupProfiler();
+        Options platformOptions = Apollo.getPlatform().getOptions();
+        Set<String> deferredIds = new HashSet<>(platformOptions.get(ApolloModuleManagerImpl.DEFERRED_MODULES));
+
+        long readStart = System.nanoTime();
+        Map<ApolloModule, List<Map.Entry<Option<?, ?, ?>, Object>>> configurations = this.readConfigurations(
+            platformOptions.get(ApolloModuleManagerImpl.PARALLEL_CONFIG_LOADING)
+        );
+        profiler.record("read-configuration", System.nanoTime() - readStart);
+
         for (ApolloModule module : this.modules.values()) {
+            long start = System.nanoTime();
+
             // Load configuration options for the module.
             module.setOptions(new OptionsImpl(module));
-
-            List<Option<?, ?, ?>> options = module.getOptionKeys();
-            this.loadConfiguration(module, options);
+            ConfigOptions.applyOptions(module.getOptions(), configurations.get(module));
 
             // Enable the module if it is able to.
-            if (module.isEnabled() || module.getOptions().get(ApolloModule.ENABLE_OPTION_ON) == Boolean.FALSE) {
-                continue;
+            if (!module.isEnabled() && module.getOptions().get(ApolloModule.ENABLE_OPTION_ON) != Boolean.FALSE) {
+                if (deferredIds.contains(module.getId())) {
+                    this.deferredModules.add(module);
+                } else {
+                    EventBus.getBus().register(module);
+                    module.enable();
+                }
             }
 
-            EventBus.getBus().register(module);
-            module.enable();
+            profiler.record(module.getId(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Enables the modules that were deferred during startup on the
+     * platform's global thread.
+     *
+     * <p>The modules are enabled on the next tick, or right away on
+     * platforms without a scheduler.</p>
+     *
+     * @since 1.1.6
+     */
+    public void scheduleDeferredModules() {
+        if (this.deferredModules.isEmpty()) {
+            return;
+        }
+
+        ApolloScheduler scheduler = ApolloManager.getScheduler();
+        if (scheduler == null) {
+            this.enableDeferredModules();
+            return;
+        }
+
+        if (this.deferredEnableScheduled.compareAndSet(false, true)) {
+            scheduler.runGlobal(() -> {
+                this.deferredEnableScheduled.set(false);
+                this.enableDeferredModules();
+            });
+        }
+    }
+
+    /**
+     * Enables the modules that were deferred during startup, in
+     * registration order.
+     *
+     * <p>This must be called from the platform's global thread, use
+     * {@link #scheduleDeferredModules()} from any other thread.</p>
+     *
+     * @since 1.1.6
+     */
+    public void enableDeferredModules() {
+        if (this.deferredModules.isEmpty()) {
+            return;
+        }
+
+        for (ApolloModule module : this.modules.values()) {
+            this.enableDeferredModule(module);
         }
     }
 
@@ -100,6 +248,8 @@ public final class ApolloModuleManagerImpl implements ApolloModuleManager {
      * @since 1.0.5
      */
     public void reloadModules() throws Throwable {
+        this.enableDeferredModules();
+
         for (ApolloModule module : this.modules.values()) {
             List<Option<?, ?, ?>> options = module.getOptionKeys();
             this.loadConfiguration(module, options);
@@ -126,6 +276,8 @@ public final class ApolloModuleManagerImpl implements ApolloModuleManager {
      * @since 1.0.0
      */
     public void disableModules() {
+        this.deferredModules.clear();
+
         for (ApolloModule module : this.modules.values()) {
             if (!module.isEnabled()) {
                 continue;
@@ -191,6 +343,77 @@ public final class ApolloModuleManagerImpl implements ApolloModuleManager {
         }
     }
 
+    private synchronized void enableDeferredModule(ApolloModule module) {
+        if (!this.deferredModules.remove(module)) {
+            return;
+        }
+
+        EventBus.getBus().register(module);
+        module.enable();
+
+        // Players that joined before the module was enabled were told it was disabled
+        Collection<ApolloPlayer> players = Apollo.getPlayerManager().getPlayers();
+        if (!players.isEmpty()) {
+            NetworkOptions.sendOptions(Collections.singletonList(module), true, players.toArray(new ApolloPlayer[0]));
+        }
+    }
+
+    private Map<ApolloModule, List<Map.Entry<Option<?, ?, ?>, Object>>> readConfigurations(boolean parallel) throws Throwable {
+        Map<ApolloModule, List<Map.Entry<Option<?, ?, ?>, Object>>> configurations = new HashMap<>();
+
+        // Load the configuration files up front, the config cache isn't thread safe
+        for (ApolloModule module : this.modules.values()) {
+            ApolloConfig.compute(ApolloManager.getConfigPath(), module.getConfigTarget());
+        }
+
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), ApolloModuleManagerImpl.MAX_CONFIG_THREADS);
+        if (!parallel || threads < 2) {
+            for (ApolloModule module : this.modules.values()) {
+                configurations.put(module, this.readConfiguration(module));
+            }
+
+            return configurations;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Apollo Config Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Map<ApolloModule, Future<List<Map.Entry<Option<?, ?, ?>, Object>>>> futures = new LinkedHashMap<>();
+            for (ApolloModule module : this.modules.values()) {
+                futures.put(module, executor.submit(() -> this.readConfiguration(module)));
+            }
+
+            for (Map.Entry<ApolloModule, Future<List<Map.Entry<Option<?, ?, ?>, Object>>>> entry : futures.entrySet()) {
+                try {
+                    configurations.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException exception) {
+                    throw exception.getCause();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return configurations;
+    }
+
+    private List<Map.Entry<Option<?, ?, ?>, Object>> readConfiguration(ApolloModule module) {
+        ConfigTarget configTarget = module.getConfigTarget();
+        CommentedConfigurationNode node = ApolloConfig.get(configTarget).node();
+
+        CommentedConfigurationNode modules = node.node((Object[]) configTarget.getModulesNode());
+        CommentedConfigurationNode moduleNode = modules.node(module.getId().toLowerCase(Locale.ROOT));
+        if (moduleNode.virtual()) {
+            return Collections.emptyList();
+        }
+
+        return ConfigOptions.readOptions(moduleNode, module.getOptionKeys());
+    }
+
     private void loadConfiguration(ApolloModule module, List<Option<?, ?, ?>> options) throws Throwable {
         ConfigTarget configTarget = module.getConfigTarget();
         ApolloConfig config = ApolloConfig.compute(ApolloManager.getConfigPath(), configTarget);
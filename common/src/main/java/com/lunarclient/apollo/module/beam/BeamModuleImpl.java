@@ -23,12 +23,15 @@
  */
 package com.lunarclient.apollo.module.beam;
 
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.beam.v1.DisplayBeaconBeamMessage;
 import com.lunarclient.apollo.beam.v1.RemoveBeaconBeamMessage;
 import com.lunarclient.apollo.beam.v1.ResetBeaconBeamsMessage;
+import com.lunarclient.apollo.common.location.ApolloBlockLocation;
 import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
+import com.lunarclient.apollo.spatial.ManagedDisplayTracker;
 import lombok.NonNull;
 
 /**
@@ -38,13 +41,12 @@ import lombok.NonNull;
  */
 public final class BeamModuleImpl extends BeamModule {
 
+    private final ManagedDisplayTracker managedBeams = ApolloManager.getDisplayManager()
+        .createTracker(() -> this.getOptions().get(BeamModule.MANAGED_VIEW_DISTANCE));
+
     @Override
     public void displayBeam(@NonNull Recipients recipients, @NonNull Beam beam) {
-        DisplayBeaconBeamMessage message = DisplayBeaconBeamMessage.newBuilder()
-            .setId(beam.getId())
-            .setLocation(NetworkTypes.toProtobuf(beam.getLocation()))
-            .setColor(NetworkTypes.toProtobuf(beam.getColor()))
-            .build();
+        DisplayBeaconBeamMessage message = this.toProtobuf(beam);
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
     }
@@ -69,4 +71,28 @@ public final class BeamModuleImpl extends BeamModule {
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
     }
 
+    @Override
+    public void registerBeam(@NonNull Beam beam) {
+        ApolloBlockLocation location = beam.getLocation();
+        RemoveBeaconBeamMessage removeMessage = RemoveBeaconBeamMessage.newBuilder()
+            .setId(beam.getId())
+            .build();
+
+        this.managedBeams.register(beam.getId(), location.getWorld(),
+            location.getX(), location.getZ(), this.toProtobuf(beam), removeMessage);
+    }
+
+    @Override
+    public void unregisterBeam(@NonNull String beamId) {
+        this.managedBeams.unregister(beamId);
+    }
+
+    private DisplayBeaconBeamMessage toProtobuf(Beam beam) {
+        return DisplayBeaconBeamMessage.newBuilder()
+            .setId(beam.getId())
+            .setLocation(NetworkTypes.toProtobuf(beam.getLocation()))
+            .setColor(NetworkTypes.toProtobuf(beam.getColor()))
+            .build();
+    }
+
 }
@@ -23,6 +23,7 @@
  */
 package com.lunarclient.apollo.module.border;
 
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.border.v1.DisplayBorderMessage;
 import com.lunarclient.apollo.border.v1.RemoveBorderMessage;
 import com.lunarclient.apollo.border.v1.ResetBordersMessage;
@@ -30,7 +31,6 @@ import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
 import lombok.NonNull;
-
 import static com.lunarclient.apollo.util.Ranges.checkPositive;
 
 /**
@@ -54,6 +54,7 @@ public final class BorderModuleImpl extends BorderModule {
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().display(recipients, this.getId(), border.getId(), message);
     }
 
     @Override
@@ -63,6 +64,7 @@ public final class BorderModuleImpl extends BorderModule {
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().remove(recipients, this.getId(), borderId);
     }
 
     @Override
@@ -74,6 +76,7 @@ public final class BorderModuleImpl extends BorderModule {
     public void resetBorders(@NonNull Recipients recipients) {
         ResetBordersMessage message = ResetBordersMessage.getDefaultInstance();
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().reset(recipients, this.getId());
     }
 
 }
@@ -43,7 +43,7 @@ public final class ColoredFireModuleImpl extends ColoredFireModule {
     @Override
     public void overrideColoredFire(@NonNull Recipients recipients, @NonNull UUID burningPlayer, @NonNull Color color) {
         OverrideColoredFireMessage message = OverrideColoredFireMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(burningPlayer))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(burningPlayer))
             .setColor(NetworkTypes.toProtobuf(color))
             .build();
 
@@ -53,7 +53,7 @@ public final class ColoredFireModuleImpl extends ColoredFireModule {
     @Override
     public void resetColoredFire(@NonNull Recipients recipients, @NonNull UUID burningPlayer) {
         ResetColoredFireMessage message = ResetColoredFireMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(burningPlayer))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(burningPlayer))
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
@@ -23,13 +23,29 @@
  */
 package com.lunarclient.apollo.module.cooldown;
 
+import com.lunarclient.apollo.Apollo;
 import com.lunarclient.apollo.cooldown.v1.DisplayCooldownMessage;
 import com.lunarclient.apollo.cooldown.v1.RemoveCooldownMessage;
 import com.lunarclient.apollo.cooldown.v1.ResetCooldownsMessage;
+import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
 import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
+import com.lunarclient.apollo.util.ApolloExecutors;
+import com.lunarclient.apollo.util.TimingWheel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 
 /**
  * Provides the cooldown module.
@@ -38,14 +54,28 @@ import lombok.NonNull;
  */
 public final class CooldownModuleImpl extends CooldownModule {
 
+    private static final long EXPIRY_TICK_MILLIS = 50L;
+
+    private final Map<UUID, Map<String, ActiveCooldown>> activeCooldowns = new HashMap<>();
+    private final TimingWheel<ActiveCooldown> expiryWheel = new TimingWheel<>(
+        CooldownModuleImpl.EXPIRY_TICK_MILLIS, 512, System.currentTimeMillis()
+    );
+
+    private ScheduledFuture<?> expiryTask;
+
+    /**
+     * Creates a new instance of {@link CooldownModuleImpl}.
+     *
+     * @since 1.1.6
+     */
+    public CooldownModuleImpl() {
+        super();
+        this.handle(ApolloRegisterPlayerEvent.class, this::onPlayerRegister);
+    }
+
     @Override
     public void displayCooldown(@NonNull Recipients recipients, @NonNull Cooldown cooldown) {
-        DisplayCooldownMessage message = DisplayCooldownMessage.newBuilder()
-            .setName(cooldown.getName())
-            .setDuration(NetworkTypes.toProtobuf(cooldown.getDuration()))
-            .setIcon(NetworkTypes.toProtobuf(cooldown.getIcon()))
-            .build();
-
+        DisplayCooldownMessage message = this.toProtobuf(cooldown, cooldown.getDuration());
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
     }
 
@@ -69,4 +99,186 @@ public final class CooldownModuleImpl extends CooldownModule {
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
     }
 
+    @Override
+    public void startCooldown(@NonNull UUID playerUuid, @NonNull Cooldown cooldown) {
+        long expiresAt = System.currentTimeMillis() + cooldown.getDuration().toMillis();
+        ActiveCooldown active = new ActiveCooldown(playerUuid, cooldown, expiresAt);
+        ActiveCooldown dropped = null;
+
+        synchronized (this.activeCooldowns) {
+            Map<String, ActiveCooldown> cooldowns = this.activeCooldowns.computeIfAbsent(playerUuid, key -> new HashMap<>());
+
+            ActiveCooldown previous = cooldowns.remove(cooldown.getName());
+            if (previous != null) {
+                this.expiryWheel.cancel(previous.timeout);
+            }
+
+            if (cooldowns.size() >= this.getOptions().get(CooldownModule.MAX_ACTIVE_COOLDOWNS)) {
+                for (ActiveCooldown compare : cooldowns.values()) {
+                    if (dropped == null || compare.expiresAt < dropped.expiresAt) {
+                        dropped = compare;
+                    }
+                }
+
+                cooldowns.remove(dropped.cooldown.getName());
+                this.expiryWheel.cancel(dropped.timeout);
+            }
+
+            cooldowns.put(cooldown.getName(), active);
+            active.timeout = this.expiryWheel.schedule(active, expiresAt);
+
+            // The expiry task only runs while the wheel holds a cooldown
+            if (this.expiryTask == null) {
+                this.expiryTask = ApolloExecutors.timer().scheduleAtFixedRate(this::expireCooldowns, CooldownModuleImpl.EXPIRY_TICK_MILLIS,
+                    CooldownModuleImpl.EXPIRY_TICK_MILLIS, TimeUnit.MILLISECONDS
+                );
+            }
+        }
+
+        Optional<ApolloPlayer> playerOpt = Apollo.getPlayerManager().getPlayer(playerUuid);
+        if (playerOpt.isPresent()) {
+            AbstractApolloPlayer player = (AbstractApolloPlayer) playerOpt.get();
+            if (dropped != null) {
+                this.removeCooldown(player, dropped.cooldown.getName());
+            }
+
+            player.sendPacket(this.toProtobuf(cooldown, cooldown.getDuration()));
+        }
+    }
+
+    @Override
+    public void cancelCooldown(@NonNull UUID playerUuid, @NonNull String cooldownName) {
+        synchronized (this.activeCooldowns) {
+            Map<String, ActiveCooldown> cooldowns = this.activeCooldowns.get(playerUuid);
+            ActiveCooldown active = cooldowns == null ? null : cooldowns.remove(cooldownName);
+            if (active == null) {
+                return;
+            }
+
+            this.expiryWheel.cancel(active.timeout);
+            if (cooldowns.isEmpty()) {
+                this.activeCooldowns.remove(playerUuid);
+            }
+
+            this.stopExpiryTaskIfIdle();
+        }
+
+        Apollo.getPlayerManager().getPlayer(playerUuid).ifPresent(player -> this.removeCooldown(player, cooldownName));
+    }
+
+    @Override
+    public Optional<Duration> getRemainingCooldown(@NonNull UUID playerUuid, @NonNull String cooldownName) {
+        long now = System.currentTimeMillis();
+
+        synchronized (this.activeCooldowns) {
+            Map<String, ActiveCooldown> cooldowns = this.activeCooldowns.get(playerUuid);
+            ActiveCooldown active = cooldowns == null ? null : cooldowns.get(cooldownName);
+            if (active == null || active.expiresAt <= now) {
+                return Optional.empty();
+            }
+
+            return Optional.of(Duration.ofMillis(active.expiresAt - now));
+        }
+    }
+
+    private void expireCooldowns() {
+        List<ActiveCooldown> expired = new ArrayList<>();
+
+        // An exception would cancel the expiry task, keep it running
+        try {
+            synchronized (this.activeCooldowns) {
+                this.expiryWheel.advance(System.currentTimeMillis(), active -> {
+                    Map<String, ActiveCooldown> cooldowns = this.activeCooldowns.get(active.playerUuid);
+                    if (cooldowns != null) {
+                        cooldowns.remove(active.cooldown.getName());
+
+                        if (cooldowns.isEmpty()) {
+                            this.activeCooldowns.remove(active.playerUuid);
+                        }
+                    }
+
+                    expired.add(active);
+                });
+
+                this.stopExpiryTaskIfIdle();
+            }
+        } catch (Throwable throwable) {
+            Apollo.getPlatform().getPlatformLogger().log(Level.WARNING, "Unable to expire cooldowns!", throwable);
+        }
+
+        for (ActiveCooldown active : expired) {
+            try {
+                Apollo.getPlayerManager().getPlayer(active.playerUuid)
+                    .ifPresent(player -> this.removeCooldown(player, active.cooldown.getName()));
+            } catch (Throwable throwable) {
+                Apollo.getPlatform().getPlatformLogger().log(Level.WARNING,
+                    "Unable to remove expired cooldown " + active.cooldown.getName() + "!", throwable);
+            }
+        }
+    }
+
+    @Override
+    protected void onDisable() {
+        synchronized (this.activeCooldowns) {
+            for (Map<String, ActiveCooldown> cooldowns : this.activeCooldowns.values()) {
+                for (ActiveCooldown active : cooldowns.values()) {
+                    this.expiryWheel.cancel(active.timeout);
+                }
+            }
+
+            this.activeCooldowns.clear();
+            this.stopExpiryTaskIfIdle();
+        }
+    }
+
+    private void stopExpiryTaskIfIdle() {
+        if (this.expiryTask == null || this.expiryWheel.size() > 0) {
+            return;
+        }
+
+        this.expiryTask.cancel(false);
+        this.expiryTask = null;
+    }
+
+    private void onPlayerRegister(ApolloRegisterPlayerEvent event) {
+        ApolloPlayer player = event.getPlayer();
+        List<DisplayCooldownMessage> messages = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (this.activeCooldowns) {
+            Map<String, ActiveCooldown> cooldowns = this.activeCooldowns.get(player.getUniqueId());
+            if (cooldowns == null) {
+                return;
+            }
+
+            for (ActiveCooldown active : cooldowns.values()) {
+                if (active.expiresAt > now) {
+                    messages.add(this.toProtobuf(active.cooldown, Duration.ofMillis(active.expiresAt - now)));
+                }
+            }
+        }
+
+        for (DisplayCooldownMessage message : messages) {
+            ((AbstractApolloPlayer) player).sendPacket(message);
+        }
+    }
+
+    private DisplayCooldownMessage toProtobuf(Cooldown cooldown, Duration duration) {
+        return DisplayCooldownMessage.newBuilder()
+            .setName(cooldown.getName())
+            .setDuration(NetworkTypes.toProtobuf(duration))
+            .setIcon(NetworkTypes.toProtobuf(cooldown.getIcon()))
+            .build();
+    }
+
+    @RequiredArgsConstructor
+    private static final class ActiveCooldown {
+
+        private final UUID playerUuid;
+        private final Cooldown cooldown;
+        private final long expiresAt;
+        private TimingWheel.Timeout<ActiveCooldown> timeout;
+
+    }
+
 }
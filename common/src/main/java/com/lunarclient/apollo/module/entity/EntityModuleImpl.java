@@ -47,7 +47,7 @@ public final class EntityModuleImpl extends EntityModule {
     @Override
     public void overrideRainbowSheep(@NonNull Recipients recipients, @NonNull List<ApolloEntity> sheepEntities) {
         Set<EntityId> sheepUuidsProto = sheepEntities.stream()
-            .map(NetworkTypes::toProtobuf)
+            .map(NetworkTypes::toCachedProtobuf)
             .collect(Collectors.toSet());
 
         OverrideRainbowSheepMessage message = OverrideRainbowSheepMessage.newBuilder()
@@ -60,7 +60,7 @@ public final class EntityModuleImpl extends EntityModule {
     @Override
     public void resetRainbowSheep(@NonNull Recipients recipients, @NonNull List<ApolloEntity> sheepEntities) {
         Set<EntityId> sheepUuidsProto = sheepEntities.stream()
-            .map(NetworkTypes::toProtobuf)
+            .map(NetworkTypes::toCachedProtobuf)
             .collect(Collectors.toSet());
 
         ResetRainbowSheepMessage message = ResetRainbowSheepMessage.newBuilder()
@@ -73,7 +73,7 @@ public final class EntityModuleImpl extends EntityModule {
     @Override
     public void flipEntity(@NonNull Recipients recipients, @NonNull List<ApolloEntity> entities) {
         Set<EntityId> entityUuidsProto = entities.stream()
-            .map(NetworkTypes::toProtobuf)
+            .map(NetworkTypes::toCachedProtobuf)
             .collect(Collectors.toSet());
 
         FlipEntityMessage message = FlipEntityMessage.newBuilder()
@@ -86,7 +86,7 @@ public final class EntityModuleImpl extends EntityModule {
     @Override
     public void resetFlippedEntity(@NonNull Recipients recipients, @NonNull List<ApolloEntity> entities) {
         Set<EntityId> entityUuidsProto = entities.stream()
-            .map(NetworkTypes::toProtobuf)
+            .map(NetworkTypes::toCachedProtobuf)
             .collect(Collectors.toSet());
 
         ResetFlipedEntityMessage message = ResetFlipedEntityMessage.newBuilder()
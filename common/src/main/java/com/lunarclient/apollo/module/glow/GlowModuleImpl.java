@@ -23,6 +23,7 @@
  */
 package com.lunarclient.apollo.module.glow;
 
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.glow.v1.OverrideGlowEffectMessage;
 import com.lunarclient.apollo.glow.v1.ResetGlowEffectMessage;
 import com.lunarclient.apollo.glow.v1.ResetGlowEffectsMessage;
@@ -43,26 +44,29 @@ public final class GlowModuleImpl extends GlowModule {
     @Override
     public void overrideGlow(@NonNull Recipients recipients, @NonNull UUID glowingPlayer, @NonNull Color color) {
         OverrideGlowEffectMessage message = OverrideGlowEffectMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(glowingPlayer))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(glowingPlayer))
             .setColor(NetworkTypes.toProtobuf(color))
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().display(recipients, this.getId(), glowingPlayer.toString(), message);
     }
 
     @Override
     public void resetGlow(@NonNull Recipients recipients, @NonNull UUID glowingPlayer) {
         ResetGlowEffectMessage message = ResetGlowEffectMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(glowingPlayer))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(glowingPlayer))
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().remove(recipients, this.getId(), glowingPlayer.toString());
     }
 
     @Override
     public void resetGlow(@NonNull Recipients recipients) {
         ResetGlowEffectsMessage message = ResetGlowEffectsMessage.getDefaultInstance();
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().reset(recipients, this.getId());
     }
 
 }
@@ -23,13 +23,16 @@
  */
 package com.lunarclient.apollo.module.hologram;
 
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.common.ApolloComponent;
+import com.lunarclient.apollo.common.location.ApolloLocation;
 import com.lunarclient.apollo.hologram.v1.DisplayHologramMessage;
 import com.lunarclient.apollo.hologram.v1.RemoveHologramMessage;
 import com.lunarclient.apollo.hologram.v1.ResetHologramsMessage;
 import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
+import com.lunarclient.apollo.spatial.ManagedDisplayTracker;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 
@@ -40,21 +43,14 @@ import lombok.NonNull;
  */
 public final class HologramModuleImpl extends HologramModule {
 
+    private final ManagedDisplayTracker managedHolograms = ApolloManager.getDisplayManager()
+        .createTracker(() -> this.getOptions().get(HologramModule.MANAGED_VIEW_DISTANCE));
+
     @Override
     public void displayHologram(@NonNull Recipients recipients, @NonNull Hologram hologram) {
-        DisplayHologramMessage message = DisplayHologramMessage.newBuilder()
-            .setId(hologram.getId())
-            .setLocation(NetworkTypes.toProtobuf(hologram.getLocation()))
-            .addAllAdventureJsonLines(hologram.getLines().stream()
-                .map(ApolloComponent::toJson)
-                .collect(Collectors.toList())
-            )
-            .setShowThroughWalls(hologram.isShowThroughWalls())
-            .setShowShadow(hologram.isShowShadow())
-            .setShowBackground(hologram.isShowBackground())
-            .build();
-
+        DisplayHologramMessage message = this.toProtobuf(hologram);
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().display(recipients, this.getId(), hologram.getId(), message);
     }
 
     @Override
@@ -64,6 +60,7 @@ public final class HologramModuleImpl extends HologramModule {
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().remove(recipients, this.getId(), hologramId);
     }
 
     @Override
@@ -75,6 +72,37 @@ public final class HologramModuleImpl extends HologramModule {
     public void resetHolograms(@NonNull Recipients recipients) {
         ResetHologramsMessage message = ResetHologramsMessage.getDefaultInstance();
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().reset(recipients, this.getId());
+    }
+
+    @Override
+    public void registerHologram(@NonNull Hologram hologram) {
+        ApolloLocation location = hologram.getLocation();
+        RemoveHologramMessage removeMessage = RemoveHologramMessage.newBuilder()
+            .setId(hologram.getId())
+            .build();
+
+        this.managedHolograms.register(hologram.getId(), location.getWorld(),
+            location.getX(), location.getZ(), this.toProtobuf(hologram), removeMessage);
+    }
+
+    @Override
+    public void unregisterHologram(@NonNull String hologramId) {
+        this.managedHolograms.unregister(hologramId);
+    }
+
+    private DisplayHologramMessage toProtobuf(Hologram hologram) {
+        return DisplayHologramMessage.newBuilder()
+            .setId(hologram.getId())
+            .setLocation(NetworkTypes.toProtobuf(hologram.getLocation()))
+            .addAllAdventureJsonLines(hologram.getLines().stream()
+                .map(ApolloComponent::toJson)
+                .collect(Collectors.toList())
+            )
+            .setShowThroughWalls(hologram.isShowThroughWalls())
+            .setShowShadow(hologram.isShowShadow())
+            .setShowBackground(hologram.isShowBackground())
+            .build();
     }
 
 }
@@ -50,7 +50,7 @@ public final class LimbModuleImpl extends LimbModule {
             .collect(Collectors.toSet());
 
         HideArmorPiecesMessage message = HideArmorPiecesMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(playerUuid))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
             .addAllArmorPieces(pieces)
             .build();
 
@@ -64,7 +64,7 @@ public final class LimbModuleImpl extends LimbModule {
             .collect(Collectors.toSet());
 
         ResetArmorPiecesMessage message = ResetArmorPiecesMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(playerUuid))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
             .addAllArmorPieces(pieces)
             .build();
 
@@ -78,7 +78,7 @@ public final class LimbModuleImpl extends LimbModule {
             .collect(Collectors.toSet());
 
         HideBodyPartMessage message = HideBodyPartMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(playerUuid))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
             .addAllBodyParts(parts)
             .build();
 
@@ -92,7 +92,7 @@ public final class LimbModuleImpl extends LimbModule {
             .collect(Collectors.toSet());
 
         ResetBodyPartMessage message = ResetBodyPartMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(playerUuid))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
             .addAllBodyParts(parts)
             .build();
 
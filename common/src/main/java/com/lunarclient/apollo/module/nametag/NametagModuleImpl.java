@@ -23,6 +23,7 @@
  */
 package com.lunarclient.apollo.module.nametag;
 
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.common.ApolloComponent;
 import com.lunarclient.apollo.nametag.v1.OverrideNametagMessage;
 import com.lunarclient.apollo.nametag.v1.ResetNametagMessage;
@@ -49,26 +50,29 @@ public final class NametagModuleImpl extends NametagModule {
             .collect(Collectors.toList());
 
         OverrideNametagMessage message = OverrideNametagMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(playerUuid))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
             .addAllAdventureJsonLines(lines)
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().display(recipients, this.getId(), playerUuid.toString(), message);
     }
 
     @Override
     public void resetNametag(@NonNull Recipients recipients, @NonNull UUID playerUuid) {
         ResetNametagMessage message = ResetNametagMessage.newBuilder()
-            .setPlayerUuid(NetworkTypes.toProtobuf(playerUuid))
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().remove(recipients, this.getId(), playerUuid.toString());
     }
 
     @Override
     public void resetNametags(@NonNull Recipients recipients) {
         ResetNametagsMessage message = ResetNametagsMessage.getDefaultInstance();
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().reset(recipients, this.getId());
     }
 
 }
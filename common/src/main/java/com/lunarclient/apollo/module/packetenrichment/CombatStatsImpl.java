@@ -0,0 +1,190 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.module.packetenrichment;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the recent attacks of a player in fixed size primitive ring buffers.
+ *
+ * <p>Recording and reading never allocate. All access is synchronized, so
+ * packets can be recorded on a decoder thread while plugins read the
+ * statistics from another thread.</p>
+ *
+ * @since 1.1.6
+ */
+final class CombatStatsImpl implements CombatStats {
+
+    private static final long WINDOW_MILLIS = 1000L;
+
+    private final int capacity;
+
+    private final long[] attackReceivedAt;
+    private final long[] attackTimes;
+    private final double[] distances;
+    private final double[] targetX;
+    private final double[] targetY;
+    private final double[] targetZ;
+    private final double[] sortedDistances;
+    private int attackHead;
+    private int attackCount;
+    private long totalAttacks;
+
+    private final long[] useReceivedAt;
+    private int useHead;
+    private int useCount;
+
+    CombatStatsImpl(int capacity) {
+        this.capacity = capacity;
+        this.attackReceivedAt = new long[capacity];
+        this.attackTimes = new long[capacity];
+        this.distances = new double[capacity];
+        this.targetX = new double[capacity];
+        this.targetY = new double[capacity];
+        this.targetZ = new double[capacity];
+        this.sortedDistances = new double[capacity];
+        this.useReceivedAt = new long[capacity];
+    }
+
+    synchronized void recordAttack(long receivedAt, long time, double distance, double x, double y, double z) {
+        int slot = this.attackHead;
+        this.attackReceivedAt[slot] = receivedAt;
+        this.attackTimes[slot] = time;
+        this.distances[slot] = distance;
+        this.targetX[slot] = x;
+        this.targetY[slot] = y;
+        this.targetZ[slot] = z;
+
+        this.attackHead = (slot + 1) % this.capacity;
+        this.attackCount = Math.min(this.attackCount + 1, this.capacity);
+        this.totalAttacks++;
+    }
+
+    synchronized void recordUseItem(long receivedAt) {
+        this.useReceivedAt[this.useHead] = receivedAt;
+        this.useHead = (this.useHead + 1) % this.capacity;
+        this.useCount = Math.min(this.useCount + 1, this.capacity);
+    }
+
+    @Override
+    public synchronized int getAttacksPerSecond() {
+        return this.countSince(this.attackReceivedAt, this.attackHead, this.attackCount);
+    }
+
+    @Override
+    public synchronized int getUseItemsPerSecond() {
+        return this.countSince(this.useReceivedAt, this.useHead, this.useCount);
+    }
+
+    @Override
+    public synchronized double getReachPercentile(double percentile) {
+        if (this.attackCount == 0) {
+            return Double.NaN;
+        }
+
+        System.arraycopy(this.distances, 0, this.sortedDistances, 0, this.attackCount);
+        Arrays.sort(this.sortedDistances, 0, this.attackCount);
+
+        int index = (int) Math.ceil(Math.max(0.0D, Math.min(1.0D, percentile)) * this.attackCount) - 1;
+        return this.sortedDistances[Math.max(0, index)];
+    }
+
+    @Override
+    public synchronized double getMeanHitInterval() {
+        if (this.attackCount < 2) {
+            return Double.NaN;
+        }
+
+        return (double) (this.attackTimes[this.newest()] - this.attackTimes[this.oldest()]) / (this.attackCount - 1);
+    }
+
+    @Override
+    public synchronized double getHitIntervalDeviation() {
+        if (this.attackCount < 2) {
+            return Double.NaN;
+        }
+
+        double mean = this.getMeanHitInterval();
+        double sum = 0.0D;
+
+        int previous = this.oldest();
+        for (int i = 1; i < this.attackCount; i++) {
+            int slot = (previous + 1) % this.capacity;
+            double delta = this.attackTimes[slot] - this.attackTimes[previous] - mean;
+            sum += delta * delta;
+            previous = slot;
+        }
+
+        return Math.sqrt(sum / (this.attackCount - 1));
+    }
+
+    @Override
+    public synchronized int getSampleCount() {
+        return this.attackCount;
+    }
+
+    @Override
+    public synchronized long getTotalAttacks() {
+        return this.totalAttacks;
+    }
+
+    @Override
+    public synchronized void forEachAttack(AttackConsumer consumer) {
+        int slot = this.oldest();
+        for (int i = 0; i < this.attackCount; i++) {
+            consumer.accept(this.attackTimes[slot], this.distances[slot],
+                this.targetX[slot], this.targetY[slot], this.targetZ[slot]
+            );
+
+            slot = (slot + 1) % this.capacity;
+        }
+    }
+
+    private int oldest() {
+        return (this.attackHead - this.attackCount + this.capacity) % this.capacity;
+    }
+
+    private int newest() {
+        return (this.attackHead - 1 + this.capacity) % this.capacity;
+    }
+
+    private int countSince(long[] receivedAt, int head, int count) {
+        long since = System.currentTimeMillis() - CombatStatsImpl.WINDOW_MILLIS;
+
+        // Walk back from the newest entry until one falls outside the window
+        int result = 0;
+        int slot = head;
+        for (int i = 0; i < count; i++) {
+            slot = (slot - 1 + this.capacity) % this.capacity;
+            if (receivedAt[slot] <= since) {
+                break;
+            }
+
+            result++;
+        }
+
+        return result;
+    }
+
+}
@@ -23,17 +23,27 @@
  */
 package com.lunarclient.apollo.module.packetenrichment;
 
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.common.v1.Location;
 import com.lunarclient.apollo.event.ApolloReceivePacketEvent;
 import com.lunarclient.apollo.event.EventBus;
 import com.lunarclient.apollo.event.packetenrichment.chat.ApolloPlayerChatCloseEvent;
 import com.lunarclient.apollo.event.packetenrichment.chat.ApolloPlayerChatOpenEvent;
 import com.lunarclient.apollo.event.packetenrichment.melee.ApolloPlayerAttackEvent;
 import com.lunarclient.apollo.event.packetenrichment.world.ApolloPlayerUseItemEvent;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.network.InboundPacketPipeline;
 import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.packetenrichment.v1.PlayerAttackMessage;
 import com.lunarclient.apollo.packetenrichment.v1.PlayerChatCloseMessage;
 import com.lunarclient.apollo.packetenrichment.v1.PlayerChatOpenMessage;
 import com.lunarclient.apollo.packetenrichment.v1.PlayerUseItemMessage;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
 
 /**
  * Provides the packet enrichment module.
@@ -42,6 +52,8 @@ import com.lunarclient.apollo.packetenrichment.v1.PlayerUseItemMessage;
  */
 public final class PacketEnrichmentImpl extends PacketEnrichmentModule {
 
+    private final Map<UUID, CombatStatsImpl> combatStats = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance of {@link PacketEnrichmentImpl}.
      *
@@ -50,6 +62,55 @@ public final class PacketEnrichmentImpl extends PacketEnrichmentModule {
     public PacketEnrichmentImpl() {
         super();
         this.handle(ApolloReceivePacketEvent.class, this::onReceivePacket);
+        this.handle(ApolloUnregisterPlayerEvent.class, event -> this.combatStats.remove(event.getPlayer().getUniqueId()));
+
+        // Statistics are recorded straight from the decoded messages, before any event is built
+        InboundPacketPipeline pipeline = ApolloManager.getNetworkManager().getInboundPipeline();
+        pipeline.register(PlayerAttackMessage.class, InboundPacketPipeline.HandlerThread.DECODER, this::recordAttack);
+        pipeline.register(PlayerUseItemMessage.class, InboundPacketPipeline.HandlerThread.DECODER, this::recordUseItem);
+    }
+
+    @Override
+    public Optional<CombatStats> getCombatStats(@NonNull ApolloPlayer player) {
+        return Optional.ofNullable(this.combatStats.get(player.getUniqueId()));
+    }
+
+    @Override
+    protected void onEnable() {
+        // Drop statistics left over from before the module was disabled
+        this.combatStats.clear();
+    }
+
+    private void recordAttack(ApolloPlayer player, PlayerAttackMessage packet) {
+        CombatStatsImpl stats = this.getOrCreateStats(player);
+        if (stats == null) {
+            return;
+        }
+
+        Location target = packet.getTargetInfo().getLocation().getLocation();
+        stats.recordAttack(
+            System.currentTimeMillis(),
+            NetworkTypes.fromProtobuf(packet.getPacketInfo().getInstantiationTime()),
+            packet.getDistance(),
+            target.getX(), target.getY(), target.getZ()
+        );
+    }
+
+    private void recordUseItem(ApolloPlayer player, PlayerUseItemMessage packet) {
+        CombatStatsImpl stats = this.getOrCreateStats(player);
+        if (stats != null) {
+            stats.recordUseItem(System.currentTimeMillis());
+        }
+    }
+
+    private CombatStatsImpl getOrCreateStats(ApolloPlayer player) {
+        if (!this.isEnabled()) {
+            return null;
+        }
+
+        return this.combatStats.computeIfAbsent(player.getUniqueId(),
+            uuid -> new CombatStatsImpl(this.getOptions().get(PacketEnrichmentModule.ANALYTICS_SAMPLE_SIZE))
+        );
     }
 
     private void onReceivePacket(ApolloReceivePacketEvent event) {
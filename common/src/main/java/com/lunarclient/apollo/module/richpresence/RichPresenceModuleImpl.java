@@ -23,19 +23,49 @@
  */
 package com.lunarclient.apollo.module.richpresence;
 
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.network.EncodedMessage;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
 import com.lunarclient.apollo.richpresence.v1.OverrideServerRichPresenceMessage;
 import com.lunarclient.apollo.richpresence.v1.ResetServerRichPresenceMessage;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 
 /**
  * Provides the rich presence module.
  *
+ * <p>The client replaces its whole rich presence with every override, so
+ * there are no partial updates to send. Instead the last override sent to
+ * each player is kept, and an identical one isn't sent again.</p>
+ *
+ * <p>Shared presences are kept as an {@link EncodedMessage}, so identical
+ * presences are serialized once no matter how many players and calls they
+ * are sent to. They still go through the outbound queue like any other
+ * cosmetic message.</p>
+ *
  * @since 1.1.2
  */
 public final class RichPresenceModuleImpl extends RichPresenceModule {
 
+    private static final int MAX_SHARED_MESSAGES = 1024;
+
+    private final Map<UUID, OverrideServerRichPresenceMessage> lastSent = new ConcurrentHashMap<>();
+    private final Map<OverrideServerRichPresenceMessage, EncodedMessage> sharedMessages = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the {@link RichPresenceModuleImpl}.
+     *
+     * @since 1.1.6
+     */
+    public RichPresenceModuleImpl() {
+        this.handle(ApolloUnregisterPlayerEvent.class, event -> this.lastSent.remove(event.getPlayer().getUniqueId()));
+    }
+
     @Override
     public void overrideServerRichPresence(@NonNull Recipients recipients, @NonNull ServerRichPresence richPresence) {
         OverrideServerRichPresenceMessage.Builder builder = OverrideServerRichPresenceMessage.newBuilder()
@@ -73,13 +103,49 @@ public final class RichPresenceModuleImpl extends RichPresenceModule {
         }
 
         OverrideServerRichPresenceMessage message = builder.build();
-        recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        EncodedMessage encoded = this.getOptions().get(RichPresenceModule.SHARE_MESSAGES)
+            ? this.share(message)
+            : new EncodedMessage(message);
+
+        boolean skipUnchanged = this.getOptions().get(RichPresenceModule.SKIP_UNCHANGED);
+        recipients.forEach(player -> {
+            UUID playerUuid = ((ApolloPlayer) player).getUniqueId();
+
+            // Only remember registered players, not message recorders
+            if (Apollo.getPlayerManager().getPlayer(playerUuid).isPresent()) {
+                OverrideServerRichPresenceMessage previous = this.lastSent.put(playerUuid, message);
+                if (skipUnchanged && message.equals(previous)) {
+                    return;
+                }
+            }
+
+            ((AbstractApolloPlayer) player).sendPacket(encoded);
+        });
     }
 
     @Override
     public void resetServerRichPresence(@NonNull Recipients recipients) {
         ResetServerRichPresenceMessage message = ResetServerRichPresenceMessage.getDefaultInstance();
-        recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        recipients.forEach(player -> {
+            this.lastSent.remove(((ApolloPlayer) player).getUniqueId());
+            ((AbstractApolloPlayer) player).sendPacket(message);
+        });
+    }
+
+    private EncodedMessage share(OverrideServerRichPresenceMessage message) {
+        EncodedMessage shared = this.sharedMessages.get(message);
+        if (shared != null) {
+            return shared;
+        }
+
+        // Presences with a live player count rarely repeat once the game moves on
+        if (this.sharedMessages.size() >= RichPresenceModuleImpl.MAX_SHARED_MESSAGES) {
+            this.sharedMessages.clear();
+        }
+
+        shared = new EncodedMessage(message);
+        this.sharedMessages.put(message, shared);
+        return shared;
     }
 
 }
@@ -23,15 +23,31 @@
  */
 package com.lunarclient.apollo.module.team;
 
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.common.ApolloComponent;
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
 import com.lunarclient.apollo.network.NetworkTypes;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
 import com.lunarclient.apollo.team.v1.ResetTeamMembersMessage;
 import com.lunarclient.apollo.team.v1.UpdateTeamMembersMessage;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.NonNull;
+import net.kyori.adventure.text.Component;
 
 /**
  * Provides the teams module.
@@ -40,15 +56,38 @@ import lombok.NonNull;
  */
 public final class TeamModuleImpl extends TeamModule {
 
+    private final Function<UUID, Optional<ApolloLocation>> locationProvider;
+    private final Map<String, ManagedTeam> managedTeams = new HashMap<>();
+
+    /**
+     * Creates a new instance of {@link TeamModuleImpl} that samples
+     * registered team member locations from the latest location snapshot.
+     *
+     * @since 1.1.6
+     */
+    public TeamModuleImpl() {
+        this(playerUuid -> ApolloManager.getLocationSnapshotService().getLocation(playerUuid));
+    }
+
+    /**
+     * Creates a new instance of {@link TeamModuleImpl} that samples
+     * registered team member locations from the provided function.
+     *
+     * @param locationProvider the team member location provider
+     * @since 1.1.6
+     */
+    public TeamModuleImpl(Function<UUID, Optional<ApolloLocation>> locationProvider) {
+        super();
+        this.locationProvider = locationProvider;
+
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+    }
+
     @Override
     public void updateTeamMembers(@NonNull Recipients recipients, @NonNull List<TeamMember> teamMembers) {
         List<com.lunarclient.apollo.team.v1.TeamMember> teamMembersProto = teamMembers.stream()
-            .map(teamMember -> com.lunarclient.apollo.team.v1.TeamMember.newBuilder()
-                .setPlayerUuid(NetworkTypes.toProtobuf(teamMember.getPlayerUuid()))
-                .setAdventureJsonPlayerName(ApolloComponent.toJson(teamMember.getDisplayName()))
-                .setLocation(NetworkTypes.toProtobuf(teamMember.getLocation()))
-                .setMarkerColor(NetworkTypes.toProtobuf(teamMember.getMarkerColor()))
-                .build()
+            .map(teamMember -> this.toProtobuf(teamMember.getPlayerUuid(), teamMember.getDisplayName(),
+                teamMember.getMarkerColor(), teamMember.getLocation())
             )
             .collect(Collectors.toList());
 
@@ -65,4 +104,213 @@ public final class TeamModuleImpl extends TeamModule {
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
     }
 
+    @Override
+    public void registerTeam(@NonNull String teamId, @NonNull List<TeamMember> teamMembers) {
+        ManagedTeam team = new ManagedTeam();
+        for (TeamMember teamMember : teamMembers) {
+            team.members.put(teamMember.getPlayerUuid(), new ManagedMember(teamMember));
+        }
+
+        synchronized (this.managedTeams) {
+            ManagedTeam previous = this.managedTeams.put(teamId, team);
+            if (previous != null) {
+                this.resetViewers(previous);
+            }
+        }
+    }
+
+    @Override
+    public void unregisterTeam(@NonNull String teamId) {
+        synchronized (this.managedTeams) {
+            ManagedTeam team = this.managedTeams.remove(teamId);
+            if (team != null) {
+                this.resetViewers(team);
+            }
+        }
+    }
+
+    @Override
+    public void updateTeamMember(@NonNull String teamId, @NonNull TeamMember teamMember) {
+        synchronized (this.managedTeams) {
+            ManagedTeam team = this.managedTeams.get(teamId);
+            if (team == null) {
+                return;
+            }
+
+            ManagedMember member = team.members.get(teamMember.getPlayerUuid());
+            if (member == null) {
+                team.members.put(teamMember.getPlayerUuid(), new ManagedMember(teamMember));
+            } else {
+                member.update(teamMember);
+            }
+        }
+    }
+
+    @Override
+    public void removeTeamMember(@NonNull String teamId, @NonNull UUID playerUuid) {
+        synchronized (this.managedTeams) {
+            ManagedTeam team = this.managedTeams.get(teamId);
+            if (team == null || team.members.remove(playerUuid) == null) {
+                return;
+            }
+
+            // Team members can only be upserted, so every viewer is reset
+            // and receives the full team again on the next update.
+            this.resetViewers(team);
+        }
+    }
+
+    /**
+     * Samples the locations of registered team members and sends the
+     * members that changed to the viewers of their team.
+     *
+     * <p>Viewers that have not received their team yet are sent every
+     * member. This must be called from a thread that can read player
+     * locations.</p>
+     *
+     * @since 1.1.6
+     */
+    public void tick() {
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        Double threshold = this.getOptions().get(TeamModule.MANAGED_MOVEMENT_THRESHOLD);
+        double thresholdSquared = threshold == null ? 0.0D : threshold * threshold;
+
+        synchronized (this.managedTeams) {
+            for (ManagedTeam team : this.managedTeams.values()) {
+                this.tickTeam(team, thresholdSquared);
+            }
+        }
+    }
+
+    private void tickTeam(ManagedTeam team, double thresholdSquared) {
+        List<com.lunarclient.apollo.team.v1.TeamMember> all = new ArrayList<>(team.members.size());
+        List<com.lunarclient.apollo.team.v1.TeamMember> changed = new ArrayList<>();
+
+        for (ManagedMember member : team.members.values()) {
+            this.locationProvider.apply(member.playerUuid).ifPresent(location -> member.move(location, thresholdSquared));
+
+            if (member.location == null) {
+                continue;
+            }
+
+            if (member.dirty || member.message == null) {
+                member.dirty = false;
+                member.message = this.toProtobuf(member.playerUuid, member.displayName, member.markerColor, member.location);
+                changed.add(member.message);
+            }
+
+            all.add(member.message);
+        }
+
+        UpdateTeamMembersMessage delta = null;
+        UpdateTeamMembersMessage full = null;
+
+        for (UUID viewerUuid : team.members.keySet()) {
+            Optional<ApolloPlayer> viewerOpt = Apollo.getPlayerManager().getPlayer(viewerUuid);
+            if (!viewerOpt.isPresent()) {
+                team.viewers.remove(viewerUuid);
+                continue;
+            }
+
+            AbstractApolloPlayer viewer = (AbstractApolloPlayer) viewerOpt.get();
+            if (team.viewers.add(viewerUuid)) {
+                if (full == null) {
+                    full = UpdateTeamMembersMessage.newBuilder().addAllMembers(all).build();
+                }
+
+                viewer.sendPacket(full);
+            } else if (!changed.isEmpty()) {
+                if (delta == null) {
+                    delta = UpdateTeamMembersMessage.newBuilder().addAllMembers(changed).build();
+                }
+
+                viewer.sendPacket(delta);
+            }
+        }
+    }
+
+    private void resetViewers(ManagedTeam team) {
+        ResetTeamMembersMessage message = ResetTeamMembersMessage.getDefaultInstance();
+
+        for (UUID viewerUuid : team.viewers) {
+            Apollo.getPlayerManager().getPlayer(viewerUuid)
+                .ifPresent(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        }
+
+        team.viewers.clear();
+    }
+
+    private com.lunarclient.apollo.team.v1.TeamMember toProtobuf(UUID playerUuid, Component displayName,
+                                                                 Color markerColor, ApolloLocation location) {
+        return com.lunarclient.apollo.team.v1.TeamMember.newBuilder()
+            .setPlayerUuid(NetworkTypes.toCachedProtobuf(playerUuid))
+            .setAdventureJsonPlayerName(ApolloComponent.toJson(displayName))
+            .setLocation(NetworkTypes.toProtobuf(location))
+            .setMarkerColor(NetworkTypes.toProtobuf(markerColor))
+            .build();
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        UUID viewerUuid = event.getPlayer().getUniqueId();
+
+        // A viewer rejoining before the next sample must get the full team again
+        synchronized (this.managedTeams) {
+            for (ManagedTeam team : this.managedTeams.values()) {
+                team.viewers.remove(viewerUuid);
+            }
+        }
+    }
+
+    private static final class ManagedTeam {
+
+        private final Map<UUID, ManagedMember> members = new LinkedHashMap<>();
+        private final Set<UUID> viewers = new HashSet<>();
+
+    }
+
+    private static final class ManagedMember {
+
+        private final UUID playerUuid;
+        private Component displayName;
+        private Color markerColor;
+
+        private ApolloLocation location;
+        private com.lunarclient.apollo.team.v1.TeamMember message;
+        private boolean dirty;
+
+        private ManagedMember(TeamMember teamMember) {
+            this.playerUuid = teamMember.getPlayerUuid();
+            this.displayName = teamMember.getDisplayName();
+            this.markerColor = teamMember.getMarkerColor();
+        }
+
+        private void update(TeamMember teamMember) {
+            if (!this.displayName.equals(teamMember.getDisplayName())
+                || !this.markerColor.equals(teamMember.getMarkerColor())) {
+                this.displayName = teamMember.getDisplayName();
+                this.markerColor = teamMember.getMarkerColor();
+                this.dirty = true;
+            }
+        }
+
+        private void move(ApolloLocation location, double thresholdSquared) {
+            if (this.location != null && this.location.getWorld().equals(location.getWorld())) {
+                double x = location.getX() - this.location.getX();
+                double y = location.getY() - this.location.getY();
+                double z = location.getZ() - this.location.getZ();
+
+                if (x * x + y * y + z * z <= thresholdSquared) {
+                    return;
+                }
+            }
+
+            this.location = location;
+            this.dirty = true;
+        }
+
+    }
+
 }
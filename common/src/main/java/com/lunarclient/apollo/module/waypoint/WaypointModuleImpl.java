@@ -23,6 +23,7 @@
  */
 package com.lunarclient.apollo.module.waypoint;
 
+import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.common.location.ApolloBlockLocation;
 import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
 import com.lunarclient.apollo.network.NetworkTypes;
@@ -30,6 +31,7 @@ import com.lunarclient.apollo.option.config.Serializer;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.player.ApolloPlayer;
 import com.lunarclient.apollo.recipients.Recipients;
+import com.lunarclient.apollo.spatial.ManagedDisplayTracker;
 import com.lunarclient.apollo.waypoint.v1.DisplayWaypointMessage;
 import com.lunarclient.apollo.waypoint.v1.RemoveWaypointMessage;
 import com.lunarclient.apollo.waypoint.v1.ResetWaypointsMessage;
@@ -50,6 +52,9 @@ import org.spongepowered.configurate.serialize.TypeSerializer;
  */
 public final class WaypointModuleImpl extends WaypointModule implements Serializer {
 
+    private final ManagedDisplayTracker managedWaypoints = ApolloManager.getDisplayManager()
+        .createTracker(() -> this.getOptions().get(WaypointModule.MANAGED_VIEW_DISTANCE));
+
     /**
      * Creates a new instance of {@link WaypointModuleImpl}.
      *
@@ -65,6 +70,7 @@ public final class WaypointModuleImpl extends WaypointModule implements Serializ
     public void displayWaypoint(@NonNull Recipients recipients, @NonNull Waypoint waypoint) {
         DisplayWaypointMessage message = this.toProtobuf(waypoint);
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().display(recipients, this.getId(), waypoint.getName(), message);
     }
 
     @Override
@@ -74,6 +80,7 @@ public final class WaypointModuleImpl extends WaypointModule implements Serializ
             .build();
 
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().remove(recipients, this.getId(), waypointName);
     }
 
     @Override
@@ -85,6 +92,23 @@ public final class WaypointModuleImpl extends WaypointModule implements Serializ
     public void resetWaypoints(@NonNull Recipients recipients) {
         ResetWaypointsMessage message = ResetWaypointsMessage.getDefaultInstance();
         recipients.forEach(player -> ((AbstractApolloPlayer) player).sendPacket(message));
+        ApolloManager.getClientStateLedger().reset(recipients, this.getId());
+    }
+
+    @Override
+    public void registerWaypoint(@NonNull Waypoint waypoint) {
+        ApolloBlockLocation location = waypoint.getLocation();
+        RemoveWaypointMessage removeMessage = RemoveWaypointMessage.newBuilder()
+            .setName(waypoint.getName())
+            .build();
+
+        this.managedWaypoints.register(waypoint.getName(), location.getWorld(),
+            location.getX(), location.getZ(), this.toProtobuf(waypoint), removeMessage);
+    }
+
+    @Override
+    public void unregisterWaypoint(@NonNull String waypointName) {
+        this.managedWaypoints.unregister(waypointName);
     }
 
     private void onPlayerRegister(ApolloRegisterPlayerEvent event) {
@@ -24,24 +24,38 @@
 package com.lunarclient.apollo.network;
 
 import com.google.protobuf.Any;
-import com.lunarclient.apollo.Apollo;
-import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.event.ApolloReceivePacketEvent;
 import com.lunarclient.apollo.event.ApolloSendPacketEvent;
 import com.lunarclient.apollo.event.EventBus;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.player.ApolloPlayer;
 import java.util.UUID;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides the implementation for the {@link ApolloNetworkManager}.
  *
  * @since 1.0.0
  */
-@NoArgsConstructor
 public final class ApolloNetworkManager {
 
+    /**
+     * Returns the {@link InboundPacketPipeline} decoding raw packets.
+     *
+     * @return the inbound packet pipeline
+     * @since 1.1.6
+     */
+    @Getter private final InboundPacketPipeline inboundPipeline = new InboundPacketPipeline();
+
+    /**
+     * Returns the {@link OutboundPacketQueue} prioritising sent packets.
+     *
+     * @return the outbound packet queue
+     * @since 1.1.6
+     */
+    @Getter private final OutboundPacketQueue outboundQueue = new OutboundPacketQueue();
+
     /**
      * Sends an {@link Any} message packet to the provided player.
      *
@@ -50,11 +64,26 @@ public final class ApolloNetworkManager {
      * @since 1.0.0
      */
     public void sendPacket(ApolloPlayer player, Any message) {
+        this.sendPacket(player, message, null);
+    }
+
+    /**
+     * Sends an already serialized {@link EncodedMessage.Part} to the provided player.
+     *
+     * @param player the player to send the packet to
+     * @param part   the encoded message part to send
+     * @since 1.1.6
+     */
+    public void sendPacket(ApolloPlayer player, EncodedMessage.Part part) {
+        this.sendPacket(player, part.getAny(), part.getBytes());
+    }
+
+    private void sendPacket(ApolloPlayer player, Any message, @Nullable byte[] bytes) {
         EventBus.EventResult<ApolloSendPacketEvent> result = EventBus.getBus()
             .post(new ApolloSendPacketEvent(player, message));
 
         if (!result.getEvent().isCancelled()) {
-            ((AbstractApolloPlayer) player).sendPacket(message.toByteArray());
+            ((AbstractApolloPlayer) player).sendPacket(bytes != null ? bytes : message.toByteArray());
         }
 
         for (Throwable throwable : result.getThrowing()) {
@@ -81,18 +110,16 @@ public final class ApolloNetworkManager {
     /**
      * Receives a {@code byte[]} message packet from the provided player.
      *
+     * <p>The packet is decoded by the {@link InboundPacketPipeline}, which
+     * posts the {@link ApolloReceivePacketEvent} on the thread owning the
+     * player. Malformed packets are dropped and counted.</p>
+     *
      * @param player the player to receive the packet from
      * @param bytes the message to receive
      * @since 1.0.0
      */
     public void receivePacket(UUID player, byte[] bytes) {
-        Apollo.getPlayerManager().getPlayer(player).ifPresent(apolloPlayer -> {
-            try {
-                ApolloManager.getNetworkManager().receivePacket(apolloPlayer, Any.parseFrom(bytes));
-            } catch (Throwable throwable) {
-                throw new RuntimeException(throwable);
-            }
-        });
+        this.inboundPipeline.receive(player, bytes);
     }
 
 }
@@ -0,0 +1,292 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.Options;
+import com.lunarclient.apollo.option.SimpleOption;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.recipients.Recipients;
+import com.lunarclient.apollo.util.ApolloExecutors;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Keeps track of the displays each player is currently shown and replays
+ * them when the player registers with Apollo again.
+ *
+ * <p>Module implementations record every display, remove and reset they
+ * send, keyed by module and display id. When a player reconnects or
+ * re-registers the plugin channel, the live set is sent again in a single
+ * flush. Ledgers are bounded to {@link #MAX_DISPLAYS} entries per player
+ * and are forgotten once the player has been gone for longer than the
+ * {@link #RETENTION}.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ClientStateLedger implements ApolloListener {
+
+    /**
+     * Whether displays are replayed to players registering again.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> ENABLE = Option.<Boolean>builder()
+        .comment("Set to 'true' to resend the displays a player was shown when they register with Apollo again, otherwise 'false'.")
+        .node("client-state-ledger", "enable").type(TypeToken.get(Boolean.class))
+        .defaultValue(false).build();
+
+    /**
+     * The maximum amount of displays remembered per player.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MAX_DISPLAYS = Option.<Integer>number()
+        .comment("Set the maximum amount of displays remembered per player, the oldest display is forgotten first.")
+        .node("client-state-ledger", "max-displays").type(TypeToken.get(Integer.class))
+        .defaultValue(256).min(1).max(8192).build();
+
+    /**
+     * The time in seconds the displays of a player are remembered after they leave.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> RETENTION = Option.<Integer>number()
+        .comment("Set the time in seconds the displays of a player are remembered after they leave.")
+        .node("client-state-ledger", "retention").type(TypeToken.get(Integer.class))
+        .defaultValue(300).min(1).max(86400).build();
+
+    private static final long SWEEP_INTERVAL_SECONDS = 60L;
+
+    private final Map<UUID, PlayerLedger> ledgers = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> sweepTask;
+
+    /**
+     * Constructs the {@link ClientStateLedger}.
+     *
+     * @since 1.1.6
+     */
+    public ClientStateLedger() {
+        ApolloManager.registerOptions(
+            ClientStateLedger.ENABLE,
+            ClientStateLedger.MAX_DISPLAYS,
+            ClientStateLedger.RETENTION
+        );
+
+        this.handle(ApolloRegisterPlayerEvent.class, this::onPlayerRegister);
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+    }
+
+    /**
+     * Records a display message sent to the recipients.
+     *
+     * @param recipients the recipients the message was sent to
+     * @param module     the module id
+     * @param id         the display id
+     * @param message    the display message
+     * @since 1.1.6
+     */
+    public void display(@NonNull Recipients recipients, @NonNull String module,
+                        @NonNull String id, @NonNull Message message) {
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        DisplayKey key = new DisplayKey(module, id);
+        int maxDisplays = Apollo.getPlatform().getOptions().get(ClientStateLedger.MAX_DISPLAYS);
+
+        recipients.forEach(player -> {
+            UUID playerUuid = ((ApolloPlayer) player).getUniqueId();
+
+            // Skip message recorders and anything else that never registered with Apollo
+            if (!Apollo.getPlayerManager().getPlayer(playerUuid).isPresent()) {
+                return;
+            }
+
+            PlayerLedger ledger = this.ledgers.computeIfAbsent(playerUuid, uuid -> new PlayerLedger());
+
+            synchronized (ledger) {
+                // Re-inserting moves the display to the back of the eviction order
+                ledger.displays.remove(key);
+                ledger.displays.put(key, message);
+
+                Iterator<DisplayKey> iterator = ledger.displays.keySet().iterator();
+                while (ledger.displays.size() > maxDisplays && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        });
+
+        this.scheduleSweep();
+    }
+
+    /**
+     * Records the removal of a display from the recipients.
+     *
+     * @param recipients the recipients the removal was sent to
+     * @param module     the module id
+     * @param id         the display id
+     * @since 1.1.6
+     */
+    public void remove(@NonNull Recipients recipients, @NonNull String module, @NonNull String id) {
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        DisplayKey key = new DisplayKey(module, id);
+        recipients.forEach(player -> {
+            PlayerLedger ledger = this.ledgers.get(((ApolloPlayer) player).getUniqueId());
+
+            if (ledger != null) {
+                synchronized (ledger) {
+                    ledger.displays.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Records the reset of every display of a module for the recipients.
+     *
+     * @param recipients the recipients the reset was sent to
+     * @param module     the module id
+     * @since 1.1.6
+     */
+    public void reset(@NonNull Recipients recipients, @NonNull String module) {
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        recipients.forEach(player -> {
+            PlayerLedger ledger = this.ledgers.get(((ApolloPlayer) player).getUniqueId());
+
+            if (ledger != null) {
+                synchronized (ledger) {
+                    ledger.displays.keySet().removeIf(key -> key.getModule().equals(module));
+                }
+            }
+        });
+    }
+
+    /**
+     * Forgets everything shown to the player.
+     *
+     * @param playerUuid the player uuid
+     * @since 1.1.6
+     */
+    public void forget(@NonNull UUID playerUuid) {
+        this.ledgers.remove(playerUuid);
+    }
+
+    private boolean isEnabled() {
+        return Apollo.getPlatform().getOptions().get(ClientStateLedger.ENABLE);
+    }
+
+    private synchronized void scheduleSweep() {
+        if (this.sweepTask == null) {
+            this.sweepTask = ApolloExecutors.timer().scheduleAtFixedRate(this::sweep,
+                ClientStateLedger.SWEEP_INTERVAL_SECONDS, ClientStateLedger.SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS
+            );
+        }
+    }
+
+    private void sweep() {
+        Options options = Apollo.getPlatform().getOptions();
+        if (!options.get(ClientStateLedger.ENABLE)) {
+            this.ledgers.clear();
+            return;
+        }
+
+        long expiredBefore = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(options.get(ClientStateLedger.RETENTION));
+        this.ledgers.values().removeIf(ledger -> {
+            synchronized (ledger) {
+                return ledger.leftAt != 0L && ledger.leftAt < expiredBefore;
+            }
+        });
+    }
+
+    private void onPlayerRegister(ApolloRegisterPlayerEvent event) {
+        ApolloPlayer player = event.getPlayer();
+        PlayerLedger ledger = this.ledgers.get(player.getUniqueId());
+
+        if (ledger == null || !this.isEnabled()) {
+            return;
+        }
+
+        List<Message> messages;
+        synchronized (ledger) {
+            ledger.leftAt = 0L;
+            messages = new ArrayList<>(ledger.displays.values());
+        }
+
+        for (Message message : messages) {
+            ((AbstractApolloPlayer) player).sendPacket(message);
+        }
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        PlayerLedger ledger = this.ledgers.get(event.getPlayer().getUniqueId());
+
+        if (ledger != null) {
+            synchronized (ledger) {
+                ledger.leftAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    @Value
+    private static class DisplayKey {
+
+        String module;
+        String id;
+
+    }
+
+    private static final class PlayerLedger {
+
+        private final Map<DisplayKey, Message> displays = new LinkedHashMap<>();
+        private long leftAt;
+
+    }
+
+}
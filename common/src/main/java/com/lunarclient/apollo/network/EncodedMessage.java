@@ -0,0 +1,116 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * A message that is split, packed and serialized at most once per payload
+ * limit, so the same bytes can be written to any amount of players.
+ *
+ * <p>Every message sent through the {@link OutboundPacketQueue} is wrapped
+ * in one. Callers sending the same message to many players, possibly over
+ * several calls, can keep the wrapper and send it again instead. A wrapped
+ * {@link Any} is treated as already packed and sent as it is.</p>
+ *
+ * @since 1.1.6
+ */
+@RequiredArgsConstructor
+public final class EncodedMessage {
+
+    /**
+     * Returns the wrapped {@link Message}.
+     *
+     * @return the message
+     * @since 1.1.6
+     */
+    @Getter @NonNull private final Message message;
+
+    // There are only two payload limits, see MessageChunker#getMaxPayloadSize
+    private final Map<Integer, List<Part>> parts = new ConcurrentHashMap<>(2);
+
+    /**
+     * Returns the encoded parts of the message for the provided payload limit.
+     *
+     * @param maxPayloadSize the maximum payload size in bytes
+     * @return the encoded parts, in order
+     * @since 1.1.6
+     */
+    public List<Part> getParts(int maxPayloadSize) {
+        List<Part> encoded = this.parts.get(maxPayloadSize);
+        if (encoded != null) {
+            return encoded;
+        }
+
+        List<Message> messages = MessageChunker.split(this.message, maxPayloadSize);
+        encoded = new ArrayList<>(messages.size());
+
+        for (Message part : messages) {
+            Any any = part instanceof Any ? (Any) part : Any.pack(part);
+            encoded.add(new Part(any, any.toByteArray()));
+        }
+
+        // Concurrent callers may both encode, both results are identical
+        encoded = Collections.unmodifiableList(encoded);
+        this.parts.put(maxPayloadSize, encoded);
+        return encoded;
+    }
+
+    /**
+     * A single plugin message of an {@link EncodedMessage}.
+     *
+     * @since 1.1.6
+     */
+    @Value
+    public static class Part {
+
+        /**
+         * Returns the packed message, as passed to packet listeners.
+         *
+         * @return the packed message
+         * @since 1.1.6
+         */
+        Any any;
+
+        /**
+         * Returns the serialized packed message.
+         *
+         * @return the serialized message
+         * @since 1.1.6
+         */
+        byte[] bytes;
+
+    }
+
+}
@@ -0,0 +1,510 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.Options;
+import com.lunarclient.apollo.option.SimpleOption;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.scheduler.ApolloScheduler;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decodes packets received from players off the calling thread.
+ *
+ * <p>Each player has an inbox that is drained by at most one decoder
+ * thread at a time, so packets from one player are always handled in the
+ * order they arrived. Handlers registered for the {@link HandlerThread#DECODER}
+ * run on the decoder thread. {@link HandlerThread#MAIN} handlers and the
+ * {@link com.lunarclient.apollo.event.ApolloReceivePacketEvent} run on the
+ * thread the {@link ApolloScheduler} assigns to the player, in the same
+ * order.</p>
+ *
+ * <p>Oversized packets, packets over a player's rate budget and packets
+ * that don't decode are dropped before any work is queued for them.</p>
+ *
+ * @since 1.1.6
+ */
+public final class InboundPacketPipeline implements ApolloListener {
+
+    /**
+     * Whether inbound packets are decoded off the calling thread.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> ASYNC_DECODING = Option.<Boolean>builder()
+        .comment("Set to 'true' to decode packets sent by players off the main thread, otherwise 'false'.")
+        .node("inbound-packets", "async-decoding").type(TypeToken.get(Boolean.class))
+        .defaultValue(true).build();
+
+    /**
+     * The amount of threads decoding inbound packets.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> DECODER_THREADS = Option.<Integer>number()
+        .comment("Set the amount of threads decoding packets sent by players.")
+        .node("inbound-packets", "decoder-threads").type(TypeToken.get(Integer.class))
+        .defaultValue(2).min(1).max(16).build();
+
+    /**
+     * The largest packet in bytes accepted from a player.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MAX_PACKET_SIZE = Option.<Integer>number()
+        .comment("Set the largest packet in bytes accepted from a player, larger packets are dropped.")
+        .node("inbound-packets", "max-packet-size").type(TypeToken.get(Integer.class))
+        .defaultValue(65536).min(1024).max(1048576).build();
+
+    /**
+     * The amount of packets a player may send per second.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> PACKETS_PER_SECOND = Option.<Integer>number()
+        .comment("Set the amount of packets a player may send per second, bursts of twice this amount are allowed.")
+        .node("inbound-packets", "packets-per-second").type(TypeToken.get(Integer.class))
+        .defaultValue(100).min(1).max(10000).build();
+
+    /**
+     * The amount of packets that may wait to be decoded for a single player.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MAX_PENDING_PACKETS = Option.<Integer>number()
+        .comment("Set the amount of packets that may wait to be decoded for a player, further packets are dropped.")
+        .node("inbound-packets", "max-pending-packets").type(TypeToken.get(Integer.class))
+        .defaultValue(256).min(1).max(65536).build();
+
+    private static final int BATCH_SIZE = 32;
+
+    private final Map<UUID, Inbox> inboxes = new ConcurrentHashMap<>();
+    private final Map<String, List<PacketHandler<?>>> handlers = new ConcurrentHashMap<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final Map<DropReason, LongAdder> dropped = new EnumMap<>(DropReason.class);
+
+    private volatile ExecutorService decoders;
+
+    /**
+     * Constructs the {@link InboundPacketPipeline}.
+     *
+     * @since 1.1.6
+     */
+    public InboundPacketPipeline() {
+        for (DropReason reason : DropReason.values()) {
+            this.dropped.put(reason, new LongAdder());
+        }
+
+        ApolloManager.registerOptions(
+            InboundPacketPipeline.ASYNC_DECODING,
+            InboundPacketPipeline.DECODER_THREADS,
+            InboundPacketPipeline.MAX_PACKET_SIZE,
+            InboundPacketPipeline.PACKETS_PER_SECOND,
+            InboundPacketPipeline.MAX_PENDING_PACKETS
+        );
+
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+    }
+
+    /**
+     * Registers a handler for a packet type.
+     *
+     * @param type the packet class
+     * @param thread the thread the handler runs on
+     * @param handler the handler
+     * @param <T> the packet type
+     * @since 1.1.6
+     */
+    public <T extends Message> void register(@NonNull Class<T> type, @NonNull HandlerThread thread,
+                                             @NonNull BiConsumer<ApolloPlayer, T> handler) {
+        String typeName = Internal.getDefaultInstance(type).getDescriptorForType().getFullName();
+        this.handlers.computeIfAbsent(typeName, key -> new CopyOnWriteArrayList<>())
+            .add(new PacketHandler<>(type, thread, handler));
+    }
+
+    /**
+     * Unregisters a handler for a packet type.
+     *
+     * @param type the packet class
+     * @param handler the handler
+     * @param <T> the packet type
+     * @since 1.1.6
+     */
+    public <T extends Message> void unregister(@NonNull Class<T> type, @NonNull BiConsumer<ApolloPlayer, T> handler) {
+        String typeName = Internal.getDefaultInstance(type).getDescriptorForType().getFullName();
+        List<PacketHandler<?>> typeHandlers = this.handlers.get(typeName);
+        if (typeHandlers != null) {
+            typeHandlers.removeIf(packetHandler -> packetHandler.handler == handler);
+        }
+    }
+
+    /**
+     * Accepts raw packet bytes from the provided player.
+     *
+     * <p>This only runs the size and rate checks on the calling thread.
+     * Packets from unknown players are ignored.</p>
+     *
+     * @param playerUuid the player unique id
+     * @param bytes the packet bytes
+     * @since 1.1.6
+     */
+    public void receive(@NonNull UUID playerUuid, @NonNull byte[] bytes) {
+        ApolloPlayer player = Apollo.getPlayerManager().getPlayer(playerUuid).orElse(null);
+        if (player == null) {
+            return;
+        }
+
+        Options options = Apollo.getPlatform().getOptions();
+        Inbox inbox = this.inboxes.computeIfAbsent(playerUuid, key -> new Inbox(player));
+
+        if (bytes.length > options.get(InboundPacketPipeline.MAX_PACKET_SIZE)) {
+            this.drop(inbox, DropReason.OVERSIZED);
+            return;
+        }
+
+        if (!inbox.acquire(options.get(InboundPacketPipeline.PACKETS_PER_SECOND))) {
+            this.drop(inbox, DropReason.RATE_LIMITED);
+            return;
+        }
+
+        if (!options.get(InboundPacketPipeline.ASYNC_DECODING)) {
+            Any packet = this.decode(inbox, bytes);
+            if (packet != null) {
+                this.dispatch(player, packet, HandlerThread.DECODER);
+                this.dispatchMain(player, packet);
+            }
+
+            return;
+        }
+
+        if (inbox.pending.incrementAndGet() > options.get(InboundPacketPipeline.MAX_PENDING_PACKETS)) {
+            inbox.pending.decrementAndGet();
+            this.drop(inbox, DropReason.QUEUE_FULL);
+            return;
+        }
+
+        inbox.queue.offer(bytes);
+        inbox.schedule();
+    }
+
+    /**
+     * Returns the amount of packets accepted for decoding.
+     *
+     * @return the accepted packet count
+     * @since 1.1.6
+     */
+    public long getAcceptedPackets() {
+        return this.accepted.sum();
+    }
+
+    /**
+     * Returns the amount of packets dropped for the provided reason.
+     *
+     * @param reason the drop reason
+     * @return the dropped packet count
+     * @since 1.1.6
+     */
+    public long getDroppedPackets(@NonNull DropReason reason) {
+        return this.dropped.get(reason).sum();
+    }
+
+    /**
+     * Stops the decoder threads, dropping packets that are still queued.
+     *
+     * @since 1.1.6
+     */
+    public synchronized void shutdown() {
+        if (this.decoders != null) {
+            this.decoders.shutdownNow();
+            this.decoders = null;
+        }
+
+        this.inboxes.clear();
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        Inbox inbox = this.inboxes.remove(event.getPlayer().getUniqueId());
+        if (inbox != null) {
+            inbox.queue.clear();
+        }
+    }
+
+    private ExecutorService getDecoders() {
+        ExecutorService decoders = this.decoders;
+        if (decoders != null) {
+            return decoders;
+        }
+
+        synchronized (this) {
+            if (this.decoders == null) {
+                AtomicInteger threadId = new AtomicInteger();
+                this.decoders = Executors.newFixedThreadPool(
+                    Apollo.getPlatform().getOptions().get(InboundPacketPipeline.DECODER_THREADS),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "Apollo Inbound Decoder #" + threadId.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+            }
+
+            return this.decoders;
+        }
+    }
+
+    private Any decode(Inbox inbox, byte[] bytes) {
+        try {
+            Any packet = Any.parseFrom(bytes);
+            this.accepted.increment();
+            return packet;
+        } catch (InvalidProtocolBufferException exception) {
+            this.drop(inbox, DropReason.MALFORMED);
+            return null;
+        }
+    }
+
+    private void drop(Inbox inbox, DropReason reason) {
+        this.dropped.get(reason).increment();
+
+        if (!inbox.warned) {
+            inbox.warned = true;
+            Apollo.getPlatform().getPlatformLogger().warning(String.format(
+                "Dropping packets from %s (%s), further drops for this player are only counted.",
+                inbox.player.getName(), reason.name().toLowerCase()
+            ));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(ApolloPlayer player, Any packet, HandlerThread thread) {
+        String typeUrl = packet.getTypeUrl();
+        List<PacketHandler<?>> typeHandlers = this.handlers.get(typeUrl.substring(typeUrl.lastIndexOf('/') + 1));
+        if (typeHandlers == null) {
+            return;
+        }
+
+        for (PacketHandler<?> packetHandler : typeHandlers) {
+            if (packetHandler.thread != thread) {
+                continue;
+            }
+
+            try {
+                ((PacketHandler<Message>) packetHandler).handler.accept(player, packet.unpack(packetHandler.type));
+            } catch (Throwable throwable) {
+                Apollo.getPlatform().getPlatformLogger().log(Level.SEVERE,
+                    "Unable to handle " + typeUrl + " from " + player.getName() + "!", throwable);
+            }
+        }
+    }
+
+    private void dispatchMain(ApolloPlayer player, Any packet) {
+        this.dispatch(player, packet, HandlerThread.MAIN);
+        ApolloManager.getNetworkManager().receivePacket(player, packet);
+    }
+
+    /**
+     * The thread a packet handler runs on.
+     *
+     * @since 1.1.6
+     */
+    public enum HandlerThread {
+
+        /**
+         * The decoder thread, right after the packet was decoded.
+         *
+         * @since 1.1.6
+         */
+        DECODER,
+
+        /**
+         * The thread owning the player, the main thread on classic servers.
+         *
+         * @since 1.1.6
+         */
+        MAIN
+
+    }
+
+    /**
+     * The reason an inbound packet was dropped.
+     *
+     * @since 1.1.6
+     */
+    public enum DropReason {
+
+        /**
+         * The packet was larger than the maximum packet size.
+         *
+         * @since 1.1.6
+         */
+        OVERSIZED,
+
+        /**
+         * The player sent more packets than their rate budget allows.
+         *
+         * @since 1.1.6
+         */
+        RATE_LIMITED,
+
+        /**
+         * Too many packets were waiting to be decoded for the player.
+         *
+         * @since 1.1.6
+         */
+        QUEUE_FULL,
+
+        /**
+         * The packet could not be decoded.
+         *
+         * @since 1.1.6
+         */
+        MALFORMED
+
+    }
+
+    @RequiredArgsConstructor
+    private static final class PacketHandler<T extends Message> {
+        private final Class<T> type;
+        private final HandlerThread thread;
+        private final BiConsumer<ApolloPlayer, T> handler;
+    }
+
+    private final class Inbox implements Runnable {
+
+        private final ApolloPlayer player;
+        private final Queue<byte[]> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private double tokens = -1.0D;
+        private long refilledAt;
+        private volatile boolean warned;
+
+        Inbox(ApolloPlayer player) {
+            this.player = player;
+        }
+
+        synchronized boolean acquire(int packetsPerSecond) {
+            long now = System.nanoTime();
+            double burst = packetsPerSecond * 2.0D;
+
+            if (this.tokens < 0) {
+                this.tokens = burst;
+            } else {
+                this.tokens = Math.min(burst, this.tokens + (now - this.refilledAt) * packetsPerSecond / 1e9D);
+            }
+
+            this.refilledAt = now;
+            if (this.tokens < 1.0D) {
+                return false;
+            }
+
+            this.tokens -= 1.0D;
+            return true;
+        }
+
+        void schedule() {
+            if (!this.scheduled.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                InboundPacketPipeline.this.getDecoders().execute(this);
+            } catch (RejectedExecutionException exception) {
+                // The pipeline was shut down
+                this.queue.clear();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Any> decoded = new ArrayList<>();
+
+            byte[] bytes;
+            while (decoded.size() < InboundPacketPipeline.BATCH_SIZE && (bytes = this.queue.poll()) != null) {
+                this.pending.decrementAndGet();
+
+                Any packet = InboundPacketPipeline.this.decode(this, bytes);
+                if (packet != null) {
+                    InboundPacketPipeline.this.dispatch(this.player, packet, HandlerThread.DECODER);
+                    decoded.add(packet);
+                }
+            }
+
+            // Submitted before the next batch is decoded, keeping the player's packets in order
+            if (!decoded.isEmpty()) {
+                Runnable task = () -> {
+                    for (Any packet : decoded) {
+                        InboundPacketPipeline.this.dispatchMain(this.player, packet);
+                    }
+                };
+
+                // Platforms without a main thread handle the packets on the decoder thread
+                ApolloScheduler scheduler = ApolloManager.getScheduler();
+                if (scheduler == null) {
+                    task.run();
+                } else {
+                    scheduler.runForPlayer(this.player, task);
+                }
+            }
+
+            this.scheduled.set(false);
+            if (!this.queue.isEmpty()) {
+                this.schedule();
+            }
+        }
+
+    }
+
+}
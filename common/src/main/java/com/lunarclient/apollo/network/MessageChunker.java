@@ -0,0 +1,211 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.client.version.MinecraftVersion;
+import com.lunarclient.apollo.configurable.v1.ConfigurableSettings;
+import com.lunarclient.apollo.configurable.v1.OverrideConfigurableSettingsMessage;
+import com.lunarclient.apollo.entity.v1.FlipEntityMessage;
+import com.lunarclient.apollo.entity.v1.OverrideRainbowSheepMessage;
+import com.lunarclient.apollo.entity.v1.ResetFlipedEntityMessage;
+import com.lunarclient.apollo.entity.v1.ResetRainbowSheepMessage;
+import com.lunarclient.apollo.player.PlayerCapabilities;
+import com.lunarclient.apollo.team.v1.UpdateTeamMembersMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Splits messages that would exceed the clientbound plugin message limit.
+ *
+ * <p>Only messages whose repeated field is applied additively by the client
+ * are split, every resulting message is a valid standalone message. Anything
+ * else is sent as is and reported once per message type.</p>
+ *
+ * @since 1.1.6
+ */
+public final class MessageChunker {
+
+    /**
+     * The clientbound custom payload limit for 1.8 and newer clients.
+     *
+     * @since 1.1.6
+     */
+    public static final int MAX_PAYLOAD_SIZE = 1048576;
+
+    /**
+     * The clientbound custom payload limit for 1.7 clients.
+     *
+     * @since 1.1.6
+     */
+    public static final int LEGACY_MAX_PAYLOAD_SIZE = 32767;
+
+    private static final String TYPE_URL_PREFIX = "type.googleapis.com/";
+
+    // Length prefix of an embedded message, enough for any payload we can send
+    private static final int MAX_LENGTH_PREFIX_SIZE = 5;
+
+    private static final Map<Descriptors.Descriptor, Descriptors.FieldDescriptor> SPLITTABLE_FIELDS = new HashMap<>();
+    private static final Set<String> REPORTED_TYPES = ConcurrentHashMap.newKeySet();
+
+    static {
+        MessageChunker.registerSplittable(OverrideConfigurableSettingsMessage.getDescriptor(), "configurable_settings");
+        MessageChunker.registerSplittable(ConfigurableSettings.getDescriptor(), "properties");
+        MessageChunker.registerSplittable(OverrideRainbowSheepMessage.getDescriptor(), "entity_ids");
+        MessageChunker.registerSplittable(ResetRainbowSheepMessage.getDescriptor(), "entity_ids");
+        MessageChunker.registerSplittable(FlipEntityMessage.getDescriptor(), "entity_ids");
+        MessageChunker.registerSplittable(ResetFlipedEntityMessage.getDescriptor(), "entity_ids");
+        MessageChunker.registerSplittable(UpdateTeamMembersMessage.getDescriptor(), "members");
+    }
+
+    /**
+     * Returns the largest payload the provided client can receive.
+     *
+     * <p>Until the handshake is received the legacy limit is assumed, which
+     * only ever causes extra splitting.</p>
+     *
+     * @param capabilities the client capabilities, or null if unknown
+     * @return the maximum payload size in bytes
+     * @since 1.1.6
+     */
+    public static int getMaxPayloadSize(@Nullable PlayerCapabilities capabilities) {
+        if (capabilities == null) {
+            return MessageChunker.LEGACY_MAX_PAYLOAD_SIZE;
+        }
+
+        MinecraftVersion version = capabilities.getMinecraftVersion();
+        if (version == MinecraftVersion.V1_7 || version == MinecraftVersion.UNKNOWN) {
+            return MessageChunker.LEGACY_MAX_PAYLOAD_SIZE;
+        }
+
+        return MessageChunker.MAX_PAYLOAD_SIZE;
+    }
+
+    /**
+     * Splits the provided message so every part, once packed into an
+     * {@link com.google.protobuf.Any}, fits in the provided payload size.
+     *
+     * @param message the message to split
+     * @param maxPayloadSize the maximum payload size in bytes
+     * @return the message parts, in order
+     * @since 1.1.6
+     */
+    public static List<Message> split(Message message, int maxPayloadSize) {
+        String typeUrl = MessageChunker.TYPE_URL_PREFIX + message.getDescriptorForType().getFullName();
+        int maxSize = maxPayloadSize - CodedOutputStream.computeStringSize(1, typeUrl)
+            - CodedOutputStream.computeTagSize(2) - MessageChunker.MAX_LENGTH_PREFIX_SIZE;
+
+        if (message.getSerializedSize() <= maxSize) {
+            return Collections.singletonList(message);
+        }
+
+        List<Message> parts = new ArrayList<>();
+        MessageChunker.split(message, maxSize, parts);
+        return parts;
+    }
+
+    private static void split(Message message, int maxSize, List<Message> parts) {
+        Descriptors.FieldDescriptor field = MessageChunker.SPLITTABLE_FIELDS.get(message.getDescriptorForType());
+        if (field == null || message.getRepeatedFieldCount(field) < 1) {
+            MessageChunker.reportOversized(message, maxSize);
+            parts.add(message);
+            return;
+        }
+
+        Message base = message.toBuilder().clearField(field).build();
+        int budget = maxSize - base.getSerializedSize();
+        int elementMaxSize = budget - CodedOutputStream.computeTagSize(field.getNumber())
+            - MessageChunker.MAX_LENGTH_PREFIX_SIZE;
+
+        Message.Builder chunk = null;
+        int chunkSize = 0;
+
+        for (int i = 0, count = message.getRepeatedFieldCount(field); i < count; i++) {
+            Message element = (Message) message.getRepeatedField(field, i);
+            int elementSize = CodedOutputStream.computeMessageSize(field.getNumber(), element);
+
+            if (elementSize > budget) {
+                // A single element is too large, split the element itself into separate parts
+                List<Message> elementParts = new ArrayList<>();
+                MessageChunker.split(element, elementMaxSize, elementParts);
+
+                for (Message elementPart : elementParts) {
+                    parts.add(base.toBuilder().addRepeatedField(field, elementPart).build());
+                }
+
+                continue;
+            }
+
+            if (chunk != null && chunkSize + elementSize > budget) {
+                parts.add(chunk.build());
+                chunk = null;
+            }
+
+            if (chunk == null) {
+                chunk = base.toBuilder();
+                chunkSize = 0;
+            }
+
+            chunk.addRepeatedField(field, element);
+            chunkSize += elementSize;
+        }
+
+        if (chunk != null) {
+            parts.add(chunk.build());
+        }
+    }
+
+    private static void reportOversized(Message message, int maxSize) {
+        String type = message.getDescriptorForType().getFullName();
+        if (MessageChunker.REPORTED_TYPES.add(type)) {
+            Apollo.getPlatform().getPlatformLogger().warning(String.format(
+                "Unable to split %s (%d bytes, limit %d bytes), sending it unsplit.",
+                type, message.getSerializedSize(), maxSize
+            ));
+        }
+    }
+
+    private static void registerSplittable(Descriptors.Descriptor descriptor, String fieldName) {
+        Descriptors.FieldDescriptor field = descriptor.findFieldByName(fieldName);
+        if (field == null || !field.isRepeated()
+            || field.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+            return;
+        }
+
+        MessageChunker.SPLITTABLE_FIELDS.put(descriptor, field);
+    }
+
+    private MessageChunker() {
+    }
+
+}
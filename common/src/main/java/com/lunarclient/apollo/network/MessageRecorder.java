@@ -0,0 +1,110 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.recipients.Recipients;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.Getter;
+import net.kyori.adventure.audience.Audience;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Captures the messages module implementations send to it, instead of
+ * sending them to a client.
+ *
+ * <p>Used to build and encode the messages of a module action once, so the
+ * encoded messages can be sent to any amount of players later on. Raw
+ * packets are kept as they are and sent again unchanged.</p>
+ *
+ * @since 1.1.6
+ */
+public final class MessageRecorder extends AbstractApolloPlayer {
+
+    @Getter private final UUID uniqueId = UUID.randomUUID();
+    private final List<EncodedMessage> messages = new ArrayList<>();
+
+    /**
+     * Runs the module actions against a new recorder and returns every
+     * message they sent, encoded.
+     *
+     * @param actions the module actions
+     * @return the encoded messages
+     * @since 1.1.6
+     */
+    public static EncodedMessage[] record(List<? extends Consumer<Recipients>> actions) {
+        MessageRecorder recorder = new MessageRecorder();
+        for (Consumer<Recipients> action : actions) {
+            action.accept(recorder);
+        }
+
+        return recorder.messages.toArray(new EncodedMessage[0]);
+    }
+
+    @Override
+    public String getName() {
+        return "Apollo Recorder";
+    }
+
+    @Override
+    public boolean hasPermission(String permissionNode) {
+        return true;
+    }
+
+    @Override
+    public void sendPacket(Message message) {
+        this.messages.add(new EncodedMessage(message));
+    }
+
+    @Override
+    public void sendPacket(EncodedMessage message) {
+        this.messages.add(message);
+    }
+
+    @Override
+    public void sendPacket(byte[] messages) {
+        try {
+            this.messages.add(new EncodedMessage(Any.parseFrom(messages)));
+        } catch (InvalidProtocolBufferException exception) {
+            throw new IllegalArgumentException("Unable to record a malformed packet!", exception);
+        }
+    }
+
+    @Override
+    public Object getPlayer() {
+        return this;
+    }
+
+    @Override
+    public @NotNull Audience audience() {
+        return Audience.empty();
+    }
+
+}
@@ -28,11 +28,13 @@ import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.configurable.v1.ConfigurableSettings;
 import com.lunarclient.apollo.configurable.v1.OverrideConfigurableSettingsMessage;
 import com.lunarclient.apollo.module.ApolloModule;
+import com.lunarclient.apollo.module.modsetting.ModSettingModule;
 import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.option.Options;
 import com.lunarclient.apollo.option.OptionsImpl;
 import com.lunarclient.apollo.player.AbstractApolloPlayer;
 import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.player.PlayerCapabilities;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -63,9 +65,15 @@ public final class NetworkOptions {
         ConfigurableSettings.Builder moduleBuilder = NetworkOptions.module(module);
         moduleBuilder.putProperties(key.getKey(), value);
         modulesBuilder.addConfigurableSettings(moduleBuilder.build());
+        OverrideConfigurableSettingsMessage message = modulesBuilder.build();
 
         for (ApolloPlayer player : players) {
-            ((AbstractApolloPlayer) player).sendPacket(modulesBuilder.build());
+            AbstractApolloPlayer apolloPlayer = (AbstractApolloPlayer) player;
+            if (NetworkOptions.isModMissing(module, key, apolloPlayer.getCapabilities())) {
+                continue;
+            }
+
+            apolloPlayer.sendPacket(message);
         }
     }
 
@@ -82,25 +90,46 @@ public final class NetworkOptions {
                                    boolean onlyPresent,
                                    ApolloPlayer... players) {
         for (ApolloPlayer player : players) {
+            AbstractApolloPlayer apolloPlayer = (AbstractApolloPlayer) player;
+            PlayerCapabilities capabilities = apolloPlayer.getCapabilities();
             OverrideConfigurableSettingsMessage.Builder modulesBuilder = OverrideConfigurableSettingsMessage.newBuilder();
 
             for (ApolloModule module : modules) {
                 modulesBuilder.addConfigurableSettings(NetworkOptions.moduleWithOptions(
                     module,
-                    onlyPresent
+                    onlyPresent,
+                    capabilities
                 ).build());
             }
 
-            ((AbstractApolloPlayer) player).sendPacket(modulesBuilder.build());
+            apolloPlayer.sendPacket(modulesBuilder.build());
         }
     }
 
-    private static ConfigurableSettings.Builder moduleWithOptions(ApolloModule module, boolean onlyPresent) {
+    /**
+     * Returns {@code true} if the option is a mod setting of a mod the
+     * player reported as missing, otherwise returns {@code false}.
+     *
+     * @param module the module the option belongs to
+     * @param option the option
+     * @param capabilities the player capabilities
+     * @return true if the option should not be sent, otherwise false
+     * @since 1.1.6
+     */
+    public static boolean isModMissing(@Nullable ApolloModule module, Option<?, ?, ?> option,
+                                       @Nullable PlayerCapabilities capabilities) {
+        return capabilities != null
+            && module instanceof ModSettingModule
+            && capabilities.isModMissing(option.getPath()[0]);
+    }
+
+    private static ConfigurableSettings.Builder moduleWithOptions(ApolloModule module, boolean onlyPresent,
+                                                                  @Nullable PlayerCapabilities capabilities) {
         ConfigurableSettings.Builder builder = NetworkOptions.module(module);
         Options options = module.getOptions();
 
         for (Option<?, ?, ?> option : options) {
-            if (!option.isNotify()) {
+            if (!option.isNotify() || NetworkOptions.isModMissing(module, option, capabilities)) {
                 continue;
             }
 
@@ -24,6 +24,7 @@
 package com.lunarclient.apollo.network;
 
 import com.google.protobuf.Timestamp;
+import com.lunarclient.apollo.Apollo;
 import com.lunarclient.apollo.common.ApolloEntity;
 import com.lunarclient.apollo.common.cuboid.Cuboid2D;
 import com.lunarclient.apollo.common.cuboid.Cuboid3D;
@@ -37,6 +38,7 @@ import com.lunarclient.apollo.common.location.ApolloPlayerLocation;
 import com.lunarclient.apollo.common.v1.EntityId;
 import com.lunarclient.apollo.common.v1.Uuid;
 import com.lunarclient.apollo.module.packetenrichment.PlayerInfo;
+import com.lunarclient.apollo.player.ApolloPlayerManagerImpl;
 import java.awt.Color;
 import java.time.Duration;
 import java.util.UUID;
@@ -67,6 +69,18 @@ public final class NetworkTypes {
             .build();
     }
 
+    /**
+     * Returns the shared {@link EntityId} proto message for an
+     * {@link ApolloEntity} from the {@link ProtobufIdentityCache}.
+     *
+     * @param object the apollo entity
+     * @return the cached proto entity id message
+     * @since 1.1.6
+     */
+    public static EntityId toCachedProtobuf(ApolloEntity object) {
+        return ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).getIdentityCache().entity(object);
+    }
+
     /**
      * Converts an {@link EntityId} proto message to
      * an {@link ApolloEntity} object.
@@ -94,6 +108,18 @@ public final class NetworkTypes {
             .build();
     }
 
+    /**
+     * Returns the shared {@link Uuid} proto message for a player or entity
+     * {@link UUID} from the {@link ProtobufIdentityCache}.
+     *
+     * @param object the uuid
+     * @return the cached proto uuid message
+     * @since 1.1.6
+     */
+    public static Uuid toCachedProtobuf(UUID object) {
+        return ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).getIdentityCache().uuid(object);
+    }
+
     /**
      * Converts an {@link Uuid} proto message to
      * an {@link UUID} object.
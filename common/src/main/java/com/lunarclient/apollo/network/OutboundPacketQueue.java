@@ -0,0 +1,501 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Internal;
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.border.v1.DisplayBorderMessage;
+import com.lunarclient.apollo.coloredfire.v1.OverrideColoredFireMessage;
+import com.lunarclient.apollo.coloredfire.v1.ResetColoredFireMessage;
+import com.lunarclient.apollo.configurable.v1.OverrideConfigurableSettingsMessage;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.glow.v1.OverrideGlowEffectMessage;
+import com.lunarclient.apollo.glow.v1.ResetGlowEffectMessage;
+import com.lunarclient.apollo.nametag.v1.OverrideNametagMessage;
+import com.lunarclient.apollo.nametag.v1.ResetNametagMessage;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.Options;
+import com.lunarclient.apollo.option.SimpleOption;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.v1.PlayerHandshakeMessage;
+import com.lunarclient.apollo.richpresence.v1.OverrideServerRichPresenceMessage;
+import com.lunarclient.apollo.richpresence.v1.ResetServerRichPresenceMessage;
+import com.lunarclient.apollo.scheduler.ApolloScheduler;
+import com.lunarclient.apollo.transfer.v1.TransferRequest;
+import com.lunarclient.apollo.util.ApolloExecutors;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Orders the messages Apollo sends to each player by priority and keeps
+ * every player within a byte budget per tick.
+ *
+ * <p>Every module is assigned a {@link Lane}. Critical messages are written
+ * right away, ahead of anything deferred. Normal and cosmetic messages are
+ * written right away while the player is within budget and nothing of the
+ * same or a higher lane is waiting, otherwise they are queued and drained
+ * every tick, normal messages first. Queued cosmetic overrides and resets
+ * targeting the same player are coalesced so only the latest one is sent,
+ * and the oldest queued overrides are dropped once the queue is full.
+ * Every other cosmetic message is kept, in order.</p>
+ *
+ * @since 1.1.6
+ */
+public final class OutboundPacketQueue implements ApolloListener {
+
+    /**
+     * Whether outbound messages are prioritised and budgeted.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> ENABLE = Option.<Boolean>builder()
+        .comment("Set to 'true' to send critical Apollo messages first and defer cosmetic ones when a player is over budget, otherwise 'false'.")
+        .node("outbound-packets", "enable").type(TypeToken.get(Boolean.class))
+        .defaultValue(true).build();
+
+    /**
+     * The amount of bytes sent to each player per tick before messages are deferred.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> BYTES_PER_TICK = Option.<Integer>number()
+        .comment("Set the amount of bytes of Apollo messages sent to each player per tick before non critical messages are deferred.")
+        .node("outbound-packets", "bytes-per-tick").type(TypeToken.get(Integer.class))
+        .defaultValue(65536).min(1024).max(16777216).build();
+
+    /**
+     * The maximum amount of cosmetic messages deferred per player.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> MAX_DEFERRED_COSMETIC = Option.<Integer>number()
+        .comment("Set the maximum amount of cosmetic messages deferred per player, the oldest override is dropped first.")
+        .node("outbound-packets", "max-deferred-cosmetic").type(TypeToken.get(Integer.class))
+        .defaultValue(512).min(1).max(65536).build();
+
+    private static final long TICK_MILLIS = 50L;
+
+    private static final Map<String, Lane> LANES = new ConcurrentHashMap<>();
+    private static final Map<String, String> COALESCE_GROUPS = new HashMap<>();
+    private static final Set<String> FULL_STATE_GROUPS = new HashSet<>();
+    private static final Set<String> DROPPABLE_MESSAGES = new HashSet<>();
+
+    static {
+        OutboundPacketQueue.setLane(TransferRequest.class, Lane.CRITICAL);
+        OutboundPacketQueue.setLane(OverrideConfigurableSettingsMessage.class, Lane.CRITICAL);
+        OutboundPacketQueue.setLane(DisplayBorderMessage.class, Lane.CRITICAL);
+        OutboundPacketQueue.setLane(PlayerHandshakeMessage.class, Lane.CRITICAL);
+
+        // Limb, team, beam and entity messages only hold part of the state
+        // or remove it, so they stay in the normal lane and are never merged
+        // or dropped
+        OutboundPacketQueue.setLane(OverrideGlowEffectMessage.class, Lane.COSMETIC);
+        OutboundPacketQueue.setLane(OverrideNametagMessage.class, Lane.COSMETIC);
+        OutboundPacketQueue.setLane(OverrideColoredFireMessage.class, Lane.COSMETIC);
+        OutboundPacketQueue.setLane(OverrideServerRichPresenceMessage.class, Lane.COSMETIC);
+
+        OutboundPacketQueue.coalesce("glow", OverrideGlowEffectMessage.class, ResetGlowEffectMessage.class);
+        OutboundPacketQueue.coalesce("nametag", OverrideNametagMessage.class, ResetNametagMessage.class);
+        OutboundPacketQueue.coalesce("coloredfire", OverrideColoredFireMessage.class, ResetColoredFireMessage.class);
+        OutboundPacketQueue.coalesce("richpresence", OverrideServerRichPresenceMessage.class, ResetServerRichPresenceMessage.class);
+        OutboundPacketQueue.FULL_STATE_GROUPS.add("richpresence");
+
+        OutboundPacketQueue.DROPPABLE_MESSAGES.add(OutboundPacketQueue.messageName(OverrideGlowEffectMessage.class));
+        OutboundPacketQueue.DROPPABLE_MESSAGES.add(OutboundPacketQueue.messageName(OverrideNametagMessage.class));
+        OutboundPacketQueue.DROPPABLE_MESSAGES.add(OutboundPacketQueue.messageName(OverrideColoredFireMessage.class));
+    }
+
+    private final Map<UUID, Outbox> outboxes = new ConcurrentHashMap<>();
+    private final Map<Descriptors.Descriptor, Optional<Descriptors.FieldDescriptor>> targetFields = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private ScheduledFuture<?> flushTask;
+
+    /**
+     * Constructs the {@link OutboundPacketQueue}.
+     *
+     * @since 1.1.6
+     */
+    public OutboundPacketQueue() {
+        ApolloManager.registerOptions(
+            OutboundPacketQueue.ENABLE,
+            OutboundPacketQueue.BYTES_PER_TICK,
+            OutboundPacketQueue.MAX_DEFERRED_COSMETIC
+        );
+
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+    }
+
+    /**
+     * Assigns every message of the module the provided message type
+     * belongs to to the provided {@link Lane}.
+     *
+     * @param type any message type of the module
+     * @param lane the lane
+     * @since 1.1.6
+     */
+    public static void setLane(@NonNull Class<? extends Message> type, @NonNull Lane lane) {
+        OutboundPacketQueue.LANES.put(OutboundPacketQueue.protoPackage(type), lane);
+    }
+
+    /**
+     * Sends the provided message to the player, or defers it if the
+     * player is over budget.
+     *
+     * @param player the player
+     * @param message the message
+     * @since 1.1.6
+     */
+    public void send(@NonNull AbstractApolloPlayer player, @NonNull Message message) {
+        this.send(player, new EncodedMessage(message));
+    }
+
+    /**
+     * Sends the provided encoded message to the player, or defers it if
+     * the player is over budget.
+     *
+     * @param player the player
+     * @param encoded the encoded message
+     * @since 1.1.6
+     */
+    public void send(@NonNull AbstractApolloPlayer player, @NonNull EncodedMessage encoded) {
+        Options options = Apollo.getPlatform().getOptions();
+        if (!options.get(OutboundPacketQueue.ENABLE)) {
+            player.writePacket(encoded);
+            return;
+        }
+
+        Message message = encoded.getMessage();
+        String protoPackage = message.getDescriptorForType().getFile().getPackage();
+        Lane lane = OutboundPacketQueue.LANES.getOrDefault(protoPackage, Lane.NORMAL);
+        Outbox outbox = this.outboxes.computeIfAbsent(player.getUniqueId(), key -> new Outbox(player));
+
+        synchronized (outbox) {
+            outbox.refill(options.get(OutboundPacketQueue.BYTES_PER_TICK));
+
+            if (lane == Lane.CRITICAL || outbox.canWrite(lane)) {
+                outbox.write(encoded);
+                return;
+            }
+
+            if (lane == Lane.NORMAL) {
+                outbox.normal.add(encoded);
+            } else {
+                this.deferCosmetic(outbox, encoded, options.get(OutboundPacketQueue.MAX_DEFERRED_COSMETIC));
+            }
+        }
+
+        this.scheduleFlush();
+    }
+
+    /**
+     * Returns the amount of messages deferred for the player in the provided lane.
+     *
+     * @param playerUuid the player unique id
+     * @param lane the lane
+     * @return the queue depth
+     * @since 1.1.6
+     */
+    public int getQueueDepth(@NonNull UUID playerUuid, @NonNull Lane lane) {
+        Outbox outbox = this.outboxes.get(playerUuid);
+        if (outbox == null) {
+            return 0;
+        }
+
+        synchronized (outbox) {
+            switch (lane) {
+                case NORMAL:
+                    return outbox.normal.size();
+                case COSMETIC:
+                    return outbox.cosmetic.size();
+                default:
+                    return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of cosmetic messages replaced by a newer message.
+     *
+     * @return the coalesced message count
+     * @since 1.1.6
+     */
+    public long getCoalescedPackets() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * Returns the amount of cosmetic messages dropped because the queue was full.
+     *
+     * @return the dropped message count
+     * @since 1.1.6
+     */
+    public long getDroppedPackets() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Stops draining deferred messages, dropping messages that are still queued.
+     *
+     * @since 1.1.6
+     */
+    public synchronized void shutdown() {
+        if (this.flushTask != null) {
+            this.flushTask.cancel(false);
+            this.flushTask = null;
+        }
+
+        this.outboxes.clear();
+    }
+
+    private void deferCosmetic(Outbox outbox, EncodedMessage message, int maxDeferred) {
+        Object key = this.coalesceKey(message.getMessage());
+
+        // Remove the older message first so the newest one is drained last,
+        // after anything queued in between
+        if (outbox.cosmetic.remove(key) != null) {
+            outbox.cosmetic.put(key, message);
+            this.coalesced.increment();
+            return;
+        }
+
+        outbox.cosmetic.put(key, message);
+
+        // Only single player overrides are dropped, anything else would
+        // leave state behind on the client that nothing resends
+        Iterator<EncodedMessage> iterator = outbox.cosmetic.values().iterator();
+        while (outbox.cosmetic.size() > maxDeferred && iterator.hasNext()) {
+            Message deferred = iterator.next().getMessage();
+            if (!OutboundPacketQueue.DROPPABLE_MESSAGES.contains(deferred.getDescriptorForType().getFullName())) {
+                continue;
+            }
+
+            iterator.remove();
+            this.dropped.increment();
+        }
+    }
+
+    private Object coalesceKey(Message message) {
+        String group = OutboundPacketQueue.COALESCE_GROUPS.get(message.getDescriptorForType().getFullName());
+        if (group == null) {
+            // Messages outside an override and reset pair can't be coalesced safely, keep every one of them
+            return new Object();
+        }
+
+        if (OutboundPacketQueue.FULL_STATE_GROUPS.contains(group)) {
+            return new CoalesceKey(group, null);
+        }
+
+        Optional<Descriptors.FieldDescriptor> field = this.targetFields.computeIfAbsent(message.getDescriptorForType(),
+            descriptor -> Optional.ofNullable(descriptor.findFieldByName("player_uuid")));
+
+        return field.isPresent() ? new CoalesceKey(group, message.getField(field.get())) : new Object();
+    }
+
+    private synchronized void scheduleFlush() {
+        if (this.flushTask == null) {
+            this.flushTask = ApolloExecutors.timer().scheduleAtFixedRate(this::flush,
+                OutboundPacketQueue.TICK_MILLIS, OutboundPacketQueue.TICK_MILLIS, TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    private void flush() {
+        int bytesPerTick = Apollo.getPlatform().getOptions().get(OutboundPacketQueue.BYTES_PER_TICK);
+
+        // Region threaded servers only allow writing to a player from the
+        // thread owning it, so each outbox is drained there instead
+        ApolloScheduler scheduler = ApolloManager.getScheduler();
+        boolean regionized = scheduler != null && scheduler.isRegionized();
+
+        for (Outbox outbox : this.outboxes.values()) {
+            if (!regionized) {
+                this.flush(outbox, bytesPerTick);
+                continue;
+            }
+
+            synchronized (outbox) {
+                if (outbox.isEmpty() || outbox.flushScheduled) {
+                    continue;
+                }
+
+                outbox.flushScheduled = true;
+            }
+
+            scheduler.runForPlayer(outbox.player, () -> this.flush(outbox, bytesPerTick));
+        }
+    }
+
+    private void flush(Outbox outbox, int bytesPerTick) {
+        synchronized (outbox) {
+            outbox.flushScheduled = false;
+            if (outbox.isEmpty()) {
+                return;
+            }
+
+            try {
+                outbox.refill(bytesPerTick);
+                outbox.drain();
+            } catch (Throwable throwable) {
+                // An exception would cancel the flush task for every player
+                Apollo.getPlatform().getPlatformLogger().log(Level.WARNING,
+                    "Unable to flush Apollo messages for " + outbox.player.getName() + "!", throwable);
+            }
+        }
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        this.outboxes.remove(event.getPlayer().getUniqueId());
+    }
+
+    private static void coalesce(String group, Class<? extends Message> override, Class<? extends Message> reset) {
+        OutboundPacketQueue.COALESCE_GROUPS.put(OutboundPacketQueue.messageName(override), group);
+        OutboundPacketQueue.COALESCE_GROUPS.put(OutboundPacketQueue.messageName(reset), group);
+    }
+
+    private static String protoPackage(Class<? extends Message> type) {
+        return Internal.getDefaultInstance(type).getDescriptorForType().getFile().getPackage();
+    }
+
+    private static String messageName(Class<? extends Message> type) {
+        return Internal.getDefaultInstance(type).getDescriptorForType().getFullName();
+    }
+
+    /**
+     * The priority of outbound messages.
+     *
+     * @since 1.1.6
+     */
+    public enum Lane {
+
+        /**
+         * Messages that are written immediately, regardless of the budget.
+         *
+         * @since 1.1.6
+         */
+        CRITICAL,
+
+        /**
+         * Messages that are deferred when over budget, but never dropped.
+         *
+         * @since 1.1.6
+         */
+        NORMAL,
+
+        /**
+         * Messages that are deferred last and may be coalesced or dropped.
+         *
+         * @since 1.1.6
+         */
+        COSMETIC
+
+    }
+
+    @Value
+    private static class CoalesceKey {
+
+        String group;
+        Object target;
+
+    }
+
+    @RequiredArgsConstructor
+    private static final class Outbox {
+
+        private final AbstractApolloPlayer player;
+        private final Queue<EncodedMessage> normal = new ArrayDeque<>();
+        private final Map<Object, EncodedMessage> cosmetic = new LinkedHashMap<>();
+
+        private long budget = Long.MIN_VALUE;
+        private long refilledTick;
+        private boolean flushScheduled;
+
+        void refill(int bytesPerTick) {
+            long tick = System.nanoTime() / TimeUnit.MILLISECONDS.toNanos(OutboundPacketQueue.TICK_MILLIS);
+
+            if (this.budget == Long.MIN_VALUE) {
+                this.budget = bytesPerTick;
+            } else if (tick != this.refilledTick) {
+                // Debt from oversized or critical messages carries over to the next tick
+                this.budget = Math.min(bytesPerTick, this.budget + (tick - this.refilledTick) * bytesPerTick);
+            }
+
+            this.refilledTick = tick;
+        }
+
+        boolean canWrite(Lane lane) {
+            if (this.budget <= 0 || !this.normal.isEmpty()) {
+                return false;
+            }
+
+            return lane == Lane.NORMAL || this.cosmetic.isEmpty();
+        }
+
+        boolean isEmpty() {
+            return this.normal.isEmpty() && this.cosmetic.isEmpty();
+        }
+
+        void write(EncodedMessage message) {
+            this.budget -= message.getMessage().getSerializedSize();
+            this.player.writePacket(message);
+        }
+
+        void drain() {
+            while (this.budget > 0 && !this.normal.isEmpty()) {
+                this.write(this.normal.poll());
+            }
+
+            Iterator<EncodedMessage> iterator = this.cosmetic.values().iterator();
+            while (this.budget > 0 && iterator.hasNext()) {
+                EncodedMessage message = iterator.next();
+                iterator.remove();
+                this.write(message);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.lunarclient.apollo.common.ApolloEntity;
+import com.lunarclient.apollo.common.v1.EntityId;
+import com.lunarclient.apollo.common.v1.Uuid;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Caches the immutable {@link Uuid} and {@link EntityId} proto messages
+ * for online players and tracked entities.
+ *
+ * <p>Modules reference the same players on every update, so the identity
+ * messages are built once and shared between every packet. Entries are
+ * evicted when the player leaves or the entity is removed; both maps are
+ * also bounded, dropping the least recently used entry, so identifiers
+ * that are never evicted cannot leak.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ProtobufIdentityCache {
+
+    private static final int MAX_ENTRIES = 8192;
+
+    private final Map<UUID, Uuid> uuids = ProtobufIdentityCache.boundedMap();
+    private final Map<UUID, EntityId> entities = ProtobufIdentityCache.boundedMap();
+
+    /**
+     * Returns the shared {@link Uuid} message for the given {@link UUID}.
+     *
+     * @param uuid the uuid
+     * @return the proto uuid message
+     * @since 1.1.6
+     */
+    public Uuid uuid(@NonNull UUID uuid) {
+        Uuid message = this.uuids.get(uuid);
+
+        if (message == null) {
+            message = NetworkTypes.toProtobuf(uuid);
+            this.uuids.put(uuid, message);
+        }
+
+        return message;
+    }
+
+    /**
+     * Returns the shared {@link EntityId} message for the given {@link ApolloEntity}.
+     *
+     * <p>Entities are keyed by their {@link UUID}; a cached message whose
+     * numeric id no longer matches (for example after a respawn) is rebuilt.</p>
+     *
+     * @param entity the entity
+     * @return the proto entity id message
+     * @since 1.1.6
+     */
+    public EntityId entity(@NonNull ApolloEntity entity) {
+        UUID uuid = entity.getEntityUuid();
+        EntityId message = this.entities.get(uuid);
+
+        if (message == null || message.getEntityId() != entity.getEntityId()) {
+            message = EntityId.newBuilder()
+                .setEntityId(entity.getEntityId())
+                .setEntityUuid(this.uuid(uuid))
+                .build();
+
+            this.entities.put(uuid, message);
+        }
+
+        return message;
+    }
+
+    /**
+     * Evicts every cached message belonging to the given {@link UUID}.
+     *
+     * @param uuid the player or entity uuid
+     * @since 1.1.6
+     */
+    public void evict(@NonNull UUID uuid) {
+        this.uuids.remove(uuid);
+        this.entities.remove(uuid);
+    }
+
+    /**
+     * Clears every cached message.
+     *
+     * @since 1.1.6
+     */
+    public void clear() {
+        this.uuids.clear();
+        this.entities.clear();
+    }
+
+    private static <T> Map<UUID, T> boundedMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<UUID, T>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, T> eldest) {
+                return this.size() > ProtobufIdentityCache.MAX_ENTRIES;
+            }
+        });
+    }
+
+}
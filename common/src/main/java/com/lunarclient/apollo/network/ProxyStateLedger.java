@@ -0,0 +1,556 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.network;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.NullValue;
+import com.google.protobuf.Value;
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.beam.v1.DisplayBeaconBeamMessage;
+import com.lunarclient.apollo.beam.v1.RemoveBeaconBeamMessage;
+import com.lunarclient.apollo.beam.v1.ResetBeaconBeamsMessage;
+import com.lunarclient.apollo.configurable.v1.ConfigurableSettings;
+import com.lunarclient.apollo.configurable.v1.OverrideConfigurableSettingsMessage;
+import com.lunarclient.apollo.hologram.v1.DisplayHologramMessage;
+import com.lunarclient.apollo.hologram.v1.RemoveHologramMessage;
+import com.lunarclient.apollo.hologram.v1.ResetHologramsMessage;
+import com.lunarclient.apollo.module.ApolloModule;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.Options;
+import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.option.SimpleOption;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.team.v1.ResetTeamMembersMessage;
+import com.lunarclient.apollo.team.v1.TeamMember;
+import com.lunarclient.apollo.team.v1.UpdateTeamMembersMessage;
+import com.lunarclient.apollo.waypoint.v1.DisplayWaypointMessage;
+import com.lunarclient.apollo.waypoint.v1.RemoveWaypointMessage;
+import com.lunarclient.apollo.waypoint.v1.ResetWaypointsMessage;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the Apollo state a proxy has forwarded from backend
+ * servers to each player.
+ *
+ * <p>When a player switches servers, the new backend registers the
+ * player again and resends its state. Messages that would not change
+ * the state of the client are dropped, and displays, team members and
+ * settings from the previous backend that the new backend does not
+ * declare again within the {@link #SWITCH_GRACE_PERIOD} are removed or
+ * restored to their defaults.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ProxyStateLedger {
+
+    /**
+     * Whether the proxy filters backend messages that don't change client state.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Boolean> ENABLE = Option.<Boolean>builder()
+        .comment("Set to 'true' to drop Apollo messages from backend servers that don't change the state of the client, otherwise 'false'.")
+        .node("proxy-state-ledger", "enable").type(TypeToken.get(Boolean.class))
+        .defaultValue(true).build();
+
+    /**
+     * The time in seconds a new backend has to declare its displays after a server switch.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> SWITCH_GRACE_PERIOD = Option.<Integer>number()
+        .comment("Set the time in seconds a new backend server has to resend displays before the ones from the previous server are removed.")
+        .node("proxy-state-ledger", "switch-grace-period").type(TypeToken.get(Integer.class))
+        .defaultValue(5).min(1).max(60).build();
+
+    private static final Map<String, DisplayType> DISPLAY_TYPES = new HashMap<>();
+
+    static {
+        ProxyStateLedger.registerDisplayType(
+            DisplayHologramMessage.getDescriptor().getFullName(),
+            RemoveHologramMessage.getDescriptor().getFullName(),
+            ResetHologramsMessage.getDescriptor().getFullName(),
+            value -> DisplayHologramMessage.parseFrom(value).getId(),
+            value -> RemoveHologramMessage.parseFrom(value).getId(),
+            id -> RemoveHologramMessage.newBuilder().setId(id).build()
+        );
+
+        ProxyStateLedger.registerDisplayType(
+            DisplayWaypointMessage.getDescriptor().getFullName(),
+            RemoveWaypointMessage.getDescriptor().getFullName(),
+            ResetWaypointsMessage.getDescriptor().getFullName(),
+            value -> DisplayWaypointMessage.parseFrom(value).getName(),
+            value -> RemoveWaypointMessage.parseFrom(value).getName(),
+            id -> RemoveWaypointMessage.newBuilder().setName(id).build()
+        );
+
+        ProxyStateLedger.registerDisplayType(
+            DisplayBeaconBeamMessage.getDescriptor().getFullName(),
+            RemoveBeaconBeamMessage.getDescriptor().getFullName(),
+            ResetBeaconBeamsMessage.getDescriptor().getFullName(),
+            value -> DisplayBeaconBeamMessage.parseFrom(value).getId(),
+            value -> RemoveBeaconBeamMessage.parseFrom(value).getId(),
+            id -> RemoveBeaconBeamMessage.newBuilder().setId(id).build()
+        );
+    }
+
+    private static final String SETTINGS_URL = ProxyStateLedger.typeUrl(OverrideConfigurableSettingsMessage.getDescriptor().getFullName());
+    private static final String TEAM_UPDATE_URL = ProxyStateLedger.typeUrl(UpdateTeamMembersMessage.getDescriptor().getFullName());
+    private static final String TEAM_RESET_URL = ProxyStateLedger.typeUrl(ResetTeamMembersMessage.getDescriptor().getFullName());
+
+    private final Map<UUID, PlayerLedger> ledgers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the {@link ProxyStateLedger}.
+     *
+     * @since 1.1.6
+     */
+    public ProxyStateLedger() {
+        ApolloManager.registerOptions(
+            ProxyStateLedger.ENABLE,
+            ProxyStateLedger.SWITCH_GRACE_PERIOD
+        );
+    }
+
+    /**
+     * Records an Apollo message a backend server sent to the player and
+     * returns what should be forwarded to the player instead.
+     *
+     * @param playerUuid the player uuid
+     * @param bytes      the message sent by the backend
+     * @return the same array to forward the message unchanged, a new array
+     *     to forward instead, or {@code null} to drop the message
+     * @since 1.1.6
+     */
+    public byte[] filter(UUID playerUuid, byte[] bytes) {
+        if (!Apollo.getPlatform().getOptions().get(ProxyStateLedger.ENABLE)) {
+            return bytes;
+        }
+
+        Any any;
+        try {
+            any = Any.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException exception) {
+            return bytes;
+        }
+
+        String typeUrl = any.getTypeUrl();
+        PlayerLedger ledger = this.ledgers.computeIfAbsent(playerUuid, key -> new PlayerLedger());
+
+        try {
+            synchronized (ledger) {
+                if (typeUrl.equals(ProxyStateLedger.SETTINGS_URL)) {
+                    return ledger.filterSettings(bytes, OverrideConfigurableSettingsMessage.parseFrom(any.getValue()));
+                } else if (typeUrl.equals(ProxyStateLedger.TEAM_UPDATE_URL)) {
+                    return ledger.filterTeam(bytes, UpdateTeamMembersMessage.parseFrom(any.getValue()));
+                } else if (typeUrl.equals(ProxyStateLedger.TEAM_RESET_URL)) {
+                    ledger.teamMembers.clear();
+                    return bytes;
+                }
+
+                DisplayType type = ProxyStateLedger.DISPLAY_TYPES.get(typeUrl);
+                return type == null ? bytes : ledger.filterDisplay(bytes, type, any.getValue());
+            }
+        } catch (InvalidProtocolBufferException exception) {
+            return bytes;
+        }
+    }
+
+    /**
+     * Marks the displays, team members and settings forwarded to the
+     * player as belonging to the previous server.
+     *
+     * @param playerUuid the player uuid
+     * @return the switch generation to pass to {@link #sweep(UUID, long)}
+     * @since 1.1.6
+     */
+    public long beginSwitch(UUID playerUuid) {
+        PlayerLedger ledger = this.ledgers.computeIfAbsent(playerUuid, key -> new PlayerLedger());
+
+        synchronized (ledger) {
+            for (Map<String, DisplayEntry> entries : ledger.displays.values()) {
+                for (DisplayEntry entry : entries.values()) {
+                    entry.stale = true;
+                }
+            }
+
+            for (TeamEntry entry : ledger.teamMembers.values()) {
+                entry.stale = true;
+            }
+
+            ledger.staleModules.addAll(ledger.enabled.keySet());
+            for (Map.Entry<String, Map<String, Value>> properties : ledger.settings.entrySet()) {
+                ledger.staleSettings.computeIfAbsent(properties.getKey(), key -> new HashSet<>())
+                    .addAll(properties.getValue().keySet());
+            }
+
+            return ++ledger.generation;
+        }
+    }
+
+    /**
+     * Removes the displays and team members, and restores the settings to
+     * their defaults, of the previous server that the new server did not
+     * declare again since {@link #beginSwitch(UUID)}.
+     *
+     * @param playerUuid the player uuid
+     * @param generation the switch generation
+     * @since 1.1.6
+     */
+    public void sweep(UUID playerUuid, long generation) {
+        PlayerLedger ledger = this.ledgers.get(playerUuid);
+        if (ledger == null) {
+            return;
+        }
+
+        List<Message> messages = new ArrayList<>();
+        synchronized (ledger) {
+            if (ledger.generation != generation) {
+                return;
+            }
+
+            ledger.sweep(messages);
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Apollo.getPlayerManager().getPlayer(playerUuid).ifPresent(player -> {
+            for (Message message : messages) {
+                ((AbstractApolloPlayer) player).sendPacket(message);
+            }
+        });
+    }
+
+    /**
+     * Forgets everything forwarded to the player.
+     *
+     * @param playerUuid the player uuid
+     * @since 1.1.6
+     */
+    public void forget(UUID playerUuid) {
+        this.ledgers.remove(playerUuid);
+    }
+
+    private static @Nullable ApolloModule module(String id) {
+        for (ApolloModule module : Apollo.getModuleManager().getModules()) {
+            if (module.getId().equals(id)) {
+                return module;
+            }
+        }
+
+        return null;
+    }
+
+    private static @Nullable Options options(String id, @Nullable ApolloModule module) {
+        if (module != null) {
+            return module.getOptions();
+        }
+
+        return id.equals(ApolloManager.PLUGIN_ROOT_MODULE) ? Apollo.getPlatform().getOptions() : null;
+    }
+
+    private static Value defaultValue(@Nullable Options options, String key) {
+        if (options != null) {
+            for (Option<?, ?, ?> option : options) {
+                if (option.getKey().equals(key)) {
+                    return ((OptionsImpl) options).wrapValue(Value.newBuilder(), option.getTypeToken().getType(),
+                        option.getDefaultValue());
+                }
+            }
+        }
+
+        // Options the proxy doesn't know are unset, like options without a value
+        return Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+    }
+
+    private static void registerDisplayType(String displayName, String removeName, String resetName,
+                                            IdParser displayId, IdParser removeId,
+                                            Function<String, Message> removeFactory) {
+        String displayUrl = ProxyStateLedger.typeUrl(displayName);
+        String removeUrl = ProxyStateLedger.typeUrl(removeName);
+        String resetUrl = ProxyStateLedger.typeUrl(resetName);
+
+        ProxyStateLedger.DISPLAY_TYPES.put(displayUrl, new DisplayType(displayUrl, Action.DISPLAY, displayId, removeFactory));
+        ProxyStateLedger.DISPLAY_TYPES.put(removeUrl, new DisplayType(displayUrl, Action.REMOVE, removeId, removeFactory));
+        ProxyStateLedger.DISPLAY_TYPES.put(resetUrl, new DisplayType(displayUrl, Action.RESET, null, removeFactory));
+    }
+
+    private static String typeUrl(String fullName) {
+        return "type.googleapis.com/" + fullName;
+    }
+
+    private enum Action {
+        DISPLAY,
+        REMOVE,
+        RESET
+    }
+
+    @FunctionalInterface
+    private interface IdParser {
+        String parse(ByteString value) throws InvalidProtocolBufferException;
+    }
+
+    @RequiredArgsConstructor
+    private static final class DisplayType {
+
+        private final String displayUrl;
+        private final Action action;
+        private final IdParser idParser;
+        private final Function<String, Message> removeFactory;
+
+    }
+
+    @RequiredArgsConstructor
+    private static final class DisplayEntry {
+
+        private final ByteString value;
+        private boolean stale;
+
+    }
+
+    @RequiredArgsConstructor
+    private static final class TeamEntry {
+
+        private final TeamMember member;
+        private boolean stale;
+
+    }
+
+    private static final class PlayerLedger {
+
+        private final Map<String, Map<String, DisplayEntry>> displays = new HashMap<>();
+        private final Map<String, Map<String, Value>> settings = new HashMap<>();
+        private final Map<String, Boolean> enabled = new HashMap<>();
+        private final Set<String> staleModules = new HashSet<>();
+        private final Map<String, Set<String>> staleSettings = new HashMap<>();
+        private final Map<ByteString, TeamEntry> teamMembers = new HashMap<>();
+        private long generation;
+
+        private byte[] filterDisplay(byte[] bytes, DisplayType type, ByteString value)
+            throws InvalidProtocolBufferException {
+            if (type.action == Action.RESET) {
+                this.displays.remove(type.displayUrl);
+                return bytes;
+            }
+
+            String id = type.idParser.parse(value);
+            if (type.action == Action.REMOVE) {
+                Map<String, DisplayEntry> entries = this.displays.get(type.displayUrl);
+                if (entries != null) {
+                    entries.remove(id);
+                }
+
+                return bytes;
+            }
+
+            Map<String, DisplayEntry> entries = this.displays.computeIfAbsent(type.displayUrl, key -> new HashMap<>());
+            DisplayEntry previous = entries.get(id);
+            if (previous != null && previous.value.equals(value)) {
+                previous.stale = false;
+                return null;
+            }
+
+            entries.put(id, new DisplayEntry(value));
+            return bytes;
+        }
+
+        private byte[] filterSettings(byte[] bytes, OverrideConfigurableSettingsMessage message) {
+            OverrideConfigurableSettingsMessage.Builder builder = OverrideConfigurableSettingsMessage.newBuilder();
+            boolean modified = false;
+
+            for (ConfigurableSettings settings : message.getConfigurableSettingsList()) {
+                String module = settings.getApolloModule();
+                Map<String, Value> properties = this.settings.computeIfAbsent(module, key -> new HashMap<>());
+                Boolean previousEnable = this.enabled.put(module, settings.getEnable());
+                Set<String> staleKeys = this.staleSettings.get(module);
+                this.staleModules.remove(module);
+
+                ConfigurableSettings.Builder changed = settings.toBuilder().clearProperties();
+                for (Map.Entry<String, Value> property : settings.getPropertiesMap().entrySet()) {
+                    if (staleKeys != null) {
+                        staleKeys.remove(property.getKey());
+                    }
+
+                    Value previous = properties.put(property.getKey(), property.getValue());
+                    if (!property.getValue().equals(previous)) {
+                        changed.putProperties(property.getKey(), property.getValue());
+                    }
+                }
+
+                boolean enableChanged = previousEnable == null || previousEnable != settings.getEnable();
+                if (changed.getPropertiesCount() == 0 && !enableChanged) {
+                    modified = true;
+                    continue;
+                }
+
+                if (changed.getPropertiesCount() != settings.getPropertiesCount()) {
+                    modified = true;
+                }
+
+                builder.addConfigurableSettings(changed);
+            }
+
+            if (!modified) {
+                return bytes;
+            }
+
+            return builder.getConfigurableSettingsCount() == 0 ? null : Any.pack(builder.build()).toByteArray();
+        }
+
+        private byte[] filterTeam(byte[] bytes, UpdateTeamMembersMessage message) {
+            UpdateTeamMembersMessage.Builder builder = UpdateTeamMembersMessage.newBuilder();
+
+            for (TeamMember member : message.getMembersList()) {
+                ByteString key = member.getPlayerUuid().toByteString();
+                TeamEntry previous = this.teamMembers.get(key);
+
+                if (previous != null && previous.member.equals(member)) {
+                    previous.stale = false;
+                    continue;
+                }
+
+                this.teamMembers.put(key, new TeamEntry(member));
+                builder.addMembers(member);
+            }
+
+            if (builder.getMembersCount() == message.getMembersCount()) {
+                return bytes;
+            }
+
+            return builder.getMembersCount() == 0 ? null : Any.pack(builder.build()).toByteArray();
+        }
+
+        private void sweep(List<Message> messages) {
+            for (Map.Entry<String, Map<String, DisplayEntry>> displayEntries : this.displays.entrySet()) {
+                Function<String, Message> removeFactory = ProxyStateLedger.DISPLAY_TYPES.get(displayEntries.getKey()).removeFactory;
+                Iterator<Map.Entry<String, DisplayEntry>> iterator = displayEntries.getValue().entrySet().iterator();
+
+                while (iterator.hasNext()) {
+                    Map.Entry<String, DisplayEntry> entry = iterator.next();
+                    if (!entry.getValue().stale) {
+                        continue;
+                    }
+
+                    iterator.remove();
+                    messages.add(removeFactory.apply(entry.getKey()));
+                }
+            }
+
+            this.sweepSettings(messages);
+
+            // Team members can't be removed one by one, so the team is
+            // reset and the members the new server declared are resent.
+            if (this.teamMembers.values().removeIf(entry -> entry.stale)) {
+                messages.add(ResetTeamMembersMessage.getDefaultInstance());
+
+                if (!this.teamMembers.isEmpty()) {
+                    UpdateTeamMembersMessage.Builder builder = UpdateTeamMembersMessage.newBuilder();
+                    for (TeamEntry entry : this.teamMembers.values()) {
+                        builder.addMembers(entry.member);
+                    }
+
+                    messages.add(builder.build());
+                }
+            }
+        }
+
+        private void sweepSettings(List<Message> messages) {
+            Set<String> modules = new HashSet<>(this.staleModules);
+            for (Map.Entry<String, Set<String>> staleKeys : this.staleSettings.entrySet()) {
+                if (!staleKeys.getValue().isEmpty()) {
+                    modules.add(staleKeys.getKey());
+                }
+            }
+
+            if (modules.isEmpty()) {
+                return;
+            }
+
+            // The new server may not know these modules or options at all,
+            // so what the previous server set is restored to the defaults
+            OverrideConfigurableSettingsMessage.Builder builder = OverrideConfigurableSettingsMessage.newBuilder();
+            for (String module : modules) {
+                ApolloModule apolloModule = ProxyStateLedger.module(module);
+                Options options = ProxyStateLedger.options(module, apolloModule);
+
+                boolean enable = this.enabled.getOrDefault(module, true);
+                boolean changed = false;
+                if (this.staleModules.contains(module) && options != null) {
+                    boolean defaultEnable = apolloModule == null || apolloModule.isEnabled();
+                    changed = enable != defaultEnable;
+                    enable = defaultEnable;
+                    this.enabled.put(module, enable);
+                }
+
+                ConfigurableSettings.Builder settings = ConfigurableSettings.newBuilder()
+                    .setApolloModule(module)
+                    .setEnable(enable);
+
+                Map<String, Value> properties = this.settings.computeIfAbsent(module, key -> new HashMap<>());
+                for (String key : this.staleSettings.getOrDefault(module, Collections.emptySet())) {
+                    Value value = ProxyStateLedger.defaultValue(options, key);
+                    if (value.equals(properties.put(key, value))) {
+                        continue;
+                    }
+
+                    settings.putProperties(key, value);
+                    changed = true;
+                }
+
+                if (changed) {
+                    builder.addConfigurableSettings(settings);
+                }
+            }
+
+            this.staleModules.clear();
+            this.staleSettings.clear();
+
+            if (builder.getConfigurableSettingsCount() != 0) {
+                messages.add(builder.build());
+            }
+        }
+
+    }
+
+}
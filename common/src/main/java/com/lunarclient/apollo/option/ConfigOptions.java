@@ -24,7 +24,10 @@
 package com.lunarclient.apollo.option;
 
 import io.leangen.geantyref.TypeToken;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 
 /**
@@ -44,6 +47,24 @@ public final class ConfigOptions {
      * @since 1.0.0
      */
     public static void loadOptions(Options options, CommentedConfigurationNode node, List<Option<?, ?, ?>> optionKeys) {
+        ConfigOptions.applyOptions(options, ConfigOptions.readOptions(node, optionKeys));
+    }
+
+    /**
+     * Reads the list of options from the configuration node without
+     * applying them.
+     *
+     * <p>This doesn't post any events, so it is safe to call off the main
+     * thread as long as the node isn't modified concurrently.</p>
+     *
+     * @param node the configuration node
+     * @param optionKeys the option keys
+     * @return the option values present in the configuration
+     * @since 1.1.6
+     */
+    public static List<Map.Entry<Option<?, ?, ?>, Object>> readOptions(CommentedConfigurationNode node, List<Option<?, ?, ?>> optionKeys) {
+        List<Map.Entry<Option<?, ?, ?>, Object>> values = new ArrayList<>();
+
         for (Option<?, ?, ?> option : optionKeys) {
             CommentedConfigurationNode optionNode = node.node((Object[]) option.getPath());
             if (optionNode.virtual()) {
@@ -51,8 +72,27 @@ public final class ConfigOptions {
             }
 
             try {
-                Object value = optionNode.get(option.getTypeToken());
-                options.set(option, value);
+                values.add(new AbstractMap.SimpleImmutableEntry<>(option, optionNode.get(option.getTypeToken())));
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Applies option values read by {@link #readOptions(CommentedConfigurationNode, List)}
+     * to the option container.
+     *
+     * @param options the options container
+     * @param values the option values
+     * @since 1.1.6
+     */
+    public static void applyOptions(Options options, List<Map.Entry<Option<?, ?, ?>, Object>> values) {
+        for (Map.Entry<Option<?, ?, ?>, Object> entry : values) {
+            try {
+                options.set(entry.getKey(), entry.getValue());
             } catch (Throwable throwable) {
                 throwable.printStackTrace();
             }
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.option;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.module.ApolloModule;
+import com.lunarclient.apollo.module.ApolloModuleManagerImpl;
+import io.leangen.geantyref.TypeToken;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+/**
+ * Represents a named set of module option values declared in the
+ * Apollo configuration.
+ *
+ * <p>Profiles are laid out like the module sections of the
+ * configuration, keyed by module id first and option path second.</p>
+ *
+ * @since 1.1.6
+ */
+@Getter
+@RequiredArgsConstructor
+final class SettingsProfile {
+
+    private final Map<ApolloModule, Map<Option<?, ?, ?>, Object>> values;
+
+    /**
+     * Returns {@code true} if this profile sets the option of the module.
+     *
+     * @param module the module
+     * @param option the option
+     * @return true if the profile sets the option, otherwise false
+     * @since 1.1.6
+     */
+    boolean contains(ApolloModule module, Option<?, ?, ?> option) {
+        return this.values.getOrDefault(module, Collections.emptyMap()).containsKey(option);
+    }
+
+    /**
+     * Serializes {@link SettingsProfile}s to and from the configuration.
+     *
+     * @since 1.1.6
+     */
+    static final class SettingsProfileSerializer implements TypeSerializer<SettingsProfile> {
+
+        @Override
+        public SettingsProfile deserialize(Type type, ConfigurationNode node) throws SerializationException {
+            ApolloModuleManagerImpl moduleManager = (ApolloModuleManagerImpl) Apollo.getModuleManager();
+            Map<ApolloModule, Map<Option<?, ?, ?>, Object>> values = new LinkedHashMap<>();
+
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.childrenMap().entrySet()) {
+                ApolloModule module = this.module(moduleManager, String.valueOf(entry.getKey()));
+                Map<Option<?, ?, ?>, Object> moduleValues = new LinkedHashMap<>();
+
+                for (Option<?, ?, ?> option : moduleManager.getOptionKeys(module)) {
+                    ConfigurationNode optionNode = entry.getValue().node((Object[]) option.getPath());
+                    if (optionNode.virtual()) {
+                        continue;
+                    }
+
+                    Object value = optionNode.get(option.getTypeToken());
+                    if (value != null) {
+                        moduleValues.put(option, value);
+                    }
+                }
+
+                values.put(module, moduleValues);
+            }
+
+            return new SettingsProfile(values);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void serialize(Type type, @Nullable SettingsProfile profile, ConfigurationNode node) throws SerializationException {
+            if (profile == null) {
+                node.raw(null);
+                return;
+            }
+
+            for (Map.Entry<ApolloModule, Map<Option<?, ?, ?>, Object>> entry : profile.getValues().entrySet()) {
+                ConfigurationNode moduleNode = node.node(entry.getKey().getId().toLowerCase(Locale.ROOT));
+
+                for (Map.Entry<Option<?, ?, ?>, Object> value : entry.getValue().entrySet()) {
+                    Option<?, ?, ?> option = value.getKey();
+                    moduleNode.node((Object[]) option.getPath()).set((TypeToken<Object>) option.getTypeToken(), value.getValue());
+                }
+            }
+        }
+
+        private ApolloModule module(ApolloModuleManagerImpl moduleManager, String moduleId) throws SerializationException {
+            for (ApolloModule module : moduleManager.getModules()) {
+                if (module.getId().equalsIgnoreCase(moduleId)) {
+                    return module;
+                }
+            }
+
+            throw new SerializationException("Unknown module " + moduleId + "!");
+        }
+
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.option;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Value;
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.configurable.v1.ConfigurableSettings;
+import com.lunarclient.apollo.configurable.v1.OverrideConfigurableSettingsMessage;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.option.ApolloUpdateOptionEvent;
+import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.module.ApolloModule;
+import com.lunarclient.apollo.network.NetworkOptions;
+import com.lunarclient.apollo.option.config.Serializer;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.player.PlayerCapabilities;
+import io.leangen.geantyref.TypeToken;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Applies the server rule and mod setting profiles bound to worlds.
+ *
+ * <p>Moving between two profiles is compiled into a single
+ * {@link OverrideConfigurableSettingsMessage}, holding the options of the
+ * new profile and the module values of the options only the old profile
+ * set. The message is packed once and sent to every player making the
+ * same move, unless the player has their own values for the options
+ * being restored.</p>
+ *
+ * @since 1.1.6
+ */
+public final class SettingsProfileManager implements ApolloListener, Serializer {
+
+    static final SimpleOption<Map<String, SettingsProfile>> PROFILES = Option.<Map<String, SettingsProfile>>builder()
+        .comment("Set the named module option profiles, laid out like the module sections of the configuration.")
+        .node("settings-profiles", "profiles").type(new TypeToken<Map<String, SettingsProfile>>() {})
+        .defaultValue(new LinkedHashMap<>()).build();
+
+    /**
+     * The profile used by each world.
+     *
+     * @since 1.1.6
+     */
+    public static final SimpleOption<Map<String, String>> WORLDS = Option.<Map<String, String>>builder()
+        .comment("Set the profile used by each world, worlds without one use the module options.")
+        .node("settings-profiles", "worlds").type(new TypeToken<Map<String, String>>() {})
+        .defaultValue(new LinkedHashMap<>()).build();
+
+    private final Map<UUID, String> activeProfiles = new ConcurrentHashMap<>();
+    private final Map<Transition, Any> transitions = new ConcurrentHashMap<>();
+
+    private volatile Map<String, SettingsProfile> loadedProfiles;
+
+    /**
+     * Constructs the {@link SettingsProfileManager}.
+     *
+     * @since 1.1.6
+     */
+    public SettingsProfileManager() {
+        this.serializer(SettingsProfile.class, new SettingsProfile.SettingsProfileSerializer());
+        ApolloManager.registerOptions(
+            SettingsProfileManager.PROFILES,
+            SettingsProfileManager.WORLDS
+        );
+
+        this.handle(ApolloRegisterPlayerEvent.class, this::onPlayerRegister);
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+        this.handle(ApolloUpdateOptionEvent.class, this::onOptionUpdate);
+    }
+
+    /**
+     * Applies the profile of the provided world to the player, if it
+     * differs from the profile the player currently has.
+     *
+     * @param player the player
+     * @param world the world name
+     * @since 1.1.6
+     */
+    public void applyWorld(@NonNull ApolloPlayer player, @NonNull String world) {
+        String profile = Apollo.getPlatform().getOptions().get(SettingsProfileManager.WORLDS).get(world);
+        String previous = profile == null
+            ? this.activeProfiles.remove(player.getUniqueId())
+            : this.activeProfiles.put(player.getUniqueId(), profile);
+
+        if (!Objects.equals(previous, profile)) {
+            this.send(player, previous, profile);
+        }
+    }
+
+    /**
+     * Sends the current profile of the player again, after the module
+     * options were sent to them.
+     *
+     * @param player the player
+     * @since 1.1.6
+     */
+    public void reapply(@NonNull ApolloPlayer player) {
+        String profile = this.activeProfiles.get(player.getUniqueId());
+        if (profile != null) {
+            this.send(player, null, profile);
+        }
+    }
+
+    private void send(ApolloPlayer player, @Nullable String from, @Nullable String to) {
+        Map<String, SettingsProfile> profiles = this.getProfiles();
+        SettingsProfile fromProfile = from == null ? null : profiles.get(from);
+        SettingsProfile toProfile = to == null ? null : profiles.get(to);
+        if (fromProfile == null && toProfile == null) {
+            return;
+        }
+
+        PlayerCapabilities capabilities = ((AbstractApolloPlayer) player).getCapabilities();
+        Any message;
+
+        // Players missing a mod, or with their own values for the options
+        // being restored, get their own copy
+        if (this.isModMissing(fromProfile, capabilities) || this.isModMissing(toProfile, capabilities)
+            || this.hasPlayerValues(player, fromProfile, toProfile)) {
+            message = Any.pack(this.compile(fromProfile, toProfile, player));
+        } else {
+            message = this.transitions.computeIfAbsent(new Transition(from, to),
+                transition -> Any.pack(this.compile(fromProfile, toProfile, null))
+            );
+        }
+
+        ApolloManager.getNetworkManager().sendPacket(player, message);
+    }
+
+    private OverrideConfigurableSettingsMessage compile(@Nullable SettingsProfile from, @Nullable SettingsProfile to,
+                                                        @Nullable ApolloPlayer player) {
+        Map<ApolloModule, Map<Option<?, ?, ?>, Object>> values = new LinkedHashMap<>();
+
+        if (from != null) {
+            for (Map.Entry<ApolloModule, Map<Option<?, ?, ?>, Object>> entry : from.getValues().entrySet()) {
+                ApolloModule module = entry.getKey();
+
+                for (Option<?, ?, ?> option : entry.getValue().keySet()) {
+                    if (to == null || !to.contains(module, option)) {
+                        Object value = player == null
+                            ? module.getOptions().get(option)
+                            : module.getOptions().get(player, option);
+
+                        values.computeIfAbsent(module, key -> new LinkedHashMap<>()).put(option, value);
+                    }
+                }
+            }
+        }
+
+        if (to != null) {
+            for (Map.Entry<ApolloModule, Map<Option<?, ?, ?>, Object>> entry : to.getValues().entrySet()) {
+                values.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>()).putAll(entry.getValue());
+            }
+        }
+
+        PlayerCapabilities capabilities = player == null ? null : ((AbstractApolloPlayer) player).getCapabilities();
+        OverrideConfigurableSettingsMessage.Builder builder = OverrideConfigurableSettingsMessage.newBuilder();
+        for (Map.Entry<ApolloModule, Map<Option<?, ?, ?>, Object>> entry : values.entrySet()) {
+            ApolloModule module = entry.getKey();
+            OptionsImpl options = (OptionsImpl) module.getOptions();
+            ConfigurableSettings.Builder settings = ConfigurableSettings.newBuilder()
+                .setApolloModule(module.getId())
+                .setEnable(module.isEnabled());
+
+            for (Map.Entry<Option<?, ?, ?>, Object> value : entry.getValue().entrySet()) {
+                Option<?, ?, ?> option = value.getKey();
+                if (!option.isNotify() || NetworkOptions.isModMissing(module, option, capabilities)) {
+                    continue;
+                }
+
+                settings.putProperties(option.getKey(),
+                    options.wrapValue(Value.newBuilder(), option.getTypeToken().getType(), value.getValue())
+                );
+            }
+
+            builder.addConfigurableSettings(settings.build());
+        }
+
+        return builder.build();
+    }
+
+    private boolean hasPlayerValues(ApolloPlayer player, @Nullable SettingsProfile from, @Nullable SettingsProfile to) {
+        if (from == null) {
+            return false;
+        }
+
+        for (Map.Entry<ApolloModule, Map<Option<?, ?, ?>, Object>> entry : from.getValues().entrySet()) {
+            ApolloModule module = entry.getKey();
+            Options options = module.getOptions();
+
+            for (Option<?, ?, ?> option : entry.getValue().keySet()) {
+                if ((to == null || !to.contains(module, option))
+                    && !Objects.equals(options.get(player, option), options.get(option))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isModMissing(@Nullable SettingsProfile profile, @Nullable PlayerCapabilities capabilities) {
+        if (profile == null || capabilities == null) {
+            return false;
+        }
+
+        for (Map.Entry<ApolloModule, Map<Option<?, ?, ?>, Object>> entry : profile.getValues().entrySet()) {
+            for (Option<?, ?, ?> option : entry.getValue().keySet()) {
+                if (NetworkOptions.isModMissing(entry.getKey(), option, capabilities)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private Map<String, SettingsProfile> getProfiles() {
+        Map<String, SettingsProfile> profiles = Apollo.getPlatform().getOptions().get(SettingsProfileManager.PROFILES);
+        if (profiles != this.loadedProfiles) {
+            this.transitions.clear();
+            this.loadedProfiles = profiles;
+        }
+
+        return profiles;
+    }
+
+    private void onPlayerRegister(ApolloRegisterPlayerEvent event) {
+        ApolloPlayer player = event.getPlayer();
+        player.getWorld().ifPresent(world -> this.applyWorld(player, world.getName()));
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        this.activeProfiles.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void onOptionUpdate(ApolloUpdateOptionEvent event) {
+        // Leaving a profile restores module values, which may have changed
+        if (event.getPlayer() == null) {
+            this.transitions.clear();
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Transition {
+
+        private final @Nullable String from;
+        private final @Nullable String to;
+
+    }
+
+}
@@ -23,16 +23,19 @@
  */
 package com.lunarclient.apollo.player;
 
-import com.google.protobuf.Any;
 import com.google.protobuf.Message;
 import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.async.Future;
 import com.lunarclient.apollo.async.future.UncertainFuture;
 import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.network.EncodedMessage;
+import com.lunarclient.apollo.network.MessageChunker;
+import com.lunarclient.apollo.network.OutboundPacketQueue;
 import com.lunarclient.apollo.roundtrip.ApolloRequest;
 import com.lunarclient.apollo.roundtrip.ApolloResponse;
 import com.lunarclient.apollo.world.ApolloWorld;
 import java.util.Optional;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides convenience methods for sending packets to the client.
@@ -41,6 +44,8 @@ import java.util.Optional;
  */
 public abstract class AbstractApolloPlayer implements ApolloPlayer {
 
+    private volatile PlayerCapabilities capabilities;
+
     @Override
     public Optional<ApolloWorld> getWorld() {
         return Optional.empty();
@@ -51,6 +56,26 @@ public abstract class AbstractApolloPlayer implements ApolloPlayer {
         return Optional.empty();
     }
 
+    /**
+     * Returns the capabilities reported in the client handshake.
+     *
+     * @return the capabilities, or null if no handshake was received yet
+     * @since 1.1.6
+     */
+    public @Nullable PlayerCapabilities getCapabilities() {
+        return this.capabilities;
+    }
+
+    /**
+     * Sets the capabilities reported in the client handshake.
+     *
+     * @param capabilities the capabilities
+     * @since 1.1.6
+     */
+    public void setCapabilities(@Nullable PlayerCapabilities capabilities) {
+        this.capabilities = capabilities;
+    }
+
     /**
      * Sends the provided message packet to the client
      * with an expected {@link Future} response.
@@ -73,11 +98,43 @@ public abstract class AbstractApolloPlayer implements ApolloPlayer {
     /**
      * Sends the provided message packet to the client.
      *
+     * <p>The message goes through the {@link OutboundPacketQueue}, which
+     * may defer it when the player is over their byte budget.</p>
+     *
      * @param message the message
      * @since 1.0.0
      */
     public void sendPacket(Message message) {
-        ApolloManager.getNetworkManager().sendPacket(this, Any.pack(message));
+        this.sendPacket(new EncodedMessage(message));
+    }
+
+    /**
+     * Sends the provided encoded message packet to the client.
+     *
+     * <p>The message goes through the {@link OutboundPacketQueue} like any
+     * other message, but is only serialized once for every player it is
+     * sent to.</p>
+     *
+     * @param message the encoded message
+     * @since 1.1.6
+     */
+    public void sendPacket(EncodedMessage message) {
+        ApolloManager.getNetworkManager().getOutboundQueue().send(this, message);
+    }
+
+    /**
+     * Writes the provided message packet to the client right away.
+     *
+     * <p>Messages exceeding the client's plugin message limit are split
+     * into several messages by the {@link MessageChunker}.</p>
+     *
+     * @param message the message
+     * @since 1.1.6
+     */
+    public void writePacket(EncodedMessage message) {
+        for (EncodedMessage.Part part : message.getParts(MessageChunker.getMaxPayloadSize(this.capabilities))) {
+            ApolloManager.getNetworkManager().sendPacket(this, part);
+        }
     }
 
     /**
@@ -24,6 +24,8 @@
 package com.lunarclient.apollo.player;
 
 import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.ApolloPlatform;
 import com.lunarclient.apollo.client.mod.LunarClientMod;
 import com.lunarclient.apollo.client.mod.LunarClientModType;
 import com.lunarclient.apollo.client.version.LunarClientVersion;
@@ -32,16 +34,29 @@ import com.lunarclient.apollo.event.EventBus;
 import com.lunarclient.apollo.event.player.ApolloPlayerHandshakeEvent;
 import com.lunarclient.apollo.event.player.ApolloRegisterPlayerEvent;
 import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.module.ApolloModule;
+import com.lunarclient.apollo.module.ApolloModuleManagerImpl;
+import com.lunarclient.apollo.module.modsetting.ModSettingModule;
 import com.lunarclient.apollo.network.NetworkOptions;
+import com.lunarclient.apollo.network.ProtobufIdentityCache;
+import com.lunarclient.apollo.option.Option;
 import com.lunarclient.apollo.player.v1.PlayerHandshakeMessage;
+import com.lunarclient.apollo.scheduler.ApolloScheduler;
+import com.lunarclient.apollo.util.ApolloExecutors;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
@@ -54,7 +69,20 @@ import org.jetbrains.annotations.NotNull;
 @NoArgsConstructor
 public final class ApolloPlayerManagerImpl implements ApolloPlayerManager {
 
-    private final Map<UUID, ApolloPlayer> players = new HashMap<>();
+    private static final long HANDSHAKE_TIMEOUT_MILLIS = 3000L;
+
+    private final Map<UUID, ApolloPlayer> players = new ConcurrentHashMap<>();
+    private final Map<UUID, ScheduledFuture<?>> pendingHandshakes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@link ProtobufIdentityCache} shared by every module.
+     *
+     * @return the protobuf identity cache
+     * @since 1.1.6
+     */
+    @Getter private final ProtobufIdentityCache identityCache = new ProtobufIdentityCache();
+
+    private volatile Set<String> modSettingNamespaces;
 
     @Override
     public Optional<ApolloPlayer> getPlayer(@NonNull UUID playerIdentifier) {
@@ -73,13 +101,36 @@ public final class ApolloPlayerManagerImpl implements ApolloPlayerManager {
      * @since 1.0.0
      */
     public void addPlayer(@NonNull ApolloPlayer player) {
+        // Modules deferred during startup are needed once someone joins
+        ((ApolloModuleManagerImpl) Apollo.getModuleManager()).scheduleDeferredModules();
+
         if (this.players.putIfAbsent(player.getUniqueId(), player) == null) {
+            this.identityCache.uuid(player.getUniqueId());
+
+            // Only servers receive the handshake, proxies send everything right away
+            boolean awaitHandshake = Apollo.getPlatform().getKind() == ApolloPlatform.Kind.SERVER;
+            List<ApolloModule> modules = new ArrayList<>();
+
+            for (ApolloModule module : Apollo.getModuleManager().getModules()) {
+                if (!awaitHandshake || !(module instanceof ModSettingModule)) {
+                    modules.add(module);
+                }
+            }
+
             NetworkOptions.sendOptions(
-                Apollo.getModuleManager().getModules(),
+                modules,
                 true,
                 player
             );
 
+            if (awaitHandshake) {
+                this.pendingHandshakes.put(player.getUniqueId(), ApolloExecutors.timer().schedule(
+                    () -> this.runForPlayer(player, () -> this.sendDeferredOptions(player)),
+                    ApolloPlayerManagerImpl.HANDSHAKE_TIMEOUT_MILLIS,
+                    TimeUnit.MILLISECONDS
+                ));
+            }
+
             EventBus.EventResult<ApolloRegisterPlayerEvent> result = EventBus.getBus()
                 .post(new ApolloRegisterPlayerEvent(player));
             for (Throwable throwable : result.getThrowing()) {
@@ -96,6 +147,11 @@ public final class ApolloPlayerManagerImpl implements ApolloPlayerManager {
      */
     public void removePlayer(@NonNull UUID player) {
         ApolloPlayer apolloPlayer = this.players.remove(player);
+        ScheduledFuture<?> pendingHandshake = this.pendingHandshakes.remove(player);
+        if (pendingHandshake != null) {
+            pendingHandshake.cancel(false);
+        }
+
         if (apolloPlayer != null) {
             EventBus.EventResult<ApolloUnregisterPlayerEvent> result = EventBus.getBus()
                 .post(new ApolloUnregisterPlayerEvent(apolloPlayer));
@@ -103,6 +159,9 @@ public final class ApolloPlayerManagerImpl implements ApolloPlayerManager {
                 throwable.printStackTrace();
             }
         }
+
+        // Evicted last, unregister listeners may still reference the player
+        this.identityCache.evict(player);
     }
 
     /**
@@ -136,6 +195,12 @@ public final class ApolloPlayerManagerImpl implements ApolloPlayerManager {
                 .build()
         ).collect(Collectors.toList());
 
+        ((AbstractApolloPlayer) player).setCapabilities(new PlayerCapabilities(
+            minecraftVersion, lunarClientVersion, mods, this.getModSettingNamespaces()
+        ));
+
+        this.sendDeferredOptions(player);
+
         EventBus.EventResult<ApolloPlayerHandshakeEvent> result = EventBus.getBus()
             .post(new ApolloPlayerHandshakeEvent(player, minecraftVersion, lunarClientVersion, mods));
 
@@ -144,4 +209,49 @@ public final class ApolloPlayerManagerImpl implements ApolloPlayerManager {
         }
     }
 
+    private void sendDeferredOptions(ApolloPlayer player) {
+        ScheduledFuture<?> pendingHandshake = this.pendingHandshakes.remove(player.getUniqueId());
+        if (pendingHandshake == null) {
+            return;
+        }
+
+        pendingHandshake.cancel(false);
+
+        ModSettingModule module = Apollo.getModuleManager().getModule(ModSettingModule.class);
+        if (module != null) {
+            NetworkOptions.sendOptions(Collections.singletonList(module), true, player);
+        }
+
+        // The module options above replace the mod settings of the world profile
+        ApolloManager.getSettingsProfileManager().reapply(player);
+    }
+
+    private void runForPlayer(ApolloPlayer player, Runnable task) {
+        // The timeout fires on the Apollo timer, writes belong on the thread owning the player
+        ApolloScheduler scheduler = ApolloManager.getScheduler();
+        if (scheduler == null) {
+            task.run();
+        } else {
+            scheduler.runForPlayer(player, task);
+        }
+    }
+
+    private Set<String> getModSettingNamespaces() {
+        Set<String> namespaces = this.modSettingNamespaces;
+        if (namespaces != null) {
+            return namespaces;
+        }
+
+        namespaces = new HashSet<>();
+        ModSettingModule module = Apollo.getModuleManager().getModule(ModSettingModule.class);
+        if (module != null) {
+            for (Option<?, ?, ?> option : module.getOptions()) {
+                namespaces.add(option.getPath()[0]);
+            }
+        }
+
+        this.modSettingNamespaces = namespaces;
+        return namespaces;
+    }
+
 }
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.player;
+
+import com.lunarclient.apollo.client.mod.LunarClientMod;
+import com.lunarclient.apollo.client.version.LunarClientVersion;
+import com.lunarclient.apollo.client.version.MinecraftVersion;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Compact, immutable view of the data a client reported in its handshake.
+ *
+ * <p>Mod ids are interned into a process wide index so every player only
+ * carries a {@link BitSet} of the mods it has installed.</p>
+ *
+ * @since 1.1.6
+ */
+public final class PlayerCapabilities {
+
+    private static final int MAX_INTERNED_MODS = 4096;
+
+    private static final Map<String, Integer> MOD_INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    /**
+     * Returns the client's Minecraft version.
+     *
+     * @return the minecraft version
+     * @since 1.1.6
+     */
+    @Getter private final MinecraftVersion minecraftVersion;
+
+    /**
+     * Returns the client's Lunar Client version.
+     *
+     * @return the lunar client version
+     * @since 1.1.6
+     */
+    @Getter private final LunarClientVersion lunarClientVersion;
+
+    private final BitSet installedMods;
+    private final boolean reportsSettingNamespaces;
+
+    /**
+     * Constructs the {@link PlayerCapabilities}.
+     *
+     * @param minecraftVersion the reported minecraft version
+     * @param lunarClientVersion the reported lunar client version
+     * @param mods the reported installed mods
+     * @param settingNamespaces the mod setting namespaces known to this server
+     * @since 1.1.6
+     */
+    public PlayerCapabilities(MinecraftVersion minecraftVersion, LunarClientVersion lunarClientVersion,
+                              Collection<LunarClientMod> mods, Set<String> settingNamespaces) {
+        this.minecraftVersion = minecraftVersion;
+        this.lunarClientVersion = lunarClientVersion;
+        this.installedMods = new BitSet();
+
+        boolean reportsSettingNamespaces = false;
+        for (LunarClientMod mod : mods) {
+            int index = PlayerCapabilities.intern(mod.getId());
+            if (index >= 0) {
+                this.installedMods.set(index);
+            }
+
+            if (settingNamespaces.contains(mod.getId())) {
+                reportsSettingNamespaces = true;
+            }
+        }
+
+        this.reportsSettingNamespaces = reportsSettingNamespaces;
+    }
+
+    /**
+     * Returns whether the client reported the provided mod as installed.
+     *
+     * @param modId the mod id
+     * @return true if the mod is installed
+     * @since 1.1.6
+     */
+    public boolean hasMod(String modId) {
+        Integer index = PlayerCapabilities.MOD_INDEXES.get(modId);
+        return index != null && this.installedMods.get(index);
+    }
+
+    /**
+     * Returns whether settings for the provided mod setting namespace can
+     * safely be skipped for this client.
+     *
+     * <p>Clients that don't report any of the known mod setting namespaces
+     * in their handshake are never filtered, so a client that only lists
+     * external mods still receives every setting.</p>
+     *
+     * @param namespace the mod setting namespace
+     * @return true if the client is known to lack the mod
+     * @since 1.1.6
+     */
+    public boolean isModMissing(String namespace) {
+        return this.reportsSettingNamespaces && !this.hasMod(namespace);
+    }
+
+    private static int intern(String modId) {
+        Integer index = PlayerCapabilities.MOD_INDEXES.get(modId);
+        if (index != null) {
+            return index;
+        }
+
+        // Mod ids are client supplied, stop growing the table once it is full
+        if (PlayerCapabilities.MOD_INDEXES.size() >= PlayerCapabilities.MAX_INTERNED_MODS) {
+            return -1;
+        }
+
+        return PlayerCapabilities.MOD_INDEXES.computeIfAbsent(modId, id -> PlayerCapabilities.NEXT_INDEX.getAndIncrement());
+    }
+
+}
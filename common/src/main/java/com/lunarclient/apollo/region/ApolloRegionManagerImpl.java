@@ -0,0 +1,433 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.region;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.common.cuboid.Cuboid3D;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.network.EncodedMessage;
+import com.lunarclient.apollo.network.MessageRecorder;
+import com.lunarclient.apollo.option.ListOption;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.config.Serializer;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.spatial.ChunkGrid;
+import com.lunarclient.apollo.spatial.LocationSnapshot;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Provides the implementation for the {@link ApolloRegionManager}.
+ *
+ * <p>Each region is added to every chunk of a {@link ChunkGrid} it
+ * overlaps, so a player is only tested against the few regions of their
+ * own chunk. Regions covering more than {@link #MAX_INDEXED_CHUNKS} chunks
+ * are kept in a list per world instead. The enter and exit actions of a
+ * region are recorded and encoded once, when it is registered.</p>
+ *
+ * <p>Transitions are collected while the manager is locked and sent once
+ * it is released, through the outbound queue of each player.</p>
+ *
+ * <p>Proxies don't know where players are, so regions can only be
+ * registered on servers.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ApolloRegionManagerImpl implements ApolloRegionManager, ApolloListener, Serializer {
+
+    /**
+     * The interval in ticks between region updates.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> UPDATE_INTERVAL = Option.<Integer>number()
+        .comment("Set the interval in ticks between checking which regions players are inside of.")
+        .node("regions", "update-interval").type(TypeToken.get(Integer.class))
+        .defaultValue(2).min(1).max(200).build();
+
+    static final ListOption<RegionDefinition> DEFINITIONS = Option.<RegionDefinition>list()
+        .comment("Set the regions that show a border, waypoints or a vignette to players inside of them.")
+        .node("regions", "definitions").type(new TypeToken<List<RegionDefinition>>() {})
+        .defaultValue(new ArrayList<>())
+        .build();
+
+    private static final int MAX_INDEXED_CHUNKS = 1024;
+
+    private final Map<String, CompiledRegion> regions = new HashMap<>();
+    private final ChunkGrid<CompiledRegion> grid = new ChunkGrid<>();
+    private final Map<String, List<CompiledRegion>> wideRegions = new HashMap<>();
+    private final Map<UUID, PlayerState> players = new HashMap<>();
+    private final Set<String> configuredIds = new HashSet<>();
+    private final List<Transition> transitions = new ArrayList<>();
+    private final boolean supported;
+
+    private List<RegionDefinition> loadedDefinitions;
+
+    /**
+     * Constructs the {@link ApolloRegionManagerImpl}.
+     *
+     * @param supported whether the platform ticks regions, false on proxies
+     * @since 1.1.6
+     */
+    public ApolloRegionManagerImpl(boolean supported) {
+        this.supported = supported;
+        if (!supported) {
+            return;
+        }
+
+        this.serializer(RegionDefinition.class, new RegionDefinition.RegionDefinitionSerializer());
+        ApolloManager.registerOptions(
+            ApolloRegionManagerImpl.UPDATE_INTERVAL,
+            ApolloRegionManagerImpl.DEFINITIONS
+        );
+
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+    }
+
+    @Override
+    public void registerRegion(@NonNull Region region) {
+        if (!this.supported) {
+            throw new UnsupportedOperationException("Regions can only be registered on servers!");
+        }
+
+        CompiledRegion compiled = new CompiledRegion(region,
+            MessageRecorder.record(region.getEnterActions()),
+            MessageRecorder.record(region.getExitActions())
+        );
+
+        synchronized (this) {
+            this.addRegion(compiled);
+        }
+
+        this.sendTransitions();
+    }
+
+    @Override
+    public void unregisterRegion(@NonNull String regionId) {
+        synchronized (this) {
+            this.removeRegion(regionId);
+        }
+
+        this.sendTransitions();
+    }
+
+    @Override
+    public synchronized Optional<Region> getRegion(@NonNull String regionId) {
+        CompiledRegion compiled = this.regions.get(regionId);
+        return compiled == null ? Optional.empty() : Optional.of(compiled.region);
+    }
+
+    @Override
+    public synchronized Collection<Region> getRegions() {
+        List<Region> regions = new ArrayList<>(this.regions.size());
+        for (CompiledRegion compiled : this.regions.values()) {
+            regions.add(compiled.region);
+        }
+
+        return Collections.unmodifiableList(regions);
+    }
+
+    @Override
+    public synchronized Collection<Region> getRegions(@NonNull ApolloPlayer player) {
+        PlayerState state = this.players.get(player.getUniqueId());
+        if (state == null) {
+            return Collections.emptyList();
+        }
+
+        List<Region> regions = new ArrayList<>(state.inside.size());
+        for (CompiledRegion compiled : state.inside) {
+            regions.add(compiled.region);
+        }
+
+        return Collections.unmodifiableList(regions);
+    }
+
+    /**
+     * Checks every player that moved into a different block since the
+     * last update against the regions around them.
+     *
+     * <p>Positions are read from the latest {@link LocationSnapshot},
+     * so this can be called from any thread.</p>
+     *
+     * @since 1.1.6
+     */
+    public void tick() {
+        LocationSnapshot snapshot = ApolloManager.getLocationSnapshotService().acquire();
+        try {
+            synchronized (this) {
+                this.loadDefinitions();
+
+                if (!this.regions.isEmpty()) {
+                    for (int slot = 0; slot < snapshot.size(); slot++) {
+                        this.updatePlayer(snapshot.getPlayer(slot), snapshot.getWorld(slot),
+                            snapshot.getX(slot), snapshot.getY(slot), snapshot.getZ(slot)
+                        );
+                    }
+                }
+            }
+        } finally {
+            snapshot.release();
+        }
+
+        this.sendTransitions();
+    }
+
+    private void updatePlayer(ApolloPlayer player, String world, double x, double y, double z) {
+        PlayerState state = this.players.computeIfAbsent(player.getUniqueId(), key -> new PlayerState());
+        int blockX = (int) Math.floor(x);
+        int blockY = (int) Math.floor(y);
+        int blockZ = (int) Math.floor(z);
+
+        if (world.equals(state.world) && blockX == state.blockX && blockY == state.blockY && blockZ == state.blockZ) {
+            return;
+        }
+
+        state.world = world;
+        state.blockX = blockX;
+        state.blockY = blockY;
+        state.blockZ = blockZ;
+
+        List<CompiledRegion> inside = new ArrayList<>(state.inside.size() + 1);
+        for (CompiledRegion compiled : this.grid.get(world, blockX >> 4, blockZ >> 4)) {
+            if (compiled.contains(x, y, z)) {
+                inside.add(compiled);
+            }
+        }
+
+        for (CompiledRegion compiled : this.wideRegions.getOrDefault(world, Collections.emptyList())) {
+            if (compiled.contains(x, y, z)) {
+                inside.add(compiled);
+            }
+        }
+
+        for (CompiledRegion compiled : state.inside) {
+            if (!inside.contains(compiled)) {
+                this.transitions.add(new Transition(player, compiled.exit));
+            }
+        }
+
+        for (CompiledRegion compiled : inside) {
+            if (!state.inside.contains(compiled)) {
+                this.transitions.add(new Transition(player, compiled.enter));
+            }
+        }
+
+        state.inside = inside;
+    }
+
+    private void addRegion(CompiledRegion compiled) {
+        this.removeRegion(compiled.region.getId());
+        this.regions.put(compiled.region.getId(), compiled);
+        this.index(compiled);
+
+        // Make every player look for the new region on the next update
+        for (PlayerState state : this.players.values()) {
+            state.world = null;
+        }
+    }
+
+    private void removeRegion(String regionId) {
+        CompiledRegion compiled = this.regions.remove(regionId);
+        if (compiled == null) {
+            return;
+        }
+
+        this.unindex(compiled);
+
+        for (Map.Entry<UUID, PlayerState> entry : this.players.entrySet()) {
+            PlayerState state = entry.getValue();
+            if (!state.inside.remove(compiled)) {
+                continue;
+            }
+
+            Apollo.getPlayerManager().getPlayer(entry.getKey())
+                .ifPresent(player -> this.transitions.add(new Transition(player, compiled.exit)));
+        }
+    }
+
+    private void index(CompiledRegion compiled) {
+        if (compiled.isWide()) {
+            this.wideRegions.computeIfAbsent(compiled.region.getWorld(), key -> new ArrayList<>()).add(compiled);
+            return;
+        }
+
+        for (int chunkX = compiled.minChunkX; chunkX <= compiled.maxChunkX; chunkX++) {
+            for (int chunkZ = compiled.minChunkZ; chunkZ <= compiled.maxChunkZ; chunkZ++) {
+                this.grid.add(compiled.region.getWorld(), chunkX, chunkZ, compiled);
+            }
+        }
+    }
+
+    private void unindex(CompiledRegion compiled) {
+        if (compiled.isWide()) {
+            List<CompiledRegion> wide = this.wideRegions.get(compiled.region.getWorld());
+            if (wide != null) {
+                wide.remove(compiled);
+            }
+
+            return;
+        }
+
+        for (int chunkX = compiled.minChunkX; chunkX <= compiled.maxChunkX; chunkX++) {
+            for (int chunkZ = compiled.minChunkZ; chunkZ <= compiled.maxChunkZ; chunkZ++) {
+                this.grid.remove(compiled.region.getWorld(), chunkX, chunkZ, compiled);
+            }
+        }
+    }
+
+    private void loadDefinitions() {
+        List<RegionDefinition> definitions = Apollo.getPlatform().getOptions().get(ApolloRegionManagerImpl.DEFINITIONS);
+        if (definitions == this.loadedDefinitions) {
+            return;
+        }
+
+        this.loadedDefinitions = definitions;
+
+        for (String regionId : this.configuredIds) {
+            this.removeRegion(regionId);
+        }
+
+        this.configuredIds.clear();
+        if (definitions == null) {
+            return;
+        }
+
+        for (RegionDefinition definition : definitions) {
+            try {
+                Region region = definition.toRegion();
+                this.addRegion(new CompiledRegion(region,
+                    MessageRecorder.record(region.getEnterActions()),
+                    MessageRecorder.record(region.getExitActions())
+                ));
+                this.configuredIds.add(definition.getId());
+            } catch (Throwable throwable) {
+                Apollo.getPlatform().getPlatformLogger().log(Level.WARNING,
+                    "Unable to load region " + definition.getId() + "!", throwable);
+            }
+        }
+    }
+
+    private void sendTransitions() {
+        List<Transition> transitions;
+        synchronized (this) {
+            if (this.transitions.isEmpty()) {
+                return;
+            }
+
+            transitions = new ArrayList<>(this.transitions);
+            this.transitions.clear();
+        }
+
+        for (Transition transition : transitions) {
+            try {
+                for (EncodedMessage message : transition.messages) {
+                    ((AbstractApolloPlayer) transition.player).sendPacket(message);
+                }
+            } catch (Throwable throwable) {
+                Apollo.getPlatform().getPlatformLogger().log(Level.WARNING,
+                    "Unable to send region messages to " + transition.player.getName() + "!", throwable);
+            }
+        }
+    }
+
+    private synchronized void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        this.players.remove(event.getPlayer().getUniqueId());
+    }
+
+    private static final class CompiledRegion {
+
+        private final Region region;
+        private final EncodedMessage[] enter;
+        private final EncodedMessage[] exit;
+
+        private final int minChunkX;
+        private final int minChunkZ;
+        private final int maxChunkX;
+        private final int maxChunkZ;
+
+        CompiledRegion(Region region, EncodedMessage[] enter, EncodedMessage[] exit) {
+            this.region = region;
+            this.enter = enter;
+            this.exit = exit;
+
+            Cuboid3D bounds = region.getBounds();
+            this.minChunkX = ChunkGrid.toChunk(Math.min(bounds.getMinX(), bounds.getMaxX()));
+            this.minChunkZ = ChunkGrid.toChunk(Math.min(bounds.getMinZ(), bounds.getMaxZ()));
+            this.maxChunkX = ChunkGrid.toChunk(Math.max(bounds.getMinX(), bounds.getMaxX()));
+            this.maxChunkZ = ChunkGrid.toChunk(Math.max(bounds.getMinZ(), bounds.getMaxZ()));
+        }
+
+        boolean isWide() {
+            long chunks = (long) (this.maxChunkX - this.minChunkX + 1) * (this.maxChunkZ - this.minChunkZ + 1);
+            return chunks > ApolloRegionManagerImpl.MAX_INDEXED_CHUNKS;
+        }
+
+        boolean contains(double x, double y, double z) {
+            Cuboid3D bounds = this.region.getBounds();
+            return ApolloRegionManagerImpl.between(x, bounds.getMinX(), bounds.getMaxX())
+                && ApolloRegionManagerImpl.between(y, bounds.getMinY(), bounds.getMaxY())
+                && ApolloRegionManagerImpl.between(z, bounds.getMinZ(), bounds.getMaxZ());
+        }
+
+    }
+
+    private static boolean between(double value, double first, double second) {
+        return value >= Math.min(first, second) && value <= Math.max(first, second);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Transition {
+
+        private final ApolloPlayer player;
+        private final EncodedMessage[] messages;
+
+    }
+
+    private static final class PlayerState {
+
+        private String world;
+        private int blockX;
+        private int blockY;
+        private int blockZ;
+        private List<CompiledRegion> inside = new ArrayList<>(0);
+
+    }
+
+}
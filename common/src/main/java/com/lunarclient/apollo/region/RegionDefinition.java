@@ -0,0 +1,194 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.region;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.common.cuboid.Cuboid2D;
+import com.lunarclient.apollo.common.cuboid.Cuboid3D;
+import com.lunarclient.apollo.module.border.Border;
+import com.lunarclient.apollo.module.border.BorderModule;
+import com.lunarclient.apollo.module.vignette.Vignette;
+import com.lunarclient.apollo.module.vignette.VignetteModule;
+import com.lunarclient.apollo.module.waypoint.Waypoint;
+import com.lunarclient.apollo.module.waypoint.WaypointModule;
+import java.awt.Color;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+/**
+ * Represents a {@link Region} declared in the Apollo configuration.
+ *
+ * <p>Configured regions can show a border along their bounds, a list of
+ * waypoints and a vignette while a player is inside of them.</p>
+ *
+ * @since 1.1.6
+ */
+@Getter
+@Builder
+final class RegionDefinition {
+
+    private static final String BORDER_PREFIX = "region-";
+
+    private final String id;
+    private final String world;
+    private final Cuboid3D bounds;
+    private final @Nullable Color borderColor;
+    private final List<Waypoint> waypoints;
+    private final @Nullable String vignette;
+    private final float vignetteOpacity;
+
+    /**
+     * Converts this definition to a {@link Region}.
+     *
+     * @return the region
+     * @since 1.1.6
+     */
+    Region toRegion() {
+        Region.RegionBuilder builder = Region.builder()
+            .id(this.id)
+            .world(this.world)
+            .bounds(this.bounds);
+
+        if (this.borderColor != null) {
+            String borderId = RegionDefinition.BORDER_PREFIX + this.id;
+            Border border = Border.builder()
+                .id(borderId)
+                .world(this.world)
+                .color(this.borderColor)
+                .bounds(Cuboid2D.builder()
+                    .minX(this.bounds.getMinX())
+                    .minZ(this.bounds.getMinZ())
+                    .maxX(this.bounds.getMaxX())
+                    .maxZ(this.bounds.getMaxZ())
+                    .build()
+                )
+                .build();
+
+            builder
+                .enter(recipients -> Apollo.getModuleManager().getModule(BorderModule.class).displayBorder(recipients, border))
+                .exit(recipients -> Apollo.getModuleManager().getModule(BorderModule.class).removeBorder(recipients, borderId));
+        }
+
+        for (Waypoint waypoint : this.waypoints) {
+            builder
+                .enter(recipients -> Apollo.getModuleManager().getModule(WaypointModule.class).displayWaypoint(recipients, waypoint))
+                .exit(recipients -> Apollo.getModuleManager().getModule(WaypointModule.class).removeWaypoint(recipients, waypoint));
+        }
+
+        if (this.vignette != null) {
+            Vignette vignette = Vignette.builder()
+                .resourceLocation(this.vignette)
+                .opacity(this.vignetteOpacity)
+                .build();
+
+            builder
+                .enter(recipients -> Apollo.getModuleManager().getModule(VignetteModule.class).displayVignette(recipients, vignette))
+                .exit(recipients -> Apollo.getModuleManager().getModule(VignetteModule.class).resetVignette(recipients));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Serializes {@link RegionDefinition}s to and from the configuration.
+     *
+     * @since 1.1.6
+     */
+    static final class RegionDefinitionSerializer implements TypeSerializer<RegionDefinition> {
+
+        @Override
+        public RegionDefinition deserialize(Type type, ConfigurationNode node) throws SerializationException {
+            ConfigurationNode bounds = this.required(node, "bounds");
+            List<Waypoint> waypoints = node.node("waypoints").getList(Waypoint.class);
+
+            return RegionDefinition.builder()
+                .id(this.required(node, "id").getString())
+                .world(this.required(node, "world").getString())
+                .bounds(Cuboid3D.builder()
+                    .minX(this.required(bounds, "min-x").getDouble())
+                    .minY(this.required(bounds, "min-y").getDouble())
+                    .minZ(this.required(bounds, "min-z").getDouble())
+                    .maxX(this.required(bounds, "max-x").getDouble())
+                    .maxY(this.required(bounds, "max-y").getDouble())
+                    .maxZ(this.required(bounds, "max-z").getDouble())
+                    .build()
+                )
+                .borderColor(node.node("border-color").get(Color.class))
+                .waypoints(waypoints == null ? Collections.emptyList() : waypoints)
+                .vignette(node.node("vignette").getString())
+                .vignetteOpacity(node.node("vignette-opacity").getFloat(1.0F))
+                .build();
+        }
+
+        @Override
+        public void serialize(Type type, @Nullable RegionDefinition definition, ConfigurationNode node) throws SerializationException {
+            if (definition == null) {
+                node.raw(null);
+                return;
+            }
+
+            node.node("id").set(definition.getId());
+            node.node("world").set(definition.getWorld());
+
+            ConfigurationNode bounds = node.node("bounds");
+            bounds.node("min-x").set(definition.getBounds().getMinX());
+            bounds.node("min-y").set(definition.getBounds().getMinY());
+            bounds.node("min-z").set(definition.getBounds().getMinZ());
+            bounds.node("max-x").set(definition.getBounds().getMaxX());
+            bounds.node("max-y").set(definition.getBounds().getMaxY());
+            bounds.node("max-z").set(definition.getBounds().getMaxZ());
+
+            if (definition.getBorderColor() != null) {
+                node.node("border-color").set(Color.class, definition.getBorderColor());
+            }
+
+            if (!definition.getWaypoints().isEmpty()) {
+                node.node("waypoints").setList(Waypoint.class, definition.getWaypoints());
+            }
+
+            if (definition.getVignette() != null) {
+                node.node("vignette").set(definition.getVignette());
+                node.node("vignette-opacity").set(definition.getVignetteOpacity());
+            }
+        }
+
+        private ConfigurationNode required(ConfigurationNode source, Object... path) throws SerializationException {
+            if (!source.hasChild(path)) {
+                throw new SerializationException("Required field " + Arrays.toString(path) + " not found!");
+            }
+
+            return source.node(path);
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.scheduler;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.player.ApolloPlayer;
+
+/**
+ * Schedules work on the threads that own the server state it touches.
+ *
+ * <p>On a classic server every method except the async ones runs on the
+ * main thread. On a region threaded server, global tasks run on the global
+ * region, location tasks on the region owning the location and player tasks
+ * on the region owning the player, following them across regions.</p>
+ *
+ * <p>Delays and periods are in server ticks.</p>
+ *
+ * @since 1.1.6
+ */
+public interface ApolloScheduler {
+
+    /**
+     * Returns whether the server runs regions on separate threads, in which
+     * case there is no single main thread.
+     *
+     * @return whether the server is region threaded
+     * @since 1.1.6
+     */
+    boolean isRegionized();
+
+    /**
+     * Runs the provided task on the global thread on the next tick.
+     *
+     * @param task the task
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runGlobal(Runnable task);
+
+    /**
+     * Runs the provided task on the global thread after a delay.
+     *
+     * @param task the task
+     * @param delay the delay in ticks
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runGlobalLater(Runnable task, long delay);
+
+    /**
+     * Repeatedly runs the provided task on the global thread.
+     *
+     * @param task the task
+     * @param delay the initial delay in ticks
+     * @param period the period in ticks
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runGlobalTimer(Runnable task, long delay, long period);
+
+    /**
+     * Runs the provided task on the thread owning the provided location.
+     *
+     * @param location the location
+     * @param task the task
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runAt(ApolloLocation location, Runnable task);
+
+    /**
+     * Runs the provided task on the thread owning the provided player.
+     *
+     * <p>The task is dropped if the player leaves before it runs.</p>
+     *
+     * @param player the player
+     * @param task the task
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runForPlayer(ApolloPlayer player, Runnable task);
+
+    /**
+     * Runs the provided task off the server threads.
+     *
+     * @param task the task
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runAsync(Runnable task);
+
+    /**
+     * Repeatedly runs the provided task off the server threads.
+     *
+     * @param task the task
+     * @param delay the initial delay in ticks
+     * @param period the period in ticks
+     * @return the scheduled task
+     * @since 1.1.6
+     */
+    ApolloTask runAsyncTimer(Runnable task, long delay, long period);
+
+}
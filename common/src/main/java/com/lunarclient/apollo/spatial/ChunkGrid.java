@@ -0,0 +1,183 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.spatial;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A per world chunk indexed multimap used for spatial lookups.
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @param <T> the indexed value type
+ * @since 1.1.6
+ */
+public final class ChunkGrid<T> {
+
+    private final Map<String, Map<Long, Set<T>>> worlds = new HashMap<>();
+
+    /**
+     * Returns the chunk coordinate for the provided block coordinate.
+     *
+     * @param coordinate the block coordinate
+     * @return the chunk coordinate
+     * @since 1.1.6
+     */
+    public static int toChunk(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> 4;
+    }
+
+    /**
+     * Returns the packed key for the provided chunk coordinates.
+     *
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return the packed chunk key
+     * @since 1.1.6
+     */
+    public static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Adds the value to the provided chunk.
+     *
+     * @param world  the world name
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @param value  the value
+     * @since 1.1.6
+     */
+    public void add(String world, int chunkX, int chunkZ, T value) {
+        this.worlds.computeIfAbsent(world, key -> new HashMap<>())
+            .computeIfAbsent(ChunkGrid.key(chunkX, chunkZ), key -> new HashSet<>())
+            .add(value);
+    }
+
+    /**
+     * Removes the value from the provided chunk.
+     *
+     * @param world  the world name
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @param value  the value
+     * @since 1.1.6
+     */
+    public void remove(String world, int chunkX, int chunkZ, T value) {
+        Map<Long, Set<T>> chunks = this.worlds.get(world);
+        if (chunks == null) {
+            return;
+        }
+
+        long key = ChunkGrid.key(chunkX, chunkZ);
+        Set<T> values = chunks.get(key);
+        if (values == null || !values.remove(value) || !values.isEmpty()) {
+            return;
+        }
+
+        chunks.remove(key);
+        if (chunks.isEmpty()) {
+            this.worlds.remove(world);
+        }
+    }
+
+    /**
+     * Returns the values stored in the provided chunk.
+     *
+     * @param world  the world name
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return the values in the chunk
+     * @since 1.1.6
+     */
+    public Set<T> get(String world, int chunkX, int chunkZ) {
+        Map<Long, Set<T>> chunks = this.worlds.get(world);
+        if (chunks == null) {
+            return Collections.emptySet();
+        }
+
+        Set<T> values = chunks.get(ChunkGrid.key(chunkX, chunkZ));
+        return values == null ? Collections.emptySet() : Collections.unmodifiableSet(values);
+    }
+
+    /**
+     * Performs the action on every value within the provided chunk radius.
+     *
+     * <p>The radius is measured as the chessboard distance in chunks. When the
+     * world has fewer occupied chunks than the searched area, only occupied
+     * chunks are visited.</p>
+     *
+     * @param world  the world name
+     * @param chunkX the center chunk x coordinate
+     * @param chunkZ the center chunk z coordinate
+     * @param radius the radius in chunks
+     * @param action the action
+     * @since 1.1.6
+     */
+    public void forEachInRange(String world, int chunkX, int chunkZ, int radius, Consumer<T> action) {
+        Map<Long, Set<T>> chunks = this.worlds.get(world);
+        if (chunks == null) {
+            return;
+        }
+
+        long diameter = 2L * radius + 1;
+        if (chunks.size() < diameter * diameter) {
+            for (Map.Entry<Long, Set<T>> entry : chunks.entrySet()) {
+                long key = entry.getKey();
+                int x = (int) (key >> 32);
+                int z = (int) key;
+
+                if (Math.abs(x - chunkX) <= radius && Math.abs(z - chunkZ) <= radius) {
+                    entry.getValue().forEach(action);
+                }
+            }
+
+            return;
+        }
+
+        for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                Set<T> values = chunks.get(ChunkGrid.key(x, z));
+                if (values != null) {
+                    values.forEach(action);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every value from this grid.
+     *
+     * @since 1.1.6
+     */
+    public void clear() {
+        this.worlds.clear();
+    }
+
+}
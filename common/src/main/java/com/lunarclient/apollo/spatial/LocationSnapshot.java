@@ -0,0 +1,319 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.spatial;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the positions of every Apollo player captured during one tick.
+ *
+ * <p>Positions are stored in primitive arrays indexed by slot, so they can
+ * be read from any thread without allocating. Snapshots are recycled, a
+ * snapshot obtained through {@link LocationSnapshotService#acquire()} is
+ * never changed until it is {@link #release() released}, so readers can
+ * hold it for as long as they need and compare {@link #getTick()} to tell
+ * how old it is.</p>
+ *
+ * @since 1.1.6
+ */
+public final class LocationSnapshot {
+
+    private final LocationSnapshotService service;
+    private final List<String> worldNames;
+    private final AtomicInteger references = new AtomicInteger();
+
+    private ApolloPlayer[] players;
+    private int[] worlds;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private float[] yaw;
+    private float[] pitch;
+
+    private int[] table;
+    private int size;
+    private long tick = -1;
+
+    LocationSnapshot(LocationSnapshotService service, List<String> worldNames, int capacity) {
+        this.service = service;
+        this.worldNames = worldNames;
+        this.players = new ApolloPlayer[capacity];
+        this.worlds = new int[capacity];
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.z = new double[capacity];
+        this.yaw = new float[capacity];
+        this.pitch = new float[capacity];
+        this.table = new int[capacity << 1];
+    }
+
+    /**
+     * Returns the tick this snapshot was captured in.
+     *
+     * @return the capture tick
+     * @since 1.1.6
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Returns the number of players in this snapshot.
+     *
+     * @return the player count
+     * @since 1.1.6
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the slot of the provided player, or {@code -1} if
+     * the player is not in this snapshot.
+     *
+     * @param playerUuid the player uuid
+     * @return the player slot
+     * @since 1.1.6
+     */
+    public int indexOf(UUID playerUuid) {
+        int mask = this.table.length - 1;
+        int index = LocationSnapshot.hash(playerUuid) & mask;
+
+        int entry;
+        while ((entry = this.table[index]) != 0) {
+            if (this.players[entry - 1].getUniqueId().equals(playerUuid)) {
+                return entry - 1;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the player
+     * @since 1.1.6
+     */
+    public ApolloPlayer getPlayer(int slot) {
+        return this.players[slot];
+    }
+
+    /**
+     * Returns the world index of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the world index
+     * @since 1.1.6
+     */
+    public int getWorldIndex(int slot) {
+        return this.worlds[slot];
+    }
+
+    /**
+     * Returns the world name of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the world name
+     * @since 1.1.6
+     */
+    public String getWorld(int slot) {
+        return this.worldNames.get(this.worlds[slot]);
+    }
+
+    /**
+     * Returns the x coordinate of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the x coordinate
+     * @since 1.1.6
+     */
+    public double getX(int slot) {
+        return this.x[slot];
+    }
+
+    /**
+     * Returns the y coordinate of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the y coordinate
+     * @since 1.1.6
+     */
+    public double getY(int slot) {
+        return this.y[slot];
+    }
+
+    /**
+     * Returns the z coordinate of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the z coordinate
+     * @since 1.1.6
+     */
+    public double getZ(int slot) {
+        return this.z[slot];
+    }
+
+    /**
+     * Returns the yaw of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the yaw
+     * @since 1.1.6
+     */
+    public float getYaw(int slot) {
+        return this.yaw[slot];
+    }
+
+    /**
+     * Returns the pitch of the player in the provided slot.
+     *
+     * @param slot the slot
+     * @return the pitch
+     * @since 1.1.6
+     */
+    public float getPitch(int slot) {
+        return this.pitch[slot];
+    }
+
+    /**
+     * Returns the {@link ApolloLocation} of the provided player.
+     *
+     * <p>Unlike the slot accessors, this allocates a new location.</p>
+     *
+     * @param playerUuid the player uuid
+     * @return the player location, or empty if the player is not in this snapshot
+     * @since 1.1.6
+     */
+    public Optional<ApolloLocation> getLocation(UUID playerUuid) {
+        int slot = this.indexOf(playerUuid);
+        if (slot == -1) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ApolloLocation.builder()
+            .world(this.getWorld(slot))
+            .x(this.x[slot])
+            .y(this.y[slot])
+            .z(this.z[slot])
+            .build());
+    }
+
+    /**
+     * Releases this snapshot, it must not be read afterwards.
+     *
+     * <p>Every {@link LocationSnapshotService#acquire()} must be followed
+     * by exactly one release, usually in a {@code finally} block.</p>
+     *
+     * @since 1.1.6
+     */
+    public void release() {
+        if (this.references.decrementAndGet() == 0) {
+            this.service.recycle(this);
+        }
+    }
+
+    boolean retain() {
+        int references;
+        do {
+            references = this.references.get();
+
+            // Already released by everyone and about to be recycled
+            if (references == 0) {
+                return false;
+            }
+        } while (!this.references.compareAndSet(references, references + 1));
+
+        return true;
+    }
+
+    void reset() {
+        Arrays.fill(this.players, 0, this.size, null);
+        Arrays.fill(this.table, 0);
+        this.size = 0;
+        this.tick = -1;
+    }
+
+    void add(ApolloPlayer player, int world, double x, double y, double z, float yaw, float pitch) {
+        if (this.size == this.players.length) {
+            this.grow();
+        }
+
+        int slot = this.size++;
+        this.players[slot] = player;
+        this.worlds[slot] = world;
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.z[slot] = z;
+        this.yaw[slot] = yaw;
+        this.pitch[slot] = pitch;
+        this.insert(slot);
+    }
+
+    void publish(long tick) {
+        this.tick = tick;
+        this.references.set(1);
+    }
+
+    private void grow() {
+        int capacity = this.players.length << 1;
+        this.players = Arrays.copyOf(this.players, capacity);
+        this.worlds = Arrays.copyOf(this.worlds, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.z = Arrays.copyOf(this.z, capacity);
+        this.yaw = Arrays.copyOf(this.yaw, capacity);
+        this.pitch = Arrays.copyOf(this.pitch, capacity);
+
+        this.table = new int[capacity << 1];
+        for (int slot = 0; slot < this.size; slot++) {
+            this.insert(slot);
+        }
+    }
+
+    private void insert(int slot) {
+        int mask = this.table.length - 1;
+        int index = LocationSnapshot.hash(this.players[slot].getUniqueId()) & mask;
+        while (this.table[index] != 0) {
+            index = (index + 1) & mask;
+        }
+
+        this.table[index] = slot + 1;
+    }
+
+    private static int hash(UUID uuid) {
+        int hash = uuid.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+}
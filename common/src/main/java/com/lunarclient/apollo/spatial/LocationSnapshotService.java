@@ -0,0 +1,177 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.spatial;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Captures the positions of every Apollo player once per tick and
+ * publishes them as a new snapshot.
+ *
+ * <p>The platform captures positions on the thread that owns the players
+ * and publishes the snapshot, after which any thread can read it through
+ * {@link #acquire()} without touching the platform.</p>
+ *
+ * <p>Snapshots are reference counted. The service holds the latest one
+ * and every reader holds the one it acquired, and a snapshot is only
+ * reused for capturing once all of them released it. Readers holding an
+ * older snapshot for a long time keep seeing consistent positions, while
+ * in the steady state two or three snapshots are recycled and capturing
+ * doesn't allocate.</p>
+ *
+ * @since 1.1.6
+ */
+public final class LocationSnapshotService {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final List<String> worldNames = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> worldIndices = new HashMap<>();
+    private final Queue<LocationSnapshot> pool = new ConcurrentLinkedQueue<>();
+
+    private volatile LocationSnapshot snapshot = this.createSnapshot();
+    private LocationSnapshot buffer;
+    private long tick;
+
+    /**
+     * Constructs the {@link LocationSnapshotService}.
+     *
+     * @since 1.1.6
+     */
+    public LocationSnapshotService() {
+        this.snapshot.publish(0L);
+    }
+
+    /**
+     * Acquires the most recently published {@link LocationSnapshot}.
+     *
+     * <p>The snapshot must be {@link LocationSnapshot#release() released}
+     * once the caller is done reading it.</p>
+     *
+     * @return the location snapshot
+     * @since 1.1.6
+     */
+    public LocationSnapshot acquire() {
+        while (true) {
+            LocationSnapshot snapshot = this.snapshot;
+            if (snapshot.retain()) {
+                return snapshot;
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link ApolloLocation} of the provided player in the
+     * most recently published snapshot.
+     *
+     * @param playerUuid the player uuid
+     * @return the player location, or empty if the player is not in the snapshot
+     * @since 1.1.6
+     */
+    public Optional<ApolloLocation> getLocation(UUID playerUuid) {
+        LocationSnapshot snapshot = this.acquire();
+        try {
+            return snapshot.getLocation(playerUuid);
+        } finally {
+            snapshot.release();
+        }
+    }
+
+    /**
+     * Starts capturing a new snapshot.
+     *
+     * @since 1.1.6
+     */
+    public void begin() {
+        LocationSnapshot buffer = this.pool.poll();
+        if (buffer == null) {
+            buffer = this.createSnapshot();
+        }
+
+        buffer.reset();
+        this.buffer = buffer;
+    }
+
+    /**
+     * Captures the position of the provided player into the new snapshot.
+     *
+     * @param player the player
+     * @param world  the world name
+     * @param x      the x coordinate
+     * @param y      the y coordinate
+     * @param z      the z coordinate
+     * @param yaw    the yaw
+     * @param pitch  the pitch
+     * @since 1.1.6
+     */
+    public void capture(ApolloPlayer player, String world, double x, double y, double z, float yaw, float pitch) {
+        this.buffer.add(player, this.worldIndex(world), x, y, z, yaw, pitch);
+    }
+
+    /**
+     * Publishes the new snapshot, making it visible to every thread.
+     *
+     * @since 1.1.6
+     */
+    public void publish() {
+        LocationSnapshot published = this.buffer;
+        published.publish(++this.tick);
+
+        LocationSnapshot previous = this.snapshot;
+        this.buffer = null;
+        this.snapshot = published;
+
+        // Drops the reference of the service, readers may still hold it
+        previous.release();
+    }
+
+    void recycle(LocationSnapshot snapshot) {
+        this.pool.offer(snapshot);
+    }
+
+    private LocationSnapshot createSnapshot() {
+        return new LocationSnapshot(this, this.worldNames, LocationSnapshotService.MIN_CAPACITY);
+    }
+
+    private int worldIndex(String world) {
+        Integer index = this.worldIndices.get(world);
+        if (index == null) {
+            index = this.worldNames.size();
+            this.worldNames.add(world);
+            this.worldIndices.put(world, index);
+        }
+
+        return index;
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.spatial;
+
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.event.ApolloListener;
+import com.lunarclient.apollo.event.player.ApolloUnregisterPlayerEvent;
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import io.leangen.geantyref.TypeToken;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Manages the visibility of world anchored displays that were registered
+ * with Apollo instead of being sent to recipients directly.
+ *
+ * <p>Players are indexed by the chunk they are standing in. Each visibility
+ * pass only does work for players that crossed a chunk boundary, and each
+ * registered display only looks at the players near it.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ManagedDisplayManager implements ApolloListener {
+
+    /**
+     * The interval in ticks between managed display visibility passes.
+     *
+     * @since 1.1.6
+     */
+    public static final NumberOption<Integer> UPDATE_INTERVAL = Option.<Integer>number()
+        .comment("Set the interval in ticks between visibility updates of displays registered with Apollo.")
+        .node("managed-displays", "update-interval").type(TypeToken.get(Integer.class))
+        .defaultValue(10).min(1).max(1200).build();
+
+    private final ChunkGrid<ApolloPlayer> players = new ChunkGrid<>();
+    private final Map<UUID, PlayerChunk> positions = new HashMap<>();
+    private final List<ManagedDisplayTracker> trackers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs the {@link ManagedDisplayManager}.
+     *
+     * @since 1.1.6
+     */
+    public ManagedDisplayManager() {
+        ApolloManager.registerOptions(ManagedDisplayManager.UPDATE_INTERVAL);
+        this.handle(ApolloUnregisterPlayerEvent.class, this::onPlayerUnregister);
+    }
+
+    /**
+     * Creates a new {@link ManagedDisplayTracker} driven by this manager.
+     *
+     * @param viewDistance the supplier for the view distance in chunks
+     * @return the display tracker
+     * @since 1.1.6
+     */
+    public ManagedDisplayTracker createTracker(IntSupplier viewDistance) {
+        ManagedDisplayTracker tracker = new ManagedDisplayTracker(this, viewDistance);
+        this.trackers.add(tracker);
+        return tracker;
+    }
+
+    /**
+     * Runs a visibility pass for every player that has moved into
+     * a different chunk since the last pass.
+     *
+     * <p>Positions are read from the latest {@link LocationSnapshot},
+     * so this can be called from any thread.</p>
+     *
+     * @since 1.1.6
+     */
+    public void tick() {
+        LocationSnapshot snapshot = ApolloManager.getLocationSnapshotService().acquire();
+
+        try {
+            synchronized (this) {
+                for (int slot = 0; slot < snapshot.size(); slot++) {
+                    this.updatePlayer(
+                        snapshot.getPlayer(slot),
+                        snapshot.getWorld(slot),
+                        ChunkGrid.toChunk(snapshot.getX(slot)),
+                        ChunkGrid.toChunk(snapshot.getZ(slot))
+                    );
+                }
+
+                // Players missing from the snapshot have left since the last pass.
+                Iterator<Map.Entry<UUID, PlayerChunk>> iterator = this.positions.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<UUID, PlayerChunk> entry = iterator.next();
+                    if (snapshot.indexOf(entry.getKey()) == -1) {
+                        iterator.remove();
+                        this.forgetPlayer(entry.getValue());
+                    }
+                }
+            }
+        } finally {
+            snapshot.release();
+        }
+    }
+
+    void forEachPlayerInRange(String world, int chunkX, int chunkZ, int radius, Consumer<ApolloPlayer> action) {
+        this.players.forEachInRange(world, chunkX, chunkZ, radius, action);
+    }
+
+    private void updatePlayer(ApolloPlayer player, String world, int chunkX, int chunkZ) {
+        UUID uniqueId = player.getUniqueId();
+        PlayerChunk previous = this.positions.get(uniqueId);
+
+        if (previous != null) {
+            if (previous.player != player) {
+                this.forgetPlayer(previous);
+            } else if (previous.matches(world, chunkX, chunkZ)) {
+                return;
+            } else {
+                this.players.remove(previous.world, previous.chunkX, previous.chunkZ, player);
+            }
+        }
+
+        this.positions.put(uniqueId, new PlayerChunk(player, world, chunkX, chunkZ));
+        this.players.add(world, chunkX, chunkZ, player);
+
+        for (ManagedDisplayTracker tracker : this.trackers) {
+            tracker.updateViewer(player, world, chunkX, chunkZ);
+        }
+    }
+
+    private void forgetPlayer(PlayerChunk position) {
+        this.players.remove(position.world, position.chunkX, position.chunkZ, position.player);
+
+        for (ManagedDisplayTracker tracker : this.trackers) {
+            tracker.forgetViewer(position.player);
+        }
+    }
+
+    private void onPlayerUnregister(ApolloUnregisterPlayerEvent event) {
+        synchronized (this) {
+            PlayerChunk position = this.positions.remove(event.getPlayer().getUniqueId());
+            if (position != null) {
+                this.forgetPlayer(position);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class PlayerChunk {
+
+        private final ApolloPlayer player;
+        private final String world;
+        private final int chunkX;
+        private final int chunkZ;
+
+        private boolean matches(String world, int chunkX, int chunkZ) {
+            return this.chunkX == chunkX && this.chunkZ == chunkZ && this.world.equals(world);
+        }
+
+    }
+
+}
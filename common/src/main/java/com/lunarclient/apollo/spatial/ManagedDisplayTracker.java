@@ -0,0 +1,212 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.spatial;
+
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tracks a set of world anchored displays and which players they
+ * are currently shown to.
+ *
+ * <p>Displays are sent when a player comes within the view distance
+ * of the display and removed when the player leaves it, using the
+ * messages provided on registration.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ManagedDisplayTracker {
+
+    private final ManagedDisplayManager manager;
+    private final IntSupplier viewDistance;
+
+    private final Map<String, ManagedDisplay> displays = new HashMap<>();
+    private final ChunkGrid<ManagedDisplay> grid = new ChunkGrid<>();
+    private final Map<ApolloPlayer, Set<ManagedDisplay>> visible = new HashMap<>();
+
+    ManagedDisplayTracker(ManagedDisplayManager manager, IntSupplier viewDistance) {
+        this.manager = manager;
+        this.viewDistance = viewDistance;
+    }
+
+    /**
+     * Registers or updates a display.
+     *
+     * <p>The display message is sent immediately to every nearby player,
+     * and the remove message is sent to previous viewers that are no
+     * longer in range of the updated display.</p>
+     *
+     * @param id             the display id
+     * @param world          the display world name
+     * @param x              the display x coordinate
+     * @param z              the display z coordinate
+     * @param displayMessage the message that shows the display
+     * @param removeMessage  the message that removes the display
+     * @since 1.1.6
+     */
+    public void register(String id, String world, double x, double z, Message displayMessage, Message removeMessage) {
+        int chunkX = ChunkGrid.toChunk(x);
+        int chunkZ = ChunkGrid.toChunk(z);
+        ManagedDisplay display = new ManagedDisplay(id, world, chunkX, chunkZ, displayMessage, removeMessage);
+
+        synchronized (this.manager) {
+            ManagedDisplay previous = this.displays.put(id, display);
+            if (previous != null) {
+                this.grid.remove(previous.world, previous.chunkX, previous.chunkZ, previous);
+            }
+
+            this.grid.add(world, chunkX, chunkZ, display);
+
+            this.manager.forEachPlayerInRange(world, chunkX, chunkZ, this.viewDistance.getAsInt(), player -> {
+                Set<ManagedDisplay> shown = this.visible.computeIfAbsent(player, key -> new HashSet<>());
+                if (previous != null && previous.viewers.remove(player)) {
+                    shown.remove(previous);
+                }
+
+                shown.add(display);
+                display.viewers.add(player);
+                ((AbstractApolloPlayer) player).sendPacket(displayMessage);
+            });
+
+            if (previous != null) {
+                this.hide(previous);
+            }
+        }
+    }
+
+    /**
+     * Unregisters a display and removes it from every player it is shown to.
+     *
+     * @param id the display id
+     * @since 1.1.6
+     */
+    public void unregister(String id) {
+        synchronized (this.manager) {
+            ManagedDisplay display = this.displays.remove(id);
+            if (display == null) {
+                return;
+            }
+
+            this.grid.remove(display.world, display.chunkX, display.chunkZ, display);
+            this.hide(display);
+        }
+    }
+
+    /**
+     * Unregisters every display and removes them from every player they are shown to.
+     *
+     * @since 1.1.6
+     */
+    public void unregisterAll() {
+        synchronized (this.manager) {
+            for (ManagedDisplay display : new ArrayList<>(this.displays.values())) {
+                this.hide(display);
+            }
+
+            this.displays.clear();
+            this.grid.clear();
+        }
+    }
+
+    void updateViewer(ApolloPlayer player, String world, int chunkX, int chunkZ) {
+        Set<ManagedDisplay> inRange = new HashSet<>();
+        this.grid.forEachInRange(world, chunkX, chunkZ, this.viewDistance.getAsInt(), inRange::add);
+
+        Set<ManagedDisplay> shown = this.visible.get(player);
+        if (shown == null) {
+            if (inRange.isEmpty()) {
+                return;
+            }
+
+            shown = new HashSet<>();
+            this.visible.put(player, shown);
+        }
+
+        Iterator<ManagedDisplay> iterator = shown.iterator();
+        while (iterator.hasNext()) {
+            ManagedDisplay display = iterator.next();
+            if (inRange.contains(display)) {
+                continue;
+            }
+
+            iterator.remove();
+            display.viewers.remove(player);
+            ((AbstractApolloPlayer) player).sendPacket(display.removeMessage);
+        }
+
+        for (ManagedDisplay display : inRange) {
+            if (shown.add(display)) {
+                display.viewers.add(player);
+                ((AbstractApolloPlayer) player).sendPacket(display.displayMessage);
+            }
+        }
+    }
+
+    void forgetViewer(ApolloPlayer player) {
+        Set<ManagedDisplay> shown = this.visible.remove(player);
+        if (shown == null) {
+            return;
+        }
+
+        for (ManagedDisplay display : shown) {
+            display.viewers.remove(player);
+        }
+    }
+
+    private void hide(ManagedDisplay display) {
+        for (ApolloPlayer viewer : display.viewers) {
+            Set<ManagedDisplay> shown = this.visible.get(viewer);
+            if (shown != null) {
+                shown.remove(display);
+            }
+
+            ((AbstractApolloPlayer) viewer).sendPacket(display.removeMessage);
+        }
+
+        display.viewers.clear();
+    }
+
+    @RequiredArgsConstructor
+    private static final class ManagedDisplay {
+
+        private final String id;
+        private final String world;
+        private final int chunkX;
+        private final int chunkZ;
+        private final Message displayMessage;
+        private final Message removeMessage;
+        private final Set<ApolloPlayer> viewers = new HashSet<>();
+
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.startup;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.lunarclient.apollo.Apollo;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Times the Apollo startup phases with a monotonic clock.
+ *
+ * <p>Phases are sequential: starting a phase ends the previous one. Work
+ * inside a phase, such as enabling a single module, is recorded as a
+ * child of the current phase.</p>
+ *
+ * @since 1.1.6
+ */
+public final class StartupProfiler {
+
+    /**
+     * The file the startup report is written to, relative to the config path.
+     *
+     * @since 1.1.6
+     */
+    public static final String REPORT_FILE = "startup-report.json";
+
+    private final List<Phase> phases = new ArrayList<>();
+
+    private Phase currentPhase;
+    private long startNanos;
+
+    /**
+     * Returns whether startup has completed.
+     *
+     * @return true if startup has completed
+     * @since 1.1.6
+     */
+    @Getter private boolean completed;
+
+    /**
+     * Returns the total startup time in nanoseconds.
+     *
+     * @return the total startup time
+     * @since 1.1.6
+     */
+    @Getter private long totalNanos;
+
+    /**
+     * Ends the current phase and starts a new one.
+     *
+     * @param name the phase name
+     * @since 1.1.6
+     */
+    public synchronized void phase(String name) {
+        if (this.completed) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (this.phases.isEmpty()) {
+            this.startNanos = now;
+        }
+
+        this.endPhase(now);
+
+        this.currentPhase = new Phase(name, now);
+        this.phases.add(this.currentPhase);
+    }
+
+    /**
+     * Records a timed step inside the current phase.
+     *
+     * @param name the step name
+     * @param nanos the step duration in nanoseconds
+     * @since 1.1.6
+     */
+    public synchronized void record(String name, long nanos) {
+        if (this.completed || this.currentPhase == null) {
+            return;
+        }
+
+        this.currentPhase.steps.add(new Step(name, nanos));
+    }
+
+    /**
+     * Ends the current phase, logs the startup report and writes it to
+     * the provided config path.
+     *
+     * @param configPath the config path, or null to skip writing the report
+     * @since 1.1.6
+     */
+    public synchronized void complete(@Nullable Path configPath) {
+        if (this.completed) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        this.endPhase(now);
+        this.totalNanos = this.phases.isEmpty() ? 0L : now - this.startNanos;
+        this.completed = true;
+
+        Logger logger = Apollo.getPlatform().getPlatformLogger();
+        for (String line : this.getReport()) {
+            logger.info(line);
+        }
+
+        if (configPath == null) {
+            return;
+        }
+
+        try (Writer writer = Files.newBufferedWriter(configPath.resolve(StartupProfiler.REPORT_FILE), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(this.toJson(), writer);
+        } catch (Exception exception) {
+            logger.log(Level.WARNING, "Unable to write the startup report!", exception);
+        }
+    }
+
+    /**
+     * Returns the human readable startup report.
+     *
+     * @return the report lines
+     * @since 1.1.6
+     */
+    public synchronized List<String> getReport() {
+        if (!this.completed) {
+            return Collections.singletonList("Apollo is still starting up.");
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Apollo started in %s", StartupProfiler.formatMillis(this.totalNanos)));
+
+        for (Phase phase : this.phases) {
+            lines.add(String.format(Locale.ROOT, "  %-24s %s", phase.name, StartupProfiler.formatMillis(phase.nanos)));
+
+            for (Step step : phase.steps) {
+                lines.add(String.format(Locale.ROOT, "    %-22s %s", step.name, StartupProfiler.formatMillis(step.nanos)));
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * Returns the startup report as JSON.
+     *
+     * @return the json report
+     * @since 1.1.6
+     */
+    public synchronized JsonObject toJson() {
+        JsonObject report = new JsonObject();
+        report.addProperty("total_ms", StartupProfiler.toMillis(this.totalNanos));
+
+        JsonArray phases = new JsonArray();
+        for (Phase phase : this.phases) {
+            JsonObject phaseJson = new JsonObject();
+            phaseJson.addProperty("name", phase.name);
+            phaseJson.addProperty("ms", StartupProfiler.toMillis(phase.nanos));
+
+            JsonArray steps = new JsonArray();
+            for (Step step : phase.steps) {
+                JsonObject stepJson = new JsonObject();
+                stepJson.addProperty("name", step.name);
+                stepJson.addProperty("ms", StartupProfiler.toMillis(step.nanos));
+                steps.add(stepJson);
+            }
+
+            phaseJson.add("steps", steps);
+            phases.add(phaseJson);
+        }
+
+        report.add("phases", phases);
+        return report;
+    }
+
+    private void endPhase(long now) {
+        if (this.currentPhase != null) {
+            this.currentPhase.nanos = now - this.currentPhase.startNanos;
+            this.currentPhase = null;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 100) / 100D;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", StartupProfiler.toMillis(nanos));
+    }
+
+    private static final class Phase {
+        private final String name;
+        private final long startNanos;
+        private final List<Step> steps = new ArrayList<>();
+
+        private long nanos;
+
+        private Phase(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class Step {
+        private final String name;
+        private final long nanos;
+
+        private Step(String name, long nanos) {
+            this.name = name;
+            this.nanos = nanos;
+        }
+    }
+
+}
@@ -82,6 +82,8 @@ public final class ApolloStatsManager {
         .node(CONFIG_PREFIX, "counts").type(TypeToken.get(Boolean.class))
         .defaultValue(true).build();
 
+    private ApolloStatsHeartbeat heartbeat;
+
     /**
      * Constructs the {@link ApolloStatsManager}.
      *
@@ -107,7 +109,12 @@ public final class ApolloStatsManager {
     public void enable() {
         this.handleServerStartStats();
 
-        new ApolloStatsThread();
+        if (this.heartbeat != null) {
+            this.heartbeat.stop();
+        }
+
+        this.heartbeat = new ApolloStatsHeartbeat();
+        this.heartbeat.start();
     }
 
     private void handleServerStartStats() {
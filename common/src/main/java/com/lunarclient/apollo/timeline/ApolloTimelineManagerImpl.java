@@ -0,0 +1,225 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.timeline;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.network.EncodedMessage;
+import com.lunarclient.apollo.network.MessageRecorder;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import com.lunarclient.apollo.player.ApolloPlayer;
+import com.lunarclient.apollo.recipients.Recipients;
+import com.lunarclient.apollo.scheduler.ApolloScheduler;
+import com.lunarclient.apollo.scheduler.ApolloTask;
+import com.lunarclient.apollo.util.ApolloExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Provides the implementation for the {@link ApolloTimelineManager}.
+ *
+ * <p>Timelines are compiled by running their module actions against a
+ * {@link MessageRecorder}, which keeps the messages the module
+ * implementations would have sent. Each message is encoded once and the
+ * same bytes go through the outbound queue of every recipient of every
+ * playback.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ApolloTimelineManagerImpl implements ApolloTimelineManager {
+
+    private static final long TICK_MILLIS = 50L;
+
+    private final Map<Timeline, CompiledTimeline> compiled = Collections.synchronizedMap(new WeakHashMap<>());
+    private final List<Playback> playbacks = new CopyOnWriteArrayList<>();
+
+    private volatile long tick;
+    private ApolloTask tickTask;
+
+    @Override
+    public void compile(@NonNull Timeline timeline) {
+        this.getCompiled(timeline);
+    }
+
+    @Override
+    public TimelinePlayback play(@NonNull Recipients recipients, @NonNull Timeline timeline) {
+        CompiledTimeline compiledTimeline = this.getCompiled(timeline);
+        List<ApolloPlayer> players = new ArrayList<>();
+        recipients.forEach(recipient -> players.add((ApolloPlayer) recipient));
+
+        Playback playback = new Playback(compiledTimeline, players, this.tick + 1);
+        if (compiledTimeline.ticks.length == 0 || players.isEmpty()) {
+            playback.done = true;
+            return playback;
+        }
+
+        this.playbacks.add(playback);
+        this.startTicking();
+        return playback;
+    }
+
+    private CompiledTimeline getCompiled(Timeline timeline) {
+        return this.compiled.computeIfAbsent(timeline, ApolloTimelineManagerImpl::compileTimeline);
+    }
+
+    private synchronized void startTicking() {
+        if (this.tickTask != null) {
+            return;
+        }
+
+        ApolloScheduler scheduler = ApolloManager.getScheduler();
+        if (scheduler != null) {
+            this.tickTask = scheduler.runGlobalTimer(this::tick, 1L, 1L);
+        } else {
+            ScheduledFuture<?> future = ApolloExecutors.timer().scheduleAtFixedRate(this::tick,
+                ApolloTimelineManagerImpl.TICK_MILLIS, ApolloTimelineManagerImpl.TICK_MILLIS, TimeUnit.MILLISECONDS
+            );
+
+            this.tickTask = () -> future.cancel(false);
+        }
+    }
+
+    private void tick() {
+        long tick = ++this.tick;
+
+        for (Playback playback : this.playbacks) {
+            if (playback.done || playback.advance(tick)) {
+                this.playbacks.remove(playback);
+            }
+        }
+
+        synchronized (this) {
+            if (this.playbacks.isEmpty() && this.tickTask != null) {
+                this.tickTask.cancel();
+                this.tickTask = null;
+            }
+        }
+    }
+
+    private static CompiledTimeline compileTimeline(Timeline timeline) {
+        List<TimelineEntry> entries = new ArrayList<>(timeline.getEntries());
+        entries.sort(Comparator.comparingInt(TimelineEntry::getTick));
+
+        List<Integer> ticks = new ArrayList<>();
+        List<EncodedMessage[]> frames = new ArrayList<>();
+
+        int index = 0;
+        while (index < entries.size()) {
+            int tick = entries.get(index).getTick();
+            List<Consumer<Recipients>> actions = new ArrayList<>();
+
+            while (index < entries.size() && entries.get(index).getTick() == tick) {
+                actions.add(entries.get(index++).getAction());
+            }
+
+            EncodedMessage[] frame = MessageRecorder.record(actions);
+            if (frame.length != 0) {
+                ticks.add(tick);
+                frames.add(frame);
+            }
+        }
+
+        int[] tickArray = new int[ticks.size()];
+        for (int i = 0; i < tickArray.length; i++) {
+            tickArray[i] = ticks.get(i);
+        }
+
+        return new CompiledTimeline(tickArray, frames.toArray(new EncodedMessage[0][]));
+    }
+
+    @RequiredArgsConstructor
+    private static final class CompiledTimeline {
+
+        private final int[] ticks;
+        private final EncodedMessage[][] frames;
+
+    }
+
+    @RequiredArgsConstructor
+    private static final class Playback implements TimelinePlayback {
+
+        private final CompiledTimeline timeline;
+        private final List<ApolloPlayer> players;
+        private final long startTick;
+
+        private int nextFrame;
+        private volatile boolean done;
+
+        @Override
+        public void cancel() {
+            this.done = true;
+        }
+
+        @Override
+        public boolean isDone() {
+            return this.done;
+        }
+
+        boolean advance(long tick) {
+            long elapsed = tick - this.startTick;
+
+            while (this.nextFrame < this.timeline.ticks.length && this.timeline.ticks[this.nextFrame] <= elapsed) {
+                this.send(this.timeline.frames[this.nextFrame++]);
+            }
+
+            if (this.nextFrame >= this.timeline.ticks.length) {
+                this.done = true;
+            }
+
+            return this.done;
+        }
+
+        private void send(EncodedMessage[] frame) {
+            for (ApolloPlayer player : this.players) {
+                Optional<ApolloPlayer> online = Apollo.getPlayerManager().getPlayer(player.getUniqueId());
+                if (!online.isPresent()) {
+                    continue;
+                }
+
+                for (EncodedMessage message : frame) {
+                    try {
+                        ((AbstractApolloPlayer) online.get()).sendPacket(message);
+                    } catch (Throwable throwable) {
+                        Apollo.getPlatform().getPlatformLogger().log(Level.SEVERE,
+                            "Unable to send timeline message to " + player.getName() + "!", throwable);
+                    }
+                }
+            }
+        }
+
+    }
+
+}
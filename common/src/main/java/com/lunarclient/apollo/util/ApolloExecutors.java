@@ -0,0 +1,142 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the shared executors Apollo uses for background work.
+ *
+ * <p>Blocking work (HTTP requests, heartbeats) runs on {@link #blocking()},
+ * which uses virtual threads when the server runs on Java 21 or newer and a
+ * small bounded daemon pool otherwise. Delayed and periodic work runs on the
+ * single {@link #timer()} thread; tasks scheduled there must be short and
+ * hand anything blocking off to {@link #blocking()}.</p>
+ *
+ * <p>Neither executor is ever shut down, they only use daemon threads.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ApolloExecutors {
+
+    private static final int FALLBACK_POOL_SIZE = 4;
+
+    private static final boolean VIRTUAL;
+    private static final ExecutorService BLOCKING;
+    private static final ScheduledExecutorService TIMER;
+
+    static {
+        ExecutorService virtual = ApolloExecutors.createVirtualExecutor();
+        VIRTUAL = virtual != null;
+        BLOCKING = virtual != null ? virtual : ApolloExecutors.createFallbackExecutor();
+
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Apollo Timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        timer.setRemoveOnCancelPolicy(true);
+        TIMER = timer;
+    }
+
+    /**
+     * Returns the executor used for blocking work.
+     *
+     * @return the blocking executor
+     * @since 1.1.6
+     */
+    public static ExecutorService blocking() {
+        return ApolloExecutors.BLOCKING;
+    }
+
+    /**
+     * Returns the shared single-threaded executor used for delayed and
+     * periodic tasks.
+     *
+     * @return the timer executor
+     * @since 1.1.6
+     */
+    public static ScheduledExecutorService timer() {
+        return ApolloExecutors.TIMER;
+    }
+
+    /**
+     * Returns whether {@link #blocking()} is backed by virtual threads.
+     *
+     * @return true if virtual threads are used
+     * @since 1.1.6
+     */
+    public static boolean isVirtual() {
+        return ApolloExecutors.VIRTUAL;
+    }
+
+    private static ExecutorService createVirtualExecutor() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class)
+                .invoke(builder, "Apollo Virtual Worker #", 1L);
+
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService createFallbackExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            ApolloExecutors.FALLBACK_POOL_SIZE, ApolloExecutors.FALLBACK_POOL_SIZE,
+            60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "Apollo Worker #" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private ApolloExecutors() {
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.util;
+
+import java.util.function.Consumer;
+
+/**
+ * Represents a hashed timing wheel that expires values at a deadline.
+ *
+ * <p>Scheduling and cancelling are constant time. Advancing the wheel only
+ * visits the buckets for the ticks that passed, and each value is visited
+ * once per revolution of the wheel. This class is not thread-safe.</p>
+ *
+ * @param <T> the scheduled value type
+ * @since 1.1.6
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Timeout<T>[] buckets;
+    private final int mask;
+
+    private long currentTick;
+    private long lastMillis;
+    private int size;
+
+    /**
+     * Constructs the {@link TimingWheel}.
+     *
+     * @param tickMillis the duration of a tick in milliseconds
+     * @param wheelSize  the number of buckets, rounded up to a power of two
+     * @param nowMillis  the current time in milliseconds
+     * @since 1.1.6
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+
+        this.tickMillis = tickMillis;
+        this.buckets = new Timeout[size];
+        this.mask = size - 1;
+        this.lastMillis = nowMillis;
+    }
+
+    /**
+     * Returns the number of scheduled values.
+     *
+     * @return the number of scheduled values
+     * @since 1.1.6
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Schedules the value to expire at the provided deadline.
+     *
+     * @param value          the value
+     * @param deadlineMillis the deadline in milliseconds
+     * @return the timeout, which can be cancelled
+     * @since 1.1.6
+     */
+    public Timeout<T> schedule(T value, long deadlineMillis) {
+        long ticks = Math.max((deadlineMillis - this.lastMillis + this.tickMillis - 1) / this.tickMillis, 1);
+        long deadlineTick = this.currentTick + ticks;
+
+        Timeout<T> timeout = new Timeout<>(value);
+        timeout.rounds = (ticks - 1) / this.buckets.length;
+        timeout.bucket = (int) (deadlineTick & this.mask);
+
+        Timeout<T> head = this.buckets[timeout.bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+
+        this.buckets[timeout.bucket] = timeout;
+        this.size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels the provided timeout if it has not expired yet.
+     *
+     * @param timeout the timeout
+     * @since 1.1.6
+     */
+    public void cancel(Timeout<T> timeout) {
+        if (timeout.bucket == -1) {
+            return;
+        }
+
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            this.buckets[timeout.bucket] = timeout.next;
+        }
+
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        this.size--;
+    }
+
+    /**
+     * Advances the wheel to the provided time and passes every
+     * value whose deadline passed to the provided action.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param action    the action for expired values
+     * @since 1.1.6
+     */
+    public void advance(long nowMillis, Consumer<T> action) {
+        long ticks = (nowMillis - this.lastMillis) / this.tickMillis;
+        if (ticks <= 0) {
+            return;
+        }
+
+        this.lastMillis += ticks * this.tickMillis;
+
+        // Buckets repeat after one revolution, so each is visited once
+        // with the number of times the wheel passed over it.
+        long visits = Math.min(ticks, this.buckets.length);
+        for (long i = 1; i <= visits; i++) {
+            int bucket = (int) ((this.currentTick + i) & this.mask);
+            this.expire(bucket, (ticks - i) / this.buckets.length + 1, action);
+        }
+
+        this.currentTick += ticks;
+    }
+
+    private void expire(int bucket, long passes, Consumer<T> action) {
+        Timeout<T> timeout = this.buckets[bucket];
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+
+            if (timeout.rounds < passes) {
+                this.cancel(timeout);
+                action.accept(timeout.value);
+            } else {
+                timeout.rounds -= passes;
+            }
+
+            timeout = next;
+        }
+    }
+
+    /**
+     * Represents a value scheduled in a {@link TimingWheel}.
+     *
+     * @param <T> the scheduled value type
+     * @since 1.1.6
+     */
+    public static final class Timeout<T> {
+
+        private final T value;
+
+        private Timeout<T> previous;
+        private Timeout<T> next;
+        private long rounds;
+        private int bucket;
+
+        private Timeout(T value) {
+            this.value = value;
+        }
+
+        /**
+         * Returns whether this timeout is still scheduled.
+         *
+         * @return true if the timeout is scheduled, otherwise false
+         * @since 1.1.6
+         */
+        public boolean isScheduled() {
+            return this.bucket != -1;
+        }
+
+    }
+
+}
@@ -35,6 +35,8 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
  */
 public final class ApolloComponent {
 
+    private static final ComponentJsonCache JSON_CACHE = new ComponentJsonCache(4096);
+
     /**
      * Returns a new component from the provided JSON {@link String}.
      *
@@ -49,12 +51,16 @@ public final class ApolloComponent {
     /**
      * Returns this component as a JSON {@link String}.
      *
+     * <p>Serialized components are cached by identity in the
+     * {@link #getJsonCache()}, so reusing the same component
+     * instance avoids serializing it again.</p>
+     *
      * @param component the component to make into a json string
      * @return the json string for this component
      * @since 1.0.0
      */
     public static String toJson(@NonNull Component component) {
-        return GsonComponentSerializer.gson().serialize(component);
+        return ApolloComponent.JSON_CACHE.get(component, GsonComponentSerializer.gson()::serialize);
     }
 
     /**
@@ -68,6 +74,16 @@ public final class ApolloComponent {
         return LegacyComponentSerializer.legacySection().serialize(component);
     }
 
+    /**
+     * Returns the cache used by {@link #toJson(Component)}.
+     *
+     * @return the component json cache
+     * @since 1.1.6
+     */
+    public static ComponentJsonCache getJsonCache() {
+        return ApolloComponent.JSON_CACHE;
+    }
+
     private ApolloComponent() {
     }
 
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.common;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+
+/**
+ * A bounded, thread-safe cache of serialized {@link Component}s.
+ *
+ * <p>Components are immutable, so entries are keyed by component identity,
+ * which avoids hashing the whole component tree on every lookup. The cache
+ * has a fixed number of slots; each component maps to a pair of slots and
+ * a new entry displaces the least recently inserted entry of that pair.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ComponentJsonCache {
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ComponentJsonCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the number of lookups that were served from the cache.
+     *
+     * @return the hit count
+     * @since 1.1.6
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required serialization.
+     *
+     * @return the miss count
+     * @since 1.1.6
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that were served from the cache.
+     *
+     * @return the hit rate, between {@code 0} and {@code 1}
+     * @since 1.1.6
+     */
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long total = hits + this.misses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the maximum number of entries this cache can hold.
+     *
+     * @return the capacity
+     * @since 1.1.6
+     */
+    public int getCapacity() {
+        return this.entries.length();
+    }
+
+    /**
+     * Removes every entry and resets the hit and miss counters.
+     *
+     * @since 1.1.6
+     */
+    public void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.set(i, null);
+        }
+
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    String get(Component component, Function<Component, String> serializer) {
+        int index = ComponentJsonCache.spread(System.identityHashCode(component)) & this.mask;
+
+        Entry primary = this.entries.get(index);
+        if (primary != null && primary.component == component) {
+            this.hits.increment();
+            return primary.json;
+        }
+
+        Entry secondary = this.entries.get(index ^ 1);
+        if (secondary != null && secondary.component == component) {
+            this.hits.increment();
+            return secondary.json;
+        }
+
+        this.misses.increment();
+
+        String json = serializer.apply(component);
+        Entry displaced = this.entries.getAndSet(index, new Entry(component, json));
+        if (displaced != null) {
+            this.entries.lazySet(index ^ 1, displaced);
+        }
+
+        return json;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+
+        private final Component component;
+        private final String json;
+
+    }
+
+}
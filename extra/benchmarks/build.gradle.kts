@@ -0,0 +1,18 @@
+plugins {
+    id("apollo.base-conventions")
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmhImplementation(project(":extra:apollo-extra-test-fixtures"))
+
+    jmhCompileOnly(libs.lombok)
+    jmhAnnotationProcessor(libs.lombok)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.benchmark;
+
+import com.lunarclient.apollo.event.Event;
+import com.lunarclient.apollo.event.EventBus;
+import com.lunarclient.apollo.event.Listen;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares posting to reflective {@link Listen} listeners against
+ * directly registered consumers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    @Param({"1", "10"})
+    private int listenerCount;
+
+    private final List<ReflectiveListener> reflectiveListeners = new ArrayList<>();
+    private final List<Consumer<DirectEvent>> directListeners = new ArrayList<>();
+
+    private long received;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < this.listenerCount; i++) {
+            ReflectiveListener listener = new ReflectiveListener();
+            EventBus.getBus().register(listener);
+            this.reflectiveListeners.add(listener);
+
+            Consumer<DirectEvent> consumer = event -> this.received++;
+            EventBus.getBus().register(DirectEvent.class, consumer);
+            this.directListeners.add(consumer);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.reflectiveListeners.forEach(EventBus.getBus()::unregister);
+        this.directListeners.forEach(consumer -> EventBus.getBus().unregister(DirectEvent.class, consumer));
+    }
+
+    @Benchmark
+    public EventBus.EventResult<ReflectiveEvent> reflective() {
+        return EventBus.getBus().post(new ReflectiveEvent());
+    }
+
+    @Benchmark
+    public EventBus.EventResult<DirectEvent> direct() {
+        return EventBus.getBus().post(new DirectEvent());
+    }
+
+    public static final class ReflectiveEvent implements Event {
+    }
+
+    public static final class DirectEvent implements Event {
+    }
+
+    public static final class ReflectiveListener {
+
+        private long received;
+
+        @Listen
+        private void onEvent(ReflectiveEvent event) {
+            this.received++;
+        }
+
+    }
+
+}
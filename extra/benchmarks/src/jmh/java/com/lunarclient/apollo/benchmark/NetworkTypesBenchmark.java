@@ -0,0 +1,100 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.benchmark;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.common.v1.Uuid;
+import com.lunarclient.apollo.network.NetworkTypes;
+import java.awt.Color;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the common {@link NetworkTypes} conversions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkTypesBenchmark {
+
+    private UUID uuid;
+    private Uuid uuidMessage;
+    private ApolloLocation location;
+    private Color color;
+    private Duration duration;
+
+    @Setup
+    public void setup() {
+        this.uuid = UUID.randomUUID();
+        this.uuidMessage = NetworkTypes.toProtobuf(this.uuid);
+        this.location = ApolloLocation.builder()
+            .world("world")
+            .x(12.5D)
+            .y(64.0D)
+            .z(-300.25D)
+            .build();
+        this.color = new Color(255, 128, 0);
+        this.duration = Duration.ofSeconds(30);
+    }
+
+    @Benchmark
+    public Uuid uuidToProtobuf() {
+        return NetworkTypes.toProtobuf(this.uuid);
+    }
+
+    @Benchmark
+    public UUID uuidFromProtobuf() {
+        return NetworkTypes.fromProtobuf(this.uuidMessage);
+    }
+
+    @Benchmark
+    public com.lunarclient.apollo.common.v1.Location locationToProtobuf() {
+        return NetworkTypes.toProtobuf(this.location);
+    }
+
+    @Benchmark
+    public com.lunarclient.apollo.common.v1.Color colorToProtobuf() {
+        return NetworkTypes.toProtobuf(this.color);
+    }
+
+    @Benchmark
+    public com.google.protobuf.Duration durationToProtobuf() {
+        return NetworkTypes.toProtobuf(this.duration);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.benchmark;
+
+import com.lunarclient.apollo.option.NumberOption;
+import com.lunarclient.apollo.option.Option;
+import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing every option of a large option container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int optionCount;
+
+    private final List<NumberOption<Integer>> options = new ArrayList<>();
+    private OptionsImpl container;
+    private int value;
+
+    @Setup
+    public void setup() {
+        ApolloTestEnvironment.bootstrap();
+
+        this.container = new OptionsImpl(null);
+        for (int i = 0; i < this.optionCount; i++) {
+            NumberOption<Integer> option = Option.<Integer>number()
+                .comment("Benchmark option " + i + ".")
+                .node("benchmark", "option-" + i).type(TypeToken.get(Integer.class))
+                .defaultValue(0).build();
+
+            this.options.add(option);
+            this.container.set(option, i + 1);
+        }
+    }
+
+    @Benchmark
+    public int get() {
+        int sum = 0;
+        for (NumberOption<Integer> option : this.options) {
+            sum += this.container.get(option);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public void set() {
+        int next = ++this.value;
+        for (NumberOption<Integer> option : this.options) {
+            this.container.set(option, next);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.benchmark;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.event.ApolloReceivePacketEvent;
+import com.lunarclient.apollo.event.EventBus;
+import com.lunarclient.apollo.notification.v1.DisplayNotificationMessage;
+import com.lunarclient.apollo.notification.v1.ResetNotificationsMessage;
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import com.lunarclient.apollo.testing.SimulatedPlayer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding an inbound packet and dispatching it to listeners
+ * that each unpack the type they handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReceivePacketBenchmark {
+
+    @Param({"1", "8"})
+    private int listenerCount;
+
+    private final List<Consumer<ApolloReceivePacketEvent>> listeners = new ArrayList<>();
+
+    private SimulatedPlayer player;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        ApolloTestEnvironment.bootstrap();
+
+        this.player = SimulatedPlayer.create(1, false).get(0);
+        this.bytes = Any.pack(DisplayNotificationMessage.newBuilder()
+            .setTitle("Benchmark")
+            .setDescription("An inbound packet.")
+            .build()
+        ).toByteArray();
+
+        // One listener handles the packet, the others check for a different type
+        for (int i = 0; i < this.listenerCount; i++) {
+            Consumer<ApolloReceivePacketEvent> listener = i == 0
+                ? event -> event.unpack(DisplayNotificationMessage.class)
+                : event -> event.unpack(ResetNotificationsMessage.class);
+
+            EventBus.getBus().register(ApolloReceivePacketEvent.class, listener);
+            this.listeners.add(listener);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.listeners.forEach(listener -> EventBus.getBus().unregister(ApolloReceivePacketEvent.class, listener));
+    }
+
+    @Benchmark
+    public Optional<DisplayNotificationMessage> unpackMatching() throws InvalidProtocolBufferException {
+        return new ApolloReceivePacketEvent(this.player, Any.parseFrom(this.bytes)).unpack(DisplayNotificationMessage.class);
+    }
+
+    @Benchmark
+    public Optional<ResetNotificationsMessage> unpackMismatch() throws InvalidProtocolBufferException {
+        return new ApolloReceivePacketEvent(this.player, Any.parseFrom(this.bytes)).unpack(ResetNotificationsMessage.class);
+    }
+
+    @Benchmark
+    public void dispatch() throws InvalidProtocolBufferException {
+        ApolloManager.getNetworkManager().receivePacket(this.player, Any.parseFrom(this.bytes));
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.benchmark;
+
+import com.google.protobuf.Any;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.notification.v1.DisplayNotificationMessage;
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import com.lunarclient.apollo.testing.SimulatedPlayer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sending a single message to many players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SendPacketBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int playerCount;
+
+    private List<SimulatedPlayer> players;
+    private DisplayNotificationMessage message;
+    private Any packet;
+
+    @Setup
+    public void setup() {
+        ApolloTestEnvironment.bootstrap();
+
+        this.players = SimulatedPlayer.create(this.playerCount, false);
+        this.message = DisplayNotificationMessage.newBuilder()
+            .setTitle("Benchmark")
+            .setDescription("Sending a notification to every player.")
+            .build();
+        this.packet = Any.pack(this.message);
+    }
+
+    @Benchmark
+    public void networkManagerFanOut() {
+        for (SimulatedPlayer player : this.players) {
+            ApolloManager.getNetworkManager().sendPacket(player, this.packet);
+        }
+    }
+
+    @Benchmark
+    public void playerSendFanOut() {
+        for (SimulatedPlayer player : this.players) {
+            player.sendPacket(this.message);
+        }
+    }
+
+}
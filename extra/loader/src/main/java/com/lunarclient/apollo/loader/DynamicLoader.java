@@ -31,11 +31,16 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -43,8 +48,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import sun.misc.Unsafe;
 
@@ -75,6 +83,9 @@ public final class DynamicLoader {
         UNSAFE = unsafe;
     }
 
+    private static final String LIBRARY_EXTENSION = ".jar";
+    private static final String TEMP_EXTENSION = ".tmp";
+
     /**
      * Extracts the jar from the specified resource location into usable
      * URL.
@@ -112,7 +123,117 @@ public final class DynamicLoader {
         }
     }
 
+    /**
+     * Returns the cached library path for the specified resource, keyed by
+     * the content hash of the embedded jar.
+     *
+     * @param cacheDirectory the library cache directory
+     * @param jarInJar the embedded jar url
+     * @param resourcePath the resource path
+     * @return the cached library path
+     * @since 1.1.6
+     */
+    private static Path cachedJarPath(Path cacheDirectory, URL jarInJar, String resourcePath) {
+        String name = resourcePath.replaceAll("[^A-Za-z0-9.-]", "_").replace(".jarinjar", "");
+        return cacheDirectory.resolve(name + "-" + DynamicLoader.contentHash(jarInJar) + DynamicLoader.LIBRARY_EXTENSION);
+    }
+
+    /**
+     * Returns a content hash of the embedded jar.
+     *
+     * <p>Jar entries already carry a CRC and size in the central directory,
+     * so a warm start doesn't need to read the embedded jar at all. Other
+     * resources fall back to hashing the stream.</p>
+     *
+     * @param jarInJar the embedded jar url
+     * @return the content hash
+     * @since 1.1.6
+     */
+    private static String contentHash(URL jarInJar) {
+        try {
+            URLConnection connection = jarInJar.openConnection();
+            if (connection instanceof JarURLConnection) {
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                if (entry != null && entry.getCrc() != -1 && entry.getSize() != -1) {
+                    return String.format("%08x%x", entry.getCrc(), entry.getSize());
+                }
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = connection.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+
+            StringBuilder hash = new StringBuilder();
+            byte[] bytes = digest.digest();
+            for (int i = 0; i < 8; i++) {
+                hash.append(String.format("%02x", bytes[i]));
+            }
+
+            return hash.toString();
+        } catch (Exception exception) {
+            throw new RuntimeException("Unable to hash embedded jar!", exception);
+        }
+    }
+
+    /**
+     * Extracts the jar from the specified resource location into the library
+     * cache, reusing a previous extraction of the same content.
+     *
+     * @param loader the class loader
+     * @param cacheDirectory the library cache directory
+     * @param resourcePath the resource path
+     * @return the cached library path
+     * @since 1.1.6
+     */
+    private static CachedJar extractCachedJar(ClassLoader loader, Path cacheDirectory, String resourcePath) {
+        URL jarInJar = loader.getResource(resourcePath);
+        if (jarInJar == null) {
+            throw new RuntimeException("Unable to locate jar!");
+        }
+
+        Path path = DynamicLoader.cachedJarPath(cacheDirectory, jarInJar, resourcePath);
+        if (Files.isRegularFile(path)) {
+            return new CachedJar(path, false);
+        }
+
+        Path temporary;
+        try {
+            temporary = Files.createTempFile(cacheDirectory, path.getFileName().toString(), DynamicLoader.TEMP_EXTENSION);
+        } catch (Exception exception) {
+            throw new RuntimeException("Unable to create temporary jar!", exception);
+        }
+
+        try {
+            try (InputStream inputStream = jarInJar.openStream()) {
+                Files.copy(inputStream, temporary, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // Readers only ever see a missing or a complete library
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Exception exception) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (Exception ignored) {
+            }
+
+            throw new RuntimeException("Unable to copy jar to library cache!", exception);
+        }
+
+        return new CachedJar(path, true);
+    }
+
     private final URLClassLoader parent;
+    private final Logger logger;
+    private final Path cacheDirectory;
 
     private MethodHandle addURL;
 
@@ -123,10 +244,26 @@ public final class DynamicLoader {
      * @param logger the plugin logger
      * @since 1.0.0
      */
-    @SuppressWarnings({"JavaReflectionMemberAccess", "JavaReflectionInvocation"})
     public DynamicLoader(@NonNull ClassLoader parent, @NonNull Logger logger) {
+        this(parent, logger, null);
+    }
+
+    /**
+     * Constructs a new {@link DynamicLoader} that caches extracted
+     * libraries in the provided directory.
+     *
+     * @param parent the parent class loader
+     * @param logger the plugin logger
+     * @param cacheDirectory the library cache directory, or null to
+     *                       extract into temporary files
+     * @since 1.1.6
+     */
+    @SuppressWarnings({"JavaReflectionMemberAccess", "JavaReflectionInvocation"})
+    public DynamicLoader(@NonNull ClassLoader parent, @NonNull Logger logger, Path cacheDirectory) {
         if (!(parent instanceof URLClassLoader)) throw new IllegalArgumentException("Parent class loader must be the plugin class loader!");
         this.parent = (URLClassLoader) parent;
+        this.logger = logger;
+        this.cacheDirectory = cacheDirectory;
 
         final List<Exception> errors = new ArrayList<>();
         try {
@@ -212,13 +349,74 @@ public final class DynamicLoader {
      * @since 1.0.0
      */
     public void install(@NonNull String[] resources) {
+        if (this.cacheDirectory == null) {
+            try {
+                Arrays.stream(resources)
+                    .map(resource -> DynamicLoader.extractJar(this.parent, resource))
+                    .forEach(this::loadJar);
+            } catch (Exception exception) {
+                throw new RuntimeException("Unable to load library jars!", exception);
+            }
+
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<CachedJar> jars;
+
         try {
-            Arrays.stream(resources)
-                .map(resource -> DynamicLoader.extractJar(this.parent, resource))
-                .forEach(this::loadJar);
+            Files.createDirectories(this.cacheDirectory);
+
+            // Extract in parallel, the ordered collect keeps the class path order
+            jars = Arrays.stream(resources)
+                .parallel()
+                .map(resource -> DynamicLoader.extractCachedJar(this.parent, this.cacheDirectory, resource))
+                .collect(Collectors.toList());
+
+            for (CachedJar jar : jars) {
+                this.loadJar(jar.path.toUri().toURL());
+            }
         } catch (Exception exception) {
             throw new RuntimeException("Unable to load library jars!", exception);
         }
+
+        long extracted = jars.stream().filter(jar -> jar.extracted).count();
+        this.logger.info(String.format("Loaded %d libraries (%d extracted, %d cached) in %d ms",
+            jars.size(), extracted, jars.size() - extracted, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        ));
+
+        this.cleanStaleJars(jars);
+    }
+
+    /**
+     * Removes libraries and interrupted extractions left in the library
+     * cache that are no longer used.
+     *
+     * @param jars the libraries in use
+     * @since 1.1.6
+     */
+    private void cleanStaleJars(List<CachedJar> jars) {
+        Set<Path> inUse = jars.stream()
+            .map(jar -> jar.path.getFileName())
+            .collect(Collectors.toSet());
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.cacheDirectory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                boolean library = name.endsWith(DynamicLoader.LIBRARY_EXTENSION) || name.endsWith(DynamicLoader.TEMP_EXTENSION);
+
+                if (library && !inUse.contains(path.getFileName())) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (Exception exception) {
+                        // Still mapped by a previous class loader on some platforms, retry next start
+                        this.logger.log(Level.FINE, "Unable to delete stale library " + name, exception);
+                    }
+                }
+            }
+        } catch (Exception exception) {
+            this.logger.log(Level.WARNING, "Unable to clean the library cache!", exception);
+        }
     }
 
     /**
@@ -267,4 +465,14 @@ public final class DynamicLoader {
         }
     }
 
+    private static final class CachedJar {
+        private final Path path;
+        private final boolean extracted;
+
+        private CachedJar(Path path, boolean extracted) {
+            this.path = path;
+            this.extracted = extracted;
+        }
+    }
+
 }
@@ -0,0 +1,17 @@
+plugins {
+    id("apollo.base-conventions")
+}
+
+dependencies {
+    api(project(":apollo-common"))
+    api(project(":extra:apollo-extra-adventure4"))
+}
+
+tasks.register<JavaExec>("runScenarios") {
+    group = "verification"
+    description = "Runs the load-test scenarios against simulated players."
+
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.lunarclient.apollo.testing.ScenarioRunner")
+    args(providers.gradleProperty("players").getOrElse("2000"))
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.ApolloPlatform;
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.module.ApolloModule;
+import com.lunarclient.apollo.module.ApolloModuleManagerImpl;
+import com.lunarclient.apollo.module.beam.BeamModule;
+import com.lunarclient.apollo.module.beam.BeamModuleImpl;
+import com.lunarclient.apollo.module.border.BorderModule;
+import com.lunarclient.apollo.module.border.BorderModuleImpl;
+import com.lunarclient.apollo.module.chat.ChatModule;
+import com.lunarclient.apollo.module.chat.ChatModuleImpl;
+import com.lunarclient.apollo.module.coloredfire.ColoredFireModule;
+import com.lunarclient.apollo.module.coloredfire.ColoredFireModuleImpl;
+import com.lunarclient.apollo.module.combat.CombatModule;
+import com.lunarclient.apollo.module.cooldown.CooldownModule;
+import com.lunarclient.apollo.module.cooldown.CooldownModuleImpl;
+import com.lunarclient.apollo.module.entity.EntityModule;
+import com.lunarclient.apollo.module.entity.EntityModuleImpl;
+import com.lunarclient.apollo.module.glow.GlowModule;
+import com.lunarclient.apollo.module.glow.GlowModuleImpl;
+import com.lunarclient.apollo.module.hologram.HologramModule;
+import com.lunarclient.apollo.module.hologram.HologramModuleImpl;
+import com.lunarclient.apollo.module.limb.LimbModule;
+import com.lunarclient.apollo.module.limb.LimbModuleImpl;
+import com.lunarclient.apollo.module.modsetting.ModSettingModule;
+import com.lunarclient.apollo.module.nametag.NametagModule;
+import com.lunarclient.apollo.module.nametag.NametagModuleImpl;
+import com.lunarclient.apollo.module.nickhider.NickHiderModule;
+import com.lunarclient.apollo.module.nickhider.NickHiderModuleImpl;
+import com.lunarclient.apollo.module.notification.NotificationModule;
+import com.lunarclient.apollo.module.notification.NotificationModuleImpl;
+import com.lunarclient.apollo.module.packetenrichment.PacketEnrichmentImpl;
+import com.lunarclient.apollo.module.packetenrichment.PacketEnrichmentModule;
+import com.lunarclient.apollo.module.richpresence.RichPresenceModule;
+import com.lunarclient.apollo.module.richpresence.RichPresenceModuleImpl;
+import com.lunarclient.apollo.module.serverrule.ServerRuleModule;
+import com.lunarclient.apollo.module.staffmod.StaffModModule;
+import com.lunarclient.apollo.module.staffmod.StaffModModuleImpl;
+import com.lunarclient.apollo.module.stopwatch.StopwatchModule;
+import com.lunarclient.apollo.module.stopwatch.StopwatchModuleImpl;
+import com.lunarclient.apollo.module.team.TeamModule;
+import com.lunarclient.apollo.module.team.TeamModuleImpl;
+import com.lunarclient.apollo.module.title.TitleModule;
+import com.lunarclient.apollo.module.title.TitleModuleImpl;
+import com.lunarclient.apollo.module.transfer.TransferModule;
+import com.lunarclient.apollo.module.transfer.TransferModuleImpl;
+import com.lunarclient.apollo.module.vignette.VignetteModule;
+import com.lunarclient.apollo.module.vignette.VignetteModuleImpl;
+import com.lunarclient.apollo.module.waypoint.WaypointModule;
+import com.lunarclient.apollo.module.waypoint.WaypointModuleImpl;
+import com.lunarclient.apollo.network.InboundPacketPipeline;
+import com.lunarclient.apollo.player.ApolloPlayerManagerImpl;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+
+/**
+ * Runs Apollo in memory with simulated players.
+ *
+ * <p>Apollo can only be bootstrapped once per JVM, so the environment is
+ * a singleton. Disconnect players between scenarios instead of creating
+ * a new environment.</p>
+ *
+ * @since 1.1.6
+ */
+public final class ApolloTestEnvironment {
+
+    private static ApolloTestEnvironment instance;
+
+    /**
+     * Returns the platform Apollo was bootstrapped with.
+     *
+     * @return the platform
+     * @since 1.1.6
+     */
+    @Getter private final TestApolloPlatform platform;
+
+    private final Map<UUID, SimulatedPlayer> players = new ConcurrentHashMap<>();
+
+    private int nextPlayerId;
+
+    /**
+     * Returns the environment, bootstrapping Apollo as a server with every
+     * module that runs without a platform on first use.
+     *
+     * @return the environment
+     * @since 1.1.6
+     */
+    public static synchronized ApolloTestEnvironment bootstrap() {
+        if (ApolloTestEnvironment.instance == null) {
+            ApolloTestEnvironment.instance = new ApolloTestEnvironment(new TestApolloPlatform(ApolloPlatform.Kind.SERVER));
+        }
+
+        return ApolloTestEnvironment.instance;
+    }
+
+    private ApolloTestEnvironment(TestApolloPlatform platform) {
+        this.platform = platform;
+
+        ApolloManager.bootstrap(platform);
+
+        ApolloModuleManagerImpl moduleManager = (ApolloModuleManagerImpl) Apollo.getModuleManager();
+        moduleManager
+            .addModule(BeamModule.class, new BeamModuleImpl())
+            .addModule(BorderModule.class, new BorderModuleImpl())
+            .addModule(ChatModule.class, new ChatModuleImpl())
+            .addModule(ColoredFireModule.class, new ColoredFireModuleImpl())
+            .addModule(CombatModule.class)
+            .addModule(CooldownModule.class, new CooldownModuleImpl())
+            .addModule(EntityModule.class, new EntityModuleImpl())
+            .addModule(GlowModule.class, new GlowModuleImpl())
+            .addModule(HologramModule.class, new HologramModuleImpl())
+            .addModule(LimbModule.class, new LimbModuleImpl())
+            .addModule(ModSettingModule.class)
+            .addModule(NametagModule.class, new NametagModuleImpl())
+            .addModule(NickHiderModule.class, new NickHiderModuleImpl())
+            .addModule(NotificationModule.class, new NotificationModuleImpl())
+            .addModule(PacketEnrichmentModule.class, new PacketEnrichmentImpl())
+            .addModule(RichPresenceModule.class, new RichPresenceModuleImpl())
+            .addModule(ServerRuleModule.class)
+            .addModule(StaffModModule.class, new StaffModModuleImpl())
+            .addModule(StopwatchModule.class, new StopwatchModuleImpl())
+            .addModule(TeamModule.class, new TeamModuleImpl(this::getPlayerLocation))
+            .addModule(TitleModule.class, new TitleModuleImpl())
+            .addModule(TransferModule.class, new TransferModuleImpl())
+            .addModule(VignetteModule.class, new VignetteModuleImpl())
+            .addModule(WaypointModule.class, new WaypointModuleImpl());
+
+        try {
+            ApolloManager.setConfigPath(Files.createTempDirectory("apollo-test"));
+            ApolloManager.loadConfiguration();
+
+            // Deliver packets sent by simulated players before SimulatedPlayer#send returns,
+            // scenarios tick back to back so they would also trip the default rate limit
+            platform.getOptions().set(InboundPacketPipeline.ASYNC_DECODING, false);
+            platform.getOptions().set(InboundPacketPipeline.PACKETS_PER_SECOND, 10000);
+
+            moduleManager.enableModules();
+
+            // Packet enrichment is off by default, the inbound scenarios need it
+            PacketEnrichmentModule packetEnrichment = moduleManager.getModule(PacketEnrichmentModule.class);
+            packetEnrichment.getOptions().set(ApolloModule.ENABLE_OPTION_OFF, true);
+            packetEnrichment.enable();
+
+            ApolloManager.saveConfiguration();
+        } catch (Throwable throwable) {
+            throw new RuntimeException("Unable to bootstrap the Apollo test environment!", throwable);
+        }
+    }
+
+    /**
+     * Creates and registers the provided amount of players.
+     *
+     * @param count the player count
+     * @param decoding whether the players decode and keep received packets
+     * @return the connected players
+     * @since 1.1.6
+     */
+    public synchronized List<SimulatedPlayer> connect(int count, boolean decoding) {
+        List<SimulatedPlayer> connected = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = this.nextPlayerId++;
+            SimulatedPlayer player = new SimulatedPlayer(new UUID(0L, id), "Player" + id, decoding);
+
+            this.players.put(player.getUniqueId(), player);
+            ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).addPlayer(player);
+            connected.add(player);
+        }
+
+        return connected;
+    }
+
+    /**
+     * Unregisters the provided player.
+     *
+     * @param player the player
+     * @since 1.1.6
+     */
+    public void disconnect(SimulatedPlayer player) {
+        ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).removePlayer(player.getUniqueId());
+        this.players.remove(player.getUniqueId());
+    }
+
+    /**
+     * Unregisters every connected player.
+     *
+     * @since 1.1.6
+     */
+    public void disconnectAll() {
+        for (SimulatedPlayer player : new ArrayList<>(this.players.values())) {
+            this.disconnect(player);
+        }
+    }
+
+    /**
+     * Returns the connected players.
+     *
+     * @return the players
+     * @since 1.1.6
+     */
+    public Collection<SimulatedPlayer> getPlayers() {
+        return Collections.unmodifiableCollection(this.players.values());
+    }
+
+    /**
+     * Returns the module registered for the provided module class.
+     *
+     * @param moduleClass the module class
+     * @param <T> the module type
+     * @return the module
+     * @since 1.1.6
+     */
+    public <T extends ApolloModule> T getModule(Class<T> moduleClass) {
+        return Apollo.getModuleManager().getModule(moduleClass);
+    }
+
+    private Optional<ApolloLocation> getPlayerLocation(UUID playerUuid) {
+        SimulatedPlayer player = this.players.get(playerUuid);
+        return player == null ? Optional.empty() : player.getLocation();
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing;
+
+/**
+ * A load-test scenario driven tick by tick by the {@link ScenarioRunner}.
+ *
+ * @since 1.1.6
+ */
+public interface Scenario {
+
+    /**
+     * Returns the scenario name.
+     *
+     * @return the name
+     * @since 1.1.6
+     */
+    String getName();
+
+    /**
+     * Prepares the scenario, connecting the players it needs.
+     *
+     * <p>Setup is not measured.</p>
+     *
+     * @param environment the test environment
+     * @param playerCount the requested player count
+     * @since 1.1.6
+     */
+    void setup(ApolloTestEnvironment environment, int playerCount);
+
+    /**
+     * Runs a single server tick.
+     *
+     * @param environment the test environment
+     * @param tick the tick number, starting at zero
+     * @since 1.1.6
+     */
+    void tick(ApolloTestEnvironment environment, int tick);
+
+    /**
+     * Cleans up after the scenario.
+     *
+     * @param environment the test environment
+     * @since 1.1.6
+     */
+    default void teardown(ApolloTestEnvironment environment) {
+        environment.disconnectAll();
+    }
+
+}
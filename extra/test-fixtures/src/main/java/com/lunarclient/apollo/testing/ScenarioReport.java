@@ -0,0 +1,122 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The measurements of a single {@link Scenario} run.
+ *
+ * @since 1.1.6
+ */
+@Getter
+@Builder
+public final class ScenarioReport {
+
+    /**
+     * Returns the scenario name.
+     *
+     * @return the name
+     * @since 1.1.6
+     */
+    String name;
+
+    /**
+     * Returns the amount of connected players.
+     *
+     * @return the player count
+     * @since 1.1.6
+     */
+    int players;
+
+    /**
+     * Returns the amount of measured ticks.
+     *
+     * @return the tick count
+     * @since 1.1.6
+     */
+    int ticks;
+
+    /**
+     * Returns the mean tick duration in nanoseconds.
+     *
+     * @return the mean tick nanos
+     * @since 1.1.6
+     */
+    long meanTickNanos;
+
+    /**
+     * Returns the median tick duration in nanoseconds.
+     *
+     * @return the median tick nanos
+     * @since 1.1.6
+     */
+    long p50TickNanos;
+
+    /**
+     * Returns the 99th percentile tick duration in nanoseconds.
+     *
+     * @return the p99 tick nanos
+     * @since 1.1.6
+     */
+    long p99TickNanos;
+
+    /**
+     * Returns the slowest tick duration in nanoseconds.
+     *
+     * @return the max tick nanos
+     * @since 1.1.6
+     */
+    long maxTickNanos;
+
+    /**
+     * Returns the bytes sent to each player per second of game time.
+     *
+     * @return the bytes per player per second
+     * @since 1.1.6
+     */
+    double bytesPerPlayerPerSecond;
+
+    /**
+     * Returns the bytes allocated by the ticking thread per tick, or
+     * {@code -1} if the JVM can't measure allocations.
+     *
+     * @return the allocated bytes per tick
+     * @since 1.1.6
+     */
+    long allocatedBytesPerTick;
+
+    @Override
+    public String toString() {
+        return String.format("%-24s players=%-6d ticks=%-5d mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms "
+                + "bytes/player/s=%.1f alloc/tick=%s",
+            this.name, this.players, this.ticks,
+            this.meanTickNanos / 1e6, this.p50TickNanos / 1e6, this.p99TickNanos / 1e6, this.maxTickNanos / 1e6,
+            this.bytesPerPlayerPerSecond,
+            this.allocatedBytesPerTick < 0 ? "n/a" : this.allocatedBytesPerTick + "B"
+        );
+    }
+
+}
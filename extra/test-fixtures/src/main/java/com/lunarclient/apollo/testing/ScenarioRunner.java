@@ -0,0 +1,177 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing;
+
+import com.lunarclient.apollo.testing.scenario.MassJoinScenario;
+import com.lunarclient.apollo.testing.scenario.OptionReloadScenario;
+import com.lunarclient.apollo.testing.scenario.PacketEnrichmentFloodScenario;
+import com.lunarclient.apollo.testing.scenario.TeamUpdateScenario;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs {@link Scenario}s against an {@link ApolloTestEnvironment} and
+ * measures tick time, outbound bytes and allocations.
+ *
+ * @since 1.1.6
+ */
+public final class ScenarioRunner {
+
+    private static final int TICKS_PER_SECOND = 20;
+
+    private final ApolloTestEnvironment environment;
+    private final int warmupTicks;
+    private final int measuredTicks;
+
+    /**
+     * Constructs a new {@link ScenarioRunner}.
+     *
+     * @param environment the test environment
+     * @param warmupTicks the ticks to run before measuring
+     * @param measuredTicks the ticks to measure
+     * @since 1.1.6
+     */
+    public ScenarioRunner(ApolloTestEnvironment environment, int warmupTicks, int measuredTicks) {
+        this.environment = environment;
+        this.warmupTicks = warmupTicks;
+        this.measuredTicks = measuredTicks;
+    }
+
+    /**
+     * Runs the default scenarios and prints their reports.
+     *
+     * @param args the player count, defaulting to {@code 2000}
+     * @since 1.1.6
+     */
+    public static void main(String[] args) {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        ScenarioRunner runner = new ScenarioRunner(ApolloTestEnvironment.bootstrap(), 100, 400);
+        List<Scenario> scenarios = Arrays.asList(
+            new MassJoinScenario(),
+            new TeamUpdateScenario(),
+            new PacketEnrichmentFloodScenario(),
+            new OptionReloadScenario()
+        );
+
+        for (Scenario scenario : scenarios) {
+            System.out.println(runner.run(scenario, players));
+        }
+
+        System.exit(0);
+    }
+
+    /**
+     * Runs the provided scenario.
+     *
+     * @param scenario the scenario
+     * @param playerCount the player count
+     * @return the report
+     * @since 1.1.6
+     */
+    public ScenarioReport run(Scenario scenario, int playerCount) {
+        scenario.setup(this.environment, playerCount);
+
+        try {
+            int tick = 0;
+            for (; tick < this.warmupTicks; tick++) {
+                scenario.tick(this.environment, tick);
+            }
+
+            this.environment.getPlayers().forEach(SimulatedPlayer::reset);
+
+            long[] tickNanos = new long[this.measuredTicks];
+            long allocatedBefore = ScenarioRunner.allocatedBytes();
+
+            for (int i = 0; i < this.measuredTicks; i++, tick++) {
+                long start = System.nanoTime();
+                scenario.tick(this.environment, tick);
+                tickNanos[i] = System.nanoTime() - start;
+            }
+
+            long allocatedAfter = ScenarioRunner.allocatedBytes();
+            return this.report(scenario, tickNanos, allocatedBefore, allocatedAfter);
+        } finally {
+            scenario.teardown(this.environment);
+        }
+    }
+
+    private ScenarioReport report(Scenario scenario, long[] tickNanos, long allocatedBefore, long allocatedAfter) {
+        List<SimulatedPlayer> players = new ArrayList<>(this.environment.getPlayers());
+
+        long totalBytes = 0L;
+        for (SimulatedPlayer player : players) {
+            totalBytes += player.getBytesReceived();
+        }
+
+        long totalNanos = 0L;
+        for (long nanos : tickNanos) {
+            totalNanos += nanos;
+        }
+
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+
+        double seconds = (double) tickNanos.length / ScenarioRunner.TICKS_PER_SECOND;
+        boolean allocations = allocatedBefore >= 0 && allocatedAfter >= 0;
+
+        return ScenarioReport.builder()
+            .name(scenario.getName())
+            .players(players.size())
+            .ticks(tickNanos.length)
+            .meanTickNanos(sorted.length == 0 ? 0L : totalNanos / sorted.length)
+            .p50TickNanos(ScenarioRunner.percentile(sorted, 0.50D))
+            .p99TickNanos(ScenarioRunner.percentile(sorted, 0.99D))
+            .maxTickNanos(sorted.length == 0 ? 0L : sorted[sorted.length - 1])
+            .bytesPerPlayerPerSecond(players.isEmpty() || seconds == 0 ? 0.0D : totalBytes / (double) players.size() / seconds)
+            .allocatedBytesPerTick(allocations && sorted.length > 0 ? (allocatedAfter - allocatedBefore) / sorted.length : -1L)
+            .build();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1L;
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1L;
+        }
+
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.player.AbstractApolloPlayer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.Getter;
+import net.kyori.adventure.audience.Audience;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A simulated Lunar Client player that captures everything Apollo sends it.
+ *
+ * @since 1.1.6
+ */
+@Getter
+public final class SimulatedPlayer extends AbstractApolloPlayer {
+
+    private final UUID uniqueId;
+    private final String name;
+    private final boolean decoding;
+
+    private final List<Any> received = new ArrayList<>();
+
+    private volatile ApolloLocation location;
+
+    private long bytesReceived;
+    private long packetsReceived;
+
+    /**
+     * Constructs a new {@link SimulatedPlayer}.
+     *
+     * @param uniqueId the player unique id
+     * @param name the player name
+     * @param decoding whether received packets are decoded and kept
+     * @since 1.1.6
+     */
+    public SimulatedPlayer(UUID uniqueId, String name, boolean decoding) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.decoding = decoding;
+    }
+
+    /**
+     * Creates the provided amount of players with sequential unique ids.
+     *
+     * @param count the player count
+     * @param decoding whether received packets are decoded and kept
+     * @return the players
+     * @since 1.1.6
+     */
+    public static List<SimulatedPlayer> create(int count, boolean decoding) {
+        List<SimulatedPlayer> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new SimulatedPlayer(new UUID(0L, i), "Player" + i, decoding));
+        }
+
+        return players;
+    }
+
+    /**
+     * Returns every received message of the provided type, in order.
+     *
+     * <p>Only available for decoding players.</p>
+     *
+     * @param type the message type
+     * @param <T> the message type
+     * @return the received messages
+     * @since 1.1.6
+     */
+    public synchronized <T extends Message> List<T> getReceived(Class<T> type) {
+        List<T> messages = new ArrayList<>();
+        for (Any packet : this.received) {
+            if (!packet.is(type)) {
+                continue;
+            }
+
+            try {
+                messages.add(packet.unpack(type));
+            } catch (InvalidProtocolBufferException exception) {
+                throw new IllegalStateException("Apollo sent an undecodable " + type.getSimpleName(), exception);
+            }
+        }
+
+        return messages;
+    }
+
+    /**
+     * Returns every received packet, in order.
+     *
+     * @return the received packets
+     * @since 1.1.6
+     */
+    public synchronized List<Any> getReceived() {
+        return Collections.unmodifiableList(new ArrayList<>(this.received));
+    }
+
+    /**
+     * Sends the provided message from the client to Apollo.
+     *
+     * <p>The message goes through the whole inbound path, including the
+     * flood limits, so the player has to be connected.</p>
+     *
+     * @param message the message
+     * @since 1.1.6
+     */
+    public void send(Message message) {
+        ApolloManager.getNetworkManager().receivePacket(this.uniqueId, Any.pack(message).toByteArray());
+    }
+
+    /**
+     * Moves the player to the provided location.
+     *
+     * @param location the location
+     * @since 1.1.6
+     */
+    public void setLocation(ApolloLocation location) {
+        this.location = location;
+    }
+
+    /**
+     * Clears the received packets and counters.
+     *
+     * @since 1.1.6
+     */
+    public synchronized void reset() {
+        this.received.clear();
+        this.bytesReceived = 0L;
+        this.packetsReceived = 0L;
+    }
+
+    @Override
+    public Optional<ApolloLocation> getLocation() {
+        return Optional.ofNullable(this.location);
+    }
+
+    @Override
+    public boolean hasPermission(String permissionNode) {
+        return true;
+    }
+
+    @Override
+    public synchronized void sendPacket(byte[] messages) {
+        this.bytesReceived += messages.length;
+        this.packetsReceived++;
+
+        if (!this.decoding) {
+            return;
+        }
+
+        try {
+            this.received.add(Any.parseFrom(messages));
+        } catch (InvalidProtocolBufferException exception) {
+            throw new IllegalStateException("Apollo sent an undecodable packet", exception);
+        }
+    }
+
+    @Override
+    public Object getPlayer() {
+        return this;
+    }
+
+    @Override
+    public @NotNull Audience audience() {
+        return Audience.empty();
+    }
+
+}
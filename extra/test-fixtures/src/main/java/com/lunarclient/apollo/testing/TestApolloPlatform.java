@@ -0,0 +1,59 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing;
+
+import com.lunarclient.apollo.ApolloPlatform;
+import com.lunarclient.apollo.option.Options;
+import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.stats.ApolloStats;
+import java.util.logging.Logger;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An in-memory {@link ApolloPlatform} without a Minecraft server.
+ *
+ * @since 1.1.6
+ */
+@Getter
+@RequiredArgsConstructor
+public final class TestApolloPlatform implements ApolloPlatform {
+
+    private final Kind kind;
+    private final Options options = new OptionsImpl(null);
+    private final String apolloVersion = "test";
+    private final Logger platformLogger = Logger.getLogger("Apollo");
+
+    @Override
+    public ApolloStats getStats() {
+        // Stats are never enabled without a server
+        return null;
+    }
+
+    @Override
+    public Object getPlugin() {
+        return this;
+    }
+
+}
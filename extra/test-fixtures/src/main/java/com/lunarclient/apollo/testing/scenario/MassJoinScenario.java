@@ -0,0 +1,68 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing.scenario;
+
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import com.lunarclient.apollo.testing.Scenario;
+import com.lunarclient.apollo.testing.SimulatedPlayer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connects and disconnects a wave of players every tick, measuring the
+ * cost of sending every module's options on join.
+ *
+ * @since 1.1.6
+ */
+public final class MassJoinScenario implements Scenario {
+
+    private static final int WAVES = 20;
+
+    private final List<SimulatedPlayer> wave = new ArrayList<>();
+    private int waveSize;
+
+    @Override
+    public String getName() {
+        return "mass-join";
+    }
+
+    @Override
+    public void setup(ApolloTestEnvironment environment, int playerCount) {
+        this.waveSize = Math.max(1, playerCount / MassJoinScenario.WAVES);
+    }
+
+    @Override
+    public void tick(ApolloTestEnvironment environment, int tick) {
+        this.wave.forEach(environment::disconnect);
+        this.wave.clear();
+        this.wave.addAll(environment.connect(this.waveSize, false));
+    }
+
+    @Override
+    public void teardown(ApolloTestEnvironment environment) {
+        this.wave.clear();
+        environment.disconnectAll();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing.scenario;
+
+import com.lunarclient.apollo.Apollo;
+import com.lunarclient.apollo.ApolloManager;
+import com.lunarclient.apollo.module.ApolloModuleManagerImpl;
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import com.lunarclient.apollo.testing.Scenario;
+
+/**
+ * Reloads the configuration and every module periodically with players
+ * online, measuring the cost of re-sending options.
+ *
+ * @since 1.1.6
+ */
+public final class OptionReloadScenario implements Scenario {
+
+    private static final int RELOAD_INTERVAL = 20;
+
+    @Override
+    public String getName() {
+        return "option-reload";
+    }
+
+    @Override
+    public void setup(ApolloTestEnvironment environment, int playerCount) {
+        environment.connect(playerCount, false);
+    }
+
+    @Override
+    public void tick(ApolloTestEnvironment environment, int tick) {
+        if (tick % OptionReloadScenario.RELOAD_INTERVAL != 0) {
+            return;
+        }
+
+        try {
+            ApolloManager.loadConfiguration();
+            ((ApolloModuleManagerImpl) Apollo.getModuleManager()).reloadModules();
+        } catch (Throwable throwable) {
+            throw new RuntimeException("Unable to reload Apollo!", throwable);
+        }
+    }
+
+}
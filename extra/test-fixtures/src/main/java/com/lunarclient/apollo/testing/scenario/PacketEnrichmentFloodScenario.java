@@ -0,0 +1,91 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing.scenario;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.common.location.ApolloPlayerLocation;
+import com.lunarclient.apollo.module.packetenrichment.PlayerInfo;
+import com.lunarclient.apollo.network.NetworkTypes;
+import com.lunarclient.apollo.packetenrichment.v1.PlayerAttackMessage;
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import com.lunarclient.apollo.testing.Scenario;
+import com.lunarclient.apollo.testing.SimulatedPlayer;
+import java.util.List;
+
+/**
+ * Has every player send an attack packet each tick, as during a large
+ * fight, measuring inbound decoding and event dispatch.
+ *
+ * @since 1.1.6
+ */
+public final class PacketEnrichmentFloodScenario implements Scenario {
+
+    private List<SimulatedPlayer> players;
+
+    @Override
+    public String getName() {
+        return "packet-enrichment-flood";
+    }
+
+    @Override
+    public void setup(ApolloTestEnvironment environment, int playerCount) {
+        this.players = environment.connect(Math.max(2, playerCount), false);
+    }
+
+    @Override
+    public void tick(ApolloTestEnvironment environment, int tick) {
+        int size = this.players.size();
+        for (int i = 0; i < size; i++) {
+            SimulatedPlayer attacker = this.players.get(i);
+            SimulatedPlayer target = this.players.get((i + 1) % size);
+
+            PlayerAttackMessage.Builder message = PlayerAttackMessage.newBuilder()
+                .setAttackerInfo(this.playerInfo(attacker, tick))
+                .setTargetInfo(this.playerInfo(target, tick))
+                .setDistance(2.5D);
+
+            message.getPacketInfoBuilder().setInstantiationTime(NetworkTypes.toProtobuf(System.currentTimeMillis()));
+            attacker.send(message.build());
+        }
+    }
+
+    private com.lunarclient.apollo.packetenrichment.v1.PlayerInfo playerInfo(SimulatedPlayer player, int tick) {
+        return NetworkTypes.toProtobuf(PlayerInfo.builder()
+            .playerUuid(player.getUniqueId())
+            .location(ApolloPlayerLocation.builder()
+                .location(ApolloLocation.builder()
+                    .world("world")
+                    .x(tick * 0.2D)
+                    .y(64.0D)
+                    .z(0.0D)
+                    .build())
+                .yaw(tick % 360)
+                .pitch(0.0F)
+                .build())
+            .sprinting(true)
+            .build()
+        );
+    }
+
+}
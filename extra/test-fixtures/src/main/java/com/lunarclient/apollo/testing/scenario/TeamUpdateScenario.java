@@ -0,0 +1,108 @@
+/*
+ * This file is part of Apollo, licensed under the MIT License.
+ *
+ * Copyright (c) 2023 Moonsworth
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.lunarclient.apollo.testing.scenario;
+
+import com.lunarclient.apollo.common.location.ApolloLocation;
+import com.lunarclient.apollo.module.team.TeamMember;
+import com.lunarclient.apollo.module.team.TeamModule;
+import com.lunarclient.apollo.module.team.TeamModuleImpl;
+import com.lunarclient.apollo.testing.ApolloTestEnvironment;
+import com.lunarclient.apollo.testing.Scenario;
+import com.lunarclient.apollo.testing.SimulatedPlayer;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+
+/**
+ * Splits the players into teams whose members move every tick, and ticks
+ * the managed team updates at 20 Hz.
+ *
+ * @since 1.1.6
+ */
+public final class TeamUpdateScenario implements Scenario {
+
+    private static final int TEAM_SIZE = 4;
+
+    private final List<String> teams = new ArrayList<>();
+    private List<SimulatedPlayer> players;
+
+    @Override
+    public String getName() {
+        return "team-update";
+    }
+
+    @Override
+    public void setup(ApolloTestEnvironment environment, int playerCount) {
+        this.players = environment.connect(playerCount, false);
+
+        TeamModule module = environment.getModule(TeamModule.class);
+        for (int from = 0; from < this.players.size(); from += TeamUpdateScenario.TEAM_SIZE) {
+            List<TeamMember> members = new ArrayList<>(TeamUpdateScenario.TEAM_SIZE);
+            for (SimulatedPlayer player : this.players.subList(from, Math.min(from + TeamUpdateScenario.TEAM_SIZE, this.players.size()))) {
+                this.move(player, 0);
+                members.add(TeamMember.builder()
+                    .playerUuid(player.getUniqueId())
+                    .displayName(Component.text(player.getName()))
+                    .markerColor(Color.WHITE)
+                    .build()
+                );
+            }
+
+            String teamId = "team-" + this.teams.size();
+            module.registerTeam(teamId, members);
+            this.teams.add(teamId);
+        }
+    }
+
+    @Override
+    public void tick(ApolloTestEnvironment environment, int tick) {
+        for (SimulatedPlayer player : this.players) {
+            this.move(player, tick);
+        }
+
+        ((TeamModuleImpl) environment.getModule(TeamModule.class)).tick();
+    }
+
+    @Override
+    public void teardown(ApolloTestEnvironment environment) {
+        TeamModule module = environment.getModule(TeamModule.class);
+        this.teams.forEach(module::unregisterTeam);
+        this.teams.clear();
+        environment.disconnectAll();
+    }
+
+    private void move(SimulatedPlayer player, int tick) {
+        // Walking speed is roughly 0.2 blocks per tick
+        double offset = player.getUniqueId().getLeastSignificantBits();
+        player.setLocation(ApolloLocation.builder()
+            .world("world")
+            .x(offset + tick * 0.2D)
+            .y(64.0D)
+            .z(offset)
+            .build()
+        );
+    }
+
+}
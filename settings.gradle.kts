@@ -33,6 +33,8 @@ val loadAllVersions = mcVersion == null
 listOfNotNull(
     "extra:loader",
     "extra:adventure4",
+    "extra:benchmarks",
+    "extra:test-fixtures",
     "api",
     "common",
     "bukkit",
@@ -67,6 +67,7 @@ import com.lunarclient.apollo.module.waypoint.WaypointModule;
 import com.lunarclient.apollo.module.waypoint.WaypointModuleImpl;
 import com.lunarclient.apollo.option.Options;
 import com.lunarclient.apollo.option.OptionsImpl;
+import com.lunarclient.apollo.startup.StartupProfiler;
 import com.lunarclient.apollo.stats.ApolloStats;
 import com.lunarclient.apollo.wrapper.VelocityApolloStats;
 import com.velocitypowered.api.command.CommandManager;
@@ -80,6 +81,7 @@ import com.velocitypowered.api.plugin.annotation.DataDirectory;
 import com.velocitypowered.api.proxy.ProxyServer;
 import com.velocitypowered.api.proxy.messages.MinecraftChannelIdentifier;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import lombok.Getter;
@@ -160,6 +162,9 @@ public final class ApolloVelocityPlatform implements ApolloPlatform {
         this.stats = new VelocityApolloStats();
         ApolloManager.bootstrap(this);
 
+        StartupProfiler profiler = ApolloManager.getStartupProfiler();
+        profiler.phase("register-modules");
+
         ((ApolloModuleManagerImpl) Apollo.getModuleManager())
             .addModule(BeamModule.class, new BeamModuleImpl())
             .addModule(BorderModule.class, new BorderModuleImpl())
@@ -184,13 +189,17 @@ public final class ApolloVelocityPlatform implements ApolloPlatform {
 
         try {
             ApolloManager.setConfigPath(this.dataDirectory);
+            profiler.phase("load-configuration");
             ApolloManager.loadConfiguration();
+            profiler.phase("enable-modules");
             ((ApolloModuleManagerImpl) Apollo.getModuleManager()).enableModules();
+            profiler.phase("save-configuration");
             ApolloManager.saveConfiguration();
         } catch (Throwable throwable) {
             this.getPlatformLogger().log(Level.SEVERE, "Unable to load Apollo configuration and modules!", throwable);
         }
 
+        profiler.phase("platform-hooks");
         this.server.getEventManager().register(this, new ApolloPlayerListener());
         this.server.getChannelRegistrar().register(ApolloVelocityPlatform.PLUGIN_CHANNEL);
 
@@ -198,8 +207,17 @@ public final class ApolloVelocityPlatform implements ApolloPlatform {
         commandManager.register(ApolloCommand.create());
         commandManager.register(LunarClientCommand.create());
 
+        int deferDelay = this.options.get(ApolloModuleManagerImpl.DEFER_DELAY);
+        this.server.getScheduler()
+            .buildTask(this, ((ApolloModuleManagerImpl) Apollo.getModuleManager())::enableDeferredModules)
+            .delay(deferDelay, TimeUnit.SECONDS)
+            .schedule();
+
+        profiler.phase("stats");
         ApolloManager.getStatsManager().enable();
+        profiler.phase("update-check");
         ApolloManager.getVersionManager().checkForUpdates();
+        profiler.complete(ApolloManager.getConfigPath());
     }
 
     /**
@@ -210,6 +228,8 @@ public final class ApolloVelocityPlatform implements ApolloPlatform {
      */
     @Subscribe
     public void onProxyShutdown(ProxyShutdownEvent event) {
+        ApolloManager.getNetworkManager().getInboundPipeline().shutdown();
+        ApolloManager.getNetworkManager().getOutboundQueue().shutdown();
         ((ApolloModuleManagerImpl) Apollo.getModuleManager()).disableModules();
     }
 
@@ -60,6 +60,10 @@ public final class ApolloCommand extends VelocityApolloCommand<CommandSource> {
                 .executes(command.getUpdateCommand())
                 .build()
             )
+            .then(LiteralArgumentBuilder.<CommandSource>literal("startup")
+                .executes(command.getStartupCommand())
+                .build()
+            )
             .build()
         );
     }
@@ -85,6 +89,11 @@ public final class ApolloCommand extends VelocityApolloCommand<CommandSource> {
         return Command.SINGLE_SUCCESS;
     };
 
+    private final Command<CommandSource> startupCommand = context -> {
+        this.sendStartupReport(context.getSource());
+        return Command.SINGLE_SUCCESS;
+    };
+
     ApolloCommand() {
         super(Audience::sendMessage);
     }
@@ -26,13 +26,18 @@ package com.lunarclient.apollo.listener;
 import com.lunarclient.apollo.Apollo;
 import com.lunarclient.apollo.ApolloManager;
 import com.lunarclient.apollo.ApolloVelocityPlatform;
+import com.lunarclient.apollo.network.ProxyStateLedger;
 import com.lunarclient.apollo.player.ApolloPlayerManagerImpl;
 import com.lunarclient.apollo.wrapper.VelocityApolloPlayer;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.PluginMessageEvent;
 import com.velocitypowered.api.event.player.PlayerChannelRegisterEvent;
+import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ServerConnection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles registration and un-registration of Apollo players.
@@ -54,6 +59,9 @@ public final class ApolloPlayerListener {
         }
 
         Player player = event.getPlayer();
+
+        // A client registering again has no state left, let resends through
+        ApolloManager.getProxyStateLedger().forget(player.getUniqueId());
         ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).addPlayer(new VelocityApolloPlayer(player));
     }
 
@@ -69,6 +77,11 @@ public final class ApolloPlayerListener {
             return;
         }
 
+        if (event.getSource() instanceof ServerConnection) {
+            this.onBackendMessage(event, ((ServerConnection) event.getSource()).getPlayer());
+            return;
+        }
+
         if (!(event.getSource() instanceof Player)) {
             return;
         }
@@ -77,6 +90,30 @@ public final class ApolloPlayerListener {
         ApolloManager.getNetworkManager().receivePacket(player.getUniqueId(), event.getData());
     }
 
+    /**
+     * Handles players switching to another backend server.
+     *
+     * @param event the event
+     * @since 1.1.6
+     */
+    @Subscribe
+    public void onServerConnected(ServerConnectedEvent event) {
+        if (!event.getPreviousServer().isPresent()) {
+            return;
+        }
+
+        UUID playerUuid = event.getPlayer().getUniqueId();
+        ProxyStateLedger ledger = ApolloManager.getProxyStateLedger();
+        long generation = ledger.beginSwitch(playerUuid);
+        int gracePeriod = Apollo.getPlatform().getOptions().get(ProxyStateLedger.SWITCH_GRACE_PERIOD);
+
+        ApolloVelocityPlatform platform = ApolloVelocityPlatform.getInstance();
+        platform.getServer().getScheduler()
+            .buildTask(platform, () -> ledger.sweep(playerUuid, generation))
+            .delay(gracePeriod, TimeUnit.SECONDS)
+            .schedule();
+    }
+
     /**
      * Handles unregistering players from Apollo.
      *
@@ -87,6 +124,20 @@ public final class ApolloPlayerListener {
     public void onDisconnect(DisconnectEvent event) {
         Player player = event.getPlayer();
         ((ApolloPlayerManagerImpl) Apollo.getPlayerManager()).removePlayer(player.getUniqueId());
+        ApolloManager.getProxyStateLedger().forget(player.getUniqueId());
+    }
+
+    private void onBackendMessage(PluginMessageEvent event, Player player) {
+        byte[] data = event.getData();
+        byte[] filtered = ApolloManager.getProxyStateLedger().filter(player.getUniqueId(), data);
+        if (filtered == data) {
+            return;
+        }
+
+        event.setResult(PluginMessageEvent.ForwardResult.handled());
+        if (filtered != null) {
+            player.sendPluginMessage(ApolloVelocityPlatform.PLUGIN_CHANNEL, filtered);
+        }
     }
 
 }